@@ -0,0 +1,45 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic employee datasets shared by the benchmarks, with names drawn from a small vocabulary so
+ * name searches match a realistic share of the dataset.
+ */
+final class BenchmarkEmployees {
+
+    private static final String[] FIRST_NAMES = {
+            "Raj", "Rahul", "Chaitanya", "Priya", "Anita", "John", "Maria", "Chen", "Fatima", "Olga",
+            "Kwame", "Sofia", "Liam", "Aiko", "Mateo", "Nora"
+    };
+    private static final String[] LAST_NAMES = {
+            "Sharma", "Nighot", "Johnson", "Garcia", "Wang", "Kowalski", "Okafor", "Rossi", "Tanaka", "Silva",
+            "Anderson", "Petrov", "Haddad", "Larsen", "Murphy", "Dubois"
+    };
+
+    private BenchmarkEmployees() {
+    }
+
+    static List<Employee> generate(int count) {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(new Employee(id, name, 20_000 + random.nextInt(480_000), 20 + random.nextInt(45), ""));
+        }
+        return employees;
+    }
+
+    static GetAllEmployeeResponseDto response(List<Employee> employees) {
+        GetAllEmployeeResponseDto response = new GetAllEmployeeResponseDto();
+        response.setStatus("success");
+        response.setData(employees);
+        return response;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.example.rqchallenge.integration.stream.EmployeeStreamReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (de)serialization of the upstream list payload and of a single {@link Employee}, plus the
+ * token-streaming read used for the aggregate endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeJsonBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    public int employees;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ObjectReader responseReader;
+    private ObjectReader employeeReader;
+    private ObjectWriter responseWriter;
+    private ObjectWriter employeeWriter;
+    private EmployeeStreamReader streamReader;
+
+    private GetAllEmployeeResponseDto response;
+    private Employee employee;
+    private byte[] responsePayload;
+    private byte[] employeePayload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        responseReader = objectMapper.readerFor(GetAllEmployeeResponseDto.class);
+        employeeReader = objectMapper.readerFor(Employee.class);
+        responseWriter = objectMapper.writerFor(GetAllEmployeeResponseDto.class);
+        employeeWriter = objectMapper.writerFor(Employee.class);
+        streamReader = new EmployeeStreamReader(objectMapper);
+
+        List<Employee> dataset = BenchmarkEmployees.generate(employees);
+        response = BenchmarkEmployees.response(dataset);
+        employee = dataset.get(0);
+        responsePayload = responseWriter.writeValueAsBytes(response);
+        employeePayload = employeeWriter.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public GetAllEmployeeResponseDto deserializeResponse() throws IOException {
+        return responseReader.readValue(responsePayload);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public void streamResponse(Blackhole blackhole) throws IOException {
+        streamReader.read(new ByteArrayInputStream(responsePayload), blackhole::consume);
+    }
+
+    @Benchmark
+    public Employee deserializeEmployee() throws IOException {
+        return employeeReader.readValue(employeePayload);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws IOException {
+        return employeeWriter.writeValueAsBytes(employee);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.rqchallenge;
+
+import com.example.rqchallenge.cache.EmployeeByIdCache;
+import com.example.rqchallenge.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.config.EmployeeCacheConfigs;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.example.rqchallenge.service.impl.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hot paths of {@link EmployeeService} against an in-memory {@link EmployeeIntegration}. With
+ * {@code snapshotCache=true} reads are answered from the cached snapshot and its indexes; with {@code false}
+ * every call reloads the dataset, so search rebuilds the snapshot and the aggregates stream the full list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    public int employees;
+
+    @Param({"true", "false"})
+    public boolean snapshotCache;
+
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Employee> dataset = BenchmarkEmployees.generate(employees);
+        EmployeeIntegration integration = new StubEmployeeIntegration(BenchmarkEmployees.response(dataset));
+        EmployeeCacheConfigs cacheConfigs = new EmployeeCacheConfigs() {
+            @Override
+            public boolean isEnabled() {
+                return snapshotCache;
+            }
+
+            @Override
+            public long getTtlMs() {
+                return TimeUnit.DAYS.toMillis(1);
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        employeeService = new EmployeeService(integration, null,
+                new EmployeeSnapshotCache(integration, null, cacheConfigs, meterRegistry),
+                new EmployeeByIdCache(integration, null, cacheConfigs, meterRegistry), null, null, null, meterRegistry);
+        employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return employeeService.getEmployeesByNameSearch("son");
+    }
+
+    @Benchmark
+    public List<Employee> searchByNameFirstPage() {
+        return employeeService.getEmployeesByNameSearch("an", 0, 20);
+    }
+
+    @Benchmark
+    public List<String> top10HighestEarningEmployeeNames() {
+        return employeeService.getTop10HighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    private static final class StubEmployeeIntegration extends EmployeeIntegration {
+
+        private final GetAllEmployeeResponseDto response;
+
+        private StubEmployeeIntegration(GetAllEmployeeResponseDto response) {
+            super(null, null, null, null);
+            this.response = response;
+        }
+
+        @Override
+        public GetAllEmployeeResponseDto getAllEmployees() {
+            return response;
+        }
+
+        @Override
+        public void streamAllEmployees(Consumer<Employee> consumer) {
+            response.getData().forEach(consumer);
+        }
+    }
+}
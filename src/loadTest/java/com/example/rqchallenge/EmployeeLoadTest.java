@@ -0,0 +1,250 @@
+package com.example.rqchallenge;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * End-to-end load test. Starts {@link StubEmployeeServer} as the upstream API, boots the application against
+ * it on a random port and drives the {@code /employee} endpoints from a pool of closed-loop workers, each
+ * sending its next request as soon as the previous one completes. Prints throughput and p50/p99/p999
+ * latency per endpoint and writes them as JSON to {@code loadTest.resultsFile}.
+ *
+ * <p>Configured through system properties, which {@code ./gradlew loadTest} forwards from
+ * {@code -PloadTest.*}:
+ * <ul>
+ *     <li>{@code loadTest.employees} - upstream dataset size (1000)</li>
+ *     <li>{@code loadTest.latency} - upstream latency: {@code fixed:20}, {@code uniform:5-50} or
+ *     {@code lognormal:20,0.5} for a median of 20 ms with sigma 0.5 (the default)</li>
+ *     <li>{@code loadTest.errorRate} / {@code loadTest.errorStatus} - fraction of upstream requests that
+ *     fail, and with which status (0 / 503)</li>
+ *     <li>{@code loadTest.concurrency} - concurrent clients (32)</li>
+ *     <li>{@code loadTest.warmupSeconds} / {@code loadTest.durationSeconds} - unmeasured warm-up and
+ *     measured run (5 / 30)</li>
+ *     <li>{@code loadTest.mix} - endpoint weights, e.g. {@code byId:10,search:4,list:1}</li>
+ *     <li>{@code loadTest.app.<property>} - overrides an application property, e.g.
+ *     {@code loadTest.app.employee.cache.enabled=false}</li>
+ * </ul>
+ */
+public class EmployeeLoadTest {
+
+    private static final String DEFAULT_MIX = "byId:10,search:4,highestSalary:2,topTen:2,list:1,create:1,delete:1";
+    private static final String APP_PREFIX = "loadTest.app.";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final int employees;
+    private final List<String> endpoints = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+
+    private EmployeeLoadTest(String baseUrl, int employees, String mix) {
+        this.baseUrl = baseUrl;
+        this.employees = employees;
+        int total = 0;
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            total += Integer.parseInt(parts[1]);
+            endpoints.add(parts[0]);
+            cumulativeWeights.add(total);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int employees = Integer.getInteger("loadTest.employees", 1000);
+        int concurrency = Integer.getInteger("loadTest.concurrency", 32);
+        int warmupSeconds = Integer.getInteger("loadTest.warmupSeconds", 5);
+        int durationSeconds = Integer.getInteger("loadTest.durationSeconds", 30);
+        String latency = System.getProperty("loadTest.latency", "lognormal:20,0.5");
+        double errorRate = Double.parseDouble(System.getProperty("loadTest.errorRate", "0"));
+        int errorStatus = Integer.getInteger("loadTest.errorStatus", 503);
+        String mix = System.getProperty("loadTest.mix", DEFAULT_MIX);
+
+        try (StubEmployeeServer upstream = new StubEmployeeServer(employees, 0)) {
+            upstream.setLatencyDistribution(latency(latency));
+            upstream.setErrorRate(errorRate, errorStatus);
+
+            Map<String, String> properties = new LinkedHashMap<>();
+            properties.put("server.port", "0");
+            properties.put("employee.base-url", upstream.baseUrl());
+            properties.put("logging.level.com.example.rqchallenge", "WARN");
+            System.getProperties().stringPropertyNames().stream()
+                    .filter(name -> name.startsWith(APP_PREFIX))
+                    .forEach(name -> properties.put(name.substring(APP_PREFIX.length()), System.getProperty(name)));
+
+            String[] applicationArgs = properties.entrySet().stream()
+                    .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                    .toArray(String[]::new);
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RqChallengeApplication.class)
+                    .run(applicationArgs)) {
+                String port = context.getEnvironment().getProperty("local.server.port");
+                EmployeeLoadTest loadTest = new EmployeeLoadTest("http://localhost:" + port + "/api/v1/employee",
+                        employees, mix);
+
+                System.out.printf("%nLoad test: %d employees, upstream latency %s, upstream error rate %.3f, "
+                        + "%d clients, %ds warm-up, %ds measured, mix %s%n",
+                        employees, latency, errorRate, concurrency, warmupSeconds, durationSeconds, mix);
+                Map<String, LatencyRecorder> results = loadTest.run(concurrency, warmupSeconds, durationSeconds);
+                report(results, durationSeconds, upstream.requestCount());
+                writeResults(results, durationSeconds, System.getProperty("loadTest.resultsFile",
+                        "build/results/loadTest/results.json"));
+            }
+        }
+    }
+
+    private Map<String, LatencyRecorder> run(int concurrency, int warmupSeconds, int durationSeconds) throws Exception {
+        long measureFrom = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long measureUntil = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Map<String, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> work(measureFrom, measureUntil)));
+            }
+            Map<String, LatencyRecorder> merged = new LinkedHashMap<>();
+            endpoints.forEach(endpoint -> merged.put(endpoint, new LatencyRecorder()));
+            for (Future<Map<String, LatencyRecorder>> future : futures) {
+                future.get().forEach((endpoint, recorder) -> merged.get(endpoint).merge(recorder));
+            }
+            return merged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Map<String, LatencyRecorder> work(long measureFrom, long measureUntil) {
+        Map<String, LatencyRecorder> recorders = new HashMap<>();
+        endpoints.forEach(endpoint -> recorders.put(endpoint, new LatencyRecorder()));
+        long now;
+        while ((now = System.nanoTime()) < measureUntil) {
+            String endpoint = nextEndpoint();
+            boolean error;
+            try {
+                error = client.send(request(endpoint), HttpResponse.BodyHandlers.discarding()).statusCode() >= 400;
+            } catch (IOException e) {
+                error = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long end = System.nanoTime();
+            if (now >= measureFrom && end <= measureUntil) {
+                recorders.get(endpoint).record(end - now, error);
+            }
+        }
+        return recorders;
+    }
+
+    private String nextEndpoint() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights.get(cumulativeWeights.size() - 1));
+        for (int i = 0; i < endpoints.size(); i++) {
+            if (pick < cumulativeWeights.get(i)) {
+                return endpoints.get(i);
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private HttpRequest request(String endpoint) {
+        int id = ThreadLocalRandom.current().nextInt(1, employees + 1);
+        switch (endpoint) {
+            case "list":
+                return get("");
+            case "search":
+                return get("/search/" + id);
+            case "byId":
+                return get("/" + id);
+            case "highestSalary":
+                return get("/highestSalary");
+            case "topTen":
+                return get("/topTenHighestEarningEmployeeNames");
+            case "create":
+                return HttpRequest.newBuilder(URI.create(baseUrl))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Load Test\",\"salary\":50000,\"age\":30}"))
+                        .build();
+            case "delete":
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).DELETE().build();
+            default:
+                throw new IllegalArgumentException("Unknown load test endpoint: " + endpoint);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private static LongSupplier latency(String spec) {
+        String[] parts = spec.split(":", 2);
+        String[] values = parts.length > 1 ? parts[1].split("[-,]") : new String[0];
+        switch (parts[0]) {
+            case "fixed":
+                long fixedMs = Long.parseLong(values[0]);
+                return () -> fixedMs;
+            case "uniform":
+                return StubEmployeeServer.uniformLatency(Long.parseLong(values[0]), Long.parseLong(values[1]));
+            case "lognormal":
+                return StubEmployeeServer.logNormalLatency(Long.parseLong(values[0]), Double.parseDouble(values[1]));
+            default:
+                throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        }
+    }
+
+    private static void report(Map<String, LatencyRecorder> results, int durationSeconds, int upstreamRequests) {
+        LatencyRecorder total = new LatencyRecorder();
+        System.out.printf("%n%-14s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms");
+        results.forEach((endpoint, recorder) -> {
+            printRow(endpoint, recorder, durationSeconds);
+            total.merge(recorder);
+        });
+        printRow("total", total, durationSeconds);
+        System.out.printf("%nUpstream requests (including warm-up): %d%n%n", upstreamRequests);
+    }
+
+    private static void printRow(String endpoint, LatencyRecorder recorder, int durationSeconds) {
+        System.out.printf("%-14s %10d %8d %10.1f %10.2f %10.2f %10.2f%n", endpoint, recorder.count(),
+                recorder.errors(), (double) recorder.count() / durationSeconds, recorder.percentileMs(50),
+                recorder.percentileMs(99), recorder.percentileMs(99.9));
+    }
+
+    private static void writeResults(Map<String, LatencyRecorder> results, int durationSeconds, String resultsFile)
+            throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        results.forEach((endpoint, recorder) -> {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", recorder.count());
+            summary.put("errors", recorder.errors());
+            summary.put("throughputPerSecond", (double) recorder.count() / durationSeconds);
+            summary.put("p50Ms", recorder.percentileMs(50));
+            summary.put("p99Ms", recorder.percentileMs(99));
+            summary.put("p999Ms", recorder.percentileMs(99.9));
+            json.put(endpoint, summary);
+        });
+        File file = new File(resultsFile);
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, json);
+        System.out.println("Results written to " + file.getAbsolutePath());
+    }
+}
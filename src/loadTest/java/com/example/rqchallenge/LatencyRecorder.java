@@ -0,0 +1,57 @@
+package com.example.rqchallenge;
+
+import java.util.Arrays;
+
+/**
+ * Collects the latencies of one endpoint on one load-test worker. Recorders are merged after the run, so
+ * recording needs no synchronisation.
+ */
+class LatencyRecorder {
+
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private int errors;
+    private boolean sorted;
+
+    void record(long latencyNanos, boolean error) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        sorted = false;
+        if (error) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count + other.count);
+        }
+        System.arraycopy(other.latenciesNanos, 0, latenciesNanos, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        sorted = false;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    /** Nearest-rank percentile in milliseconds. */
+    double percentileMs(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(latenciesNanos, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return latenciesNanos[Math.max(0, Math.min(count, rank) - 1)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.config.EmployeeCacheConfigs;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.exception.EmployeeIntegrationException;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.integration.AsyncEmployeeReader;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-ID employee cache. Concurrent lookups of the same ID share one upstream call. Results are kept in an
+ * LRU map bounded by {@code by-id-max-size} for {@code by-id-ttl-ms}, and IDs the upstream does not know are
+ * remembered for {@code by-id-negative-ttl-ms}. {@link #invalidate(String)} drops both the cached result and
+ * any in-flight load, so a load that started before the invalidation is never cached.
+ */
+@Component
+public class EmployeeByIdCache {
+
+    private final EmployeeIntegration employeeIntegration;
+    private final AsyncEmployeeReader asyncEmployeeReader;
+    private final EmployeeCacheConfigs cacheConfigs;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Employee>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, EmployeeByIdCache.Entry> eldest) {
+            return size() > cacheConfigs.getByIdMaxSize();
+        }
+    };
+    // a lock rather than synchronized, so virtual threads waiting on it unmount instead of pinning their carrier
+    private final ReentrantLock entriesLock = new ReentrantLock();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeByIdCache.class);
+
+    @Autowired
+    public EmployeeByIdCache(EmployeeIntegration employeeIntegration, AsyncEmployeeReader asyncEmployeeReader,
+                             EmployeeCacheConfigs cacheConfigs, MeterRegistry meterRegistry) {
+        this.employeeIntegration = employeeIntegration;
+        this.asyncEmployeeReader = asyncEmployeeReader;
+        this.cacheConfigs = cacheConfigs;
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.coalesced = requests(meterRegistry, "coalesced");
+    }
+
+    public Employee get(String id) {
+        Entry entry = lookup(id);
+        if (entry != null) {
+            return entry.value(id);
+        }
+        CompletableFuture<Employee> promise = new CompletableFuture<>();
+        CompletableFuture<Employee> existing = inFlight.putIfAbsent(id, promise);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+        misses.increment();
+        try {
+            complete(id, promise, employeeIntegration.getEmployeeById(id), null);
+        } catch (RuntimeException e) {
+            complete(id, promise, null, e);
+        }
+        return join(promise);
+    }
+
+    public CompletableFuture<Employee> getAsync(String id) {
+        Entry entry = lookup(id);
+        if (entry != null) {
+            try {
+                return CompletableFuture.completedFuture(entry.value(id));
+            } catch (EmployeeNotFoundException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        CompletableFuture<Employee> promise = new CompletableFuture<>();
+        CompletableFuture<Employee> existing = inFlight.putIfAbsent(id, promise);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+        misses.increment();
+        try {
+            asyncEmployeeReader.getEmployeeById(id).whenComplete((response, error) -> complete(id, promise,
+                    response, error instanceof CompletionException && error.getCause() != null ? error.getCause() : error));
+        } catch (RuntimeException e) {
+            complete(id, promise, null, e);
+        }
+        return promise;
+    }
+
+    public void invalidate(String id) {
+        inFlight.remove(id);
+        entriesLock.lock();
+        try {
+            entries.remove(id);
+        } finally {
+            entriesLock.unlock();
+        }
+        logger.debug("Invalidated cached employee with id : {}", id);
+    }
+
+    private Entry lookup(String id) {
+        entriesLock.lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtMillis <= System.currentTimeMillis()) {
+                entries.remove(id);
+                return null;
+            }
+            hits.increment();
+            return entry;
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    private void complete(String id, CompletableFuture<Employee> promise, EmployeeResponseDto response, Throwable error) {
+        Employee employee = response == null ? null : response.getData();
+        if (error == null && employee == null) {
+            error = new EmployeeNotFoundException("Employee not found with id: " + id);
+        }
+        if (error == null || error instanceof EmployeeNotFoundException) {
+            long ttl = error == null ? cacheConfigs.getByIdTtlMs() : cacheConfigs.getByIdNegativeTtlMs();
+            entriesLock.lock();
+            try {
+                if (inFlight.remove(id, promise) && ttl > 0 && cacheConfigs.getByIdMaxSize() > 0) {
+                    entries.put(id, new Entry(employee, System.currentTimeMillis() + ttl));
+                }
+            } finally {
+                entriesLock.unlock();
+            }
+        } else {
+            inFlight.remove(id, promise);
+        }
+        if (error == null) {
+            promise.complete(employee);
+        } else {
+            promise.completeExceptionally(error);
+        }
+    }
+
+    private static Employee join(CompletableFuture<Employee> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new EmployeeIntegrationException("Error while loading employee", e.getCause());
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.cache.by_id.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Entry {
+        private final Employee employee;
+        private final long expiresAtMillis;
+
+        private Entry(Employee employee, long expiresAtMillis) {
+            this.employee = employee;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private Employee value(String id) {
+            if (employee == null) {
+                throw new EmployeeNotFoundException("Employee not found with id: " + id);
+            }
+            return employee;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+import com.example.rqchallenge.cache.index.IdIndex;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeChanges;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Numbers every change to the employee data with an increasing version and keeps the latest row changes, so a
+ * client holding a version can fetch only what changed since. Each loaded snapshot is diffed by id against the
+ * previous one. Creates and deletes made through this service are recorded as soon as they succeed, then
+ * reconciled with the first snapshot loaded after them so they are not reported twice. Employees without an id
+ * cannot be tracked and are left out. At most {@code maxEntries} row changes are kept, dropping whole versions
+ * from the oldest, and a client behind the oldest kept version gets a resync.
+ * <p>
+ * Above its low 32 bits, which count the changes, a version carries an epoch drawn at random when the log is
+ * created. A version handed out by an earlier run, or any other process, carries a different epoch and is
+ * answered with a resync rather than a delta against unrelated data. The epoch has 21 bits so versions stay
+ * within the 53 bits a JavaScript client reads exactly.
+ */
+public class EmployeeChangeLog {
+
+    private static final int EPOCH_SHIFT = 32;
+    private static final int EPOCH_LIMIT = 1 << 21;
+
+    private final int maxEntries;
+    private final long epoch;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Change> changes = new ArrayDeque<>();
+    private final Map<Integer, PendingWrite> pendingWrites = new HashMap<>();
+    private EmployeeSnapshot base;
+    private long version;
+    private long oldestVersion;
+
+    EmployeeChangeLog(int maxEntries) {
+        this(maxEntries, ThreadLocalRandom.current().nextInt(1, EPOCH_LIMIT));
+    }
+
+    EmployeeChangeLog(int maxEntries, int epoch) {
+        this.maxEntries = maxEntries;
+        this.epoch = epoch;
+        this.version = (long) epoch << EPOCH_SHIFT;
+        this.oldestVersion = version;
+    }
+
+    public long getVersion() {
+        lock.lock();
+        try {
+            return version;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The changes made after version {@code since}, each employee reported once with its latest state. Answers
+     * with a resync holding every employee when {@code since} is older than the log or is not a version it
+     * issued, such as one from before a restart.
+     */
+    public EmployeeChanges changesSince(long since) {
+        lock.lock();
+        try {
+            if (base == null || since >> EPOCH_SHIFT != epoch || since < oldestVersion || since > version) {
+                return new EmployeeChanges(version, true, currentEmployees(), Collections.emptyList(),
+                        Collections.emptyList());
+            }
+            Map<Integer, NetChange> net = new LinkedHashMap<>();
+            for (Iterator<Change> it = changes.descendingIterator(); it.hasNext(); ) {
+                Change change = it.next();
+                if (change.version <= since) {
+                    break;
+                }
+                net.computeIfAbsent(change.id, id -> new NetChange(change.employee)).existedBefore =
+                        change.kind != Kind.ADDED;
+            }
+            List<Employee> added = new ArrayList<>();
+            List<Employee> updated = new ArrayList<>();
+            List<Integer> removed = new ArrayList<>();
+            net.forEach((id, change) -> {
+                if (change.employee == null) {
+                    if (change.existedBefore) {
+                        removed.add(id);
+                    }
+                } else {
+                    (change.existedBefore ? updated : added).add(change.employee);
+                }
+            });
+            return new EmployeeChanges(version, false, added, updated, removed);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Diffs {@code snapshot}, loaded at cache generation {@code loadGeneration}, against the previous one. Writes
+     * recorded at a later generation may not be in the snapshot yet, so they are left pending.
+     */
+    void snapshotLoaded(EmployeeSnapshot snapshot, long loadGeneration) {
+        lock.lock();
+        try {
+            if (base == null) {
+                base = snapshot;
+                changes.clear();
+                oldestVersion = version;
+                pendingWrites.values().removeIf(write -> write.generation <= loadGeneration);
+                return;
+            }
+            boolean reconcile = pendingWrites.values().stream().anyMatch(write -> write.generation <= loadGeneration);
+            if (!reconcile && base.getVersion().equals(snapshot.getVersion())) {
+                base = snapshot;
+                return;
+            }
+            List<Change> diff = diff(base, snapshot, loadGeneration);
+            base = snapshot;
+            if (!diff.isEmpty()) {
+                version++;
+                diff.forEach(change -> changes.addLast(change.at(version)));
+                trim();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void employeeCreated(Employee employee, long generation) {
+        if (employee == null || employee.getId() == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            int id = employee.getId();
+            Employee previous = stateOf(id);
+            pendingWrites.put(id, new PendingWrite(employee, generation));
+            if (!employee.equals(previous)) {
+                record(new Change(id, previous == null ? Kind.ADDED : Kind.UPDATED, employee));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void employeeDeleted(int id, long generation) {
+        lock.lock();
+        try {
+            Employee previous = stateOf(id);
+            pendingWrites.put(id, new PendingWrite(null, generation));
+            if (previous != null) {
+                record(new Change(id, Kind.REMOVED, null));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Change> diff(EmployeeSnapshot previous, EmployeeSnapshot next, long loadGeneration) {
+        List<Change> diff = new ArrayList<>();
+        IdIndex before = previous.getIdIndex();
+        IdIndex after = next.getIdIndex();
+        EmployeeColumns oldColumns = previous.getColumns();
+        EmployeeColumns newColumns = next.getColumns();
+        int i = 0;
+        int j = 0;
+        while (i < before.size() || j < after.size()) {
+            int id;
+            int oldRow = -1;
+            int newRow = -1;
+            if (j == after.size() || (i < before.size() && before.idAt(i) < after.idAt(j))) {
+                id = before.idAt(i);
+                oldRow = before.rowAt(i++);
+            } else if (i == before.size() || after.idAt(j) < before.idAt(i)) {
+                id = after.idAt(j);
+                newRow = after.rowAt(j++);
+            } else {
+                id = before.idAt(i);
+                oldRow = before.rowAt(i++);
+                newRow = after.rowAt(j++);
+            }
+
+            PendingWrite write = pendingWrites.get(id);
+            if (write != null) {
+                if (write.generation <= loadGeneration) {
+                    reconcile(diff, id, write.employee, newRow < 0 ? null : newColumns.get(newRow));
+                }
+            } else if (oldRow < 0) {
+                diff.add(new Change(id, Kind.ADDED, newColumns.get(newRow)));
+            } else if (newRow < 0) {
+                diff.add(new Change(id, Kind.REMOVED, null));
+            } else if (!oldColumns.rowEquals(oldRow, newColumns, newRow)) {
+                diff.add(new Change(id, Kind.UPDATED, newColumns.get(newRow)));
+            }
+        }
+
+        for (Iterator<Map.Entry<Integer, PendingWrite>> it = pendingWrites.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Integer, PendingWrite> entry = it.next();
+            if (entry.getValue().generation > loadGeneration) {
+                continue;
+            }
+            int id = entry.getKey();
+            if (before.rowOf(id) < 0 && after.rowOf(id) < 0) {
+                reconcile(diff, id, entry.getValue().employee, null);
+            }
+            it.remove();
+        }
+        return diff;
+    }
+
+    private static void reconcile(List<Change> diff, int id, Employee expected, Employee actual) {
+        if (expected == null && actual != null) {
+            diff.add(new Change(id, Kind.ADDED, actual));
+        } else if (expected != null && actual == null) {
+            diff.add(new Change(id, Kind.REMOVED, null));
+        } else if (expected != null && !expected.equals(actual)) {
+            diff.add(new Change(id, Kind.UPDATED, actual));
+        }
+    }
+
+    private Employee stateOf(int id) {
+        PendingWrite write = pendingWrites.get(id);
+        if (write != null) {
+            return write.employee;
+        }
+        int row = base == null ? -1 : base.getIdIndex().rowOf(id);
+        return row < 0 ? null : base.getColumns().get(row);
+    }
+
+    /**
+     * Every employee as the log currently sees them: the last snapshot with the pending writes applied.
+     */
+    private List<Employee> currentEmployees() {
+        if (base == null) {
+            return Collections.emptyList();
+        }
+        if (pendingWrites.isEmpty()) {
+            return base.getEmployees();
+        }
+        EmployeeColumns columns = base.getColumns();
+        List<Employee> employees = new ArrayList<>(columns.size() + pendingWrites.size());
+        for (int row = 0; row < columns.size(); row++) {
+            if (!columns.hasId(row) || !pendingWrites.containsKey(columns.idAt(row))) {
+                employees.add(columns.get(row));
+            }
+        }
+        pendingWrites.values().forEach(write -> {
+            if (write.employee != null) {
+                employees.add(write.employee);
+            }
+        });
+        return employees;
+    }
+
+    private void record(Change change) {
+        version++;
+        changes.addLast(change.at(version));
+        trim();
+    }
+
+    private void trim() {
+        while (changes.size() > maxEntries) {
+            oldestVersion = changes.pollFirst().version;
+            while (!changes.isEmpty() && changes.peekFirst().version == oldestVersion) {
+                changes.pollFirst();
+            }
+        }
+    }
+
+    private enum Kind {
+        ADDED, UPDATED, REMOVED
+    }
+
+    private static final class Change {
+        private final long version;
+        private final int id;
+        private final Kind kind;
+        private final Employee employee;
+
+        private Change(int id, Kind kind, Employee employee) {
+            this(0, id, kind, employee);
+        }
+
+        private Change(long version, int id, Kind kind, Employee employee) {
+            this.version = version;
+            this.id = id;
+            this.kind = kind;
+            this.employee = employee;
+        }
+
+        private Change at(long version) {
+            return new Change(version, id, kind, employee);
+        }
+    }
+
+    private static final class NetChange {
+        private final Employee employee;
+        private boolean existedBefore;
+
+        private NetChange(Employee employee) {
+            this.employee = employee;
+        }
+    }
+
+    private static final class PendingWrite {
+        private final Employee employee;
+        private final long generation;
+
+        private PendingWrite(Employee employee, long generation) {
+            this.employee = employee;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+import com.example.rqchallenge.cache.index.IdIndex;
+import com.example.rqchallenge.cache.index.NameSearchIndex;
+import com.example.rqchallenge.cache.index.SalaryIndex;
+import com.example.rqchallenge.dto.Employee;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class EmployeeSnapshot {
+
+    private final EmployeeColumns columns;
+    private final SalaryIndex salaryIndex;
+    private final NameSearchIndex nameSearchIndex;
+    private final IdIndex idIndex;
+    private final long loadedAtMillis;
+    private final String version;
+
+    public EmployeeSnapshot(EmployeeColumns columns, long loadedAtMillis) {
+        this.columns = columns;
+        this.version = toHex(columns.getContentDigest());
+        this.salaryIndex = SalaryIndex.build(columns);
+        this.nameSearchIndex = NameSearchIndex.build(columns);
+        this.idIndex = IdIndex.build(columns);
+        this.loadedAtMillis = loadedAtMillis;
+    }
+
+    /**
+     * All employees in upstream order, each created from the columns as it is read.
+     */
+    public List<Employee> getEmployees() {
+        return columns.asList();
+    }
+
+    /**
+     * Returns the employee with the given id, or null when the snapshot holds none. Ids that are not numbers
+     * never match, as the upstream only issues numeric ids.
+     */
+    public Employee findById(String id) {
+        int row;
+        try {
+            row = idIndex.rowOf(Integer.parseInt(id.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return row < 0 ? null : columns.get(row);
+    }
+
+    /**
+     * Identifies the employee data of this snapshot: equal data always gives an equal version, whenever it was
+     * loaded, and different data a different one. Cheap to read, as it comes from a SHA-256 digest taken while
+     * the columns were built.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    public long ageMillis(long nowMillis) {
+        return nowMillis - loadedAtMillis;
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+}
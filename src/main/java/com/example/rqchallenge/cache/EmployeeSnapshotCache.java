@@ -0,0 +1,386 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+import com.example.rqchallenge.cache.columnar.EmployeeColumnsFile;
+import com.example.rqchallenge.config.EmployeeCacheConfigs;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.exception.EmployeeCircuitOpenException;
+import com.example.rqchallenge.exception.EmployeeIntegrationException;
+import com.example.rqchallenge.integration.AsyncEmployeeReader;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Holds the last employee list loaded from upstream. Concurrent misses share a single upstream call,
+ * snapshots close to expiry are refreshed in the background, and an expired snapshot keeps being served
+ * for up to {@code max-stale-ms} while its replacement loads. {@link #invalidate()} forces the next read
+ * to wait for a snapshot loaded after the invalidation. Blocking reads load on the calling thread;
+ * background refreshes and {@link #getSnapshotAsync()} load through {@link AsyncEmployeeReader}.
+ * While the upstream circuit breaker is open, reads fall back to the last snapshot loaded, however old.
+ * Reads are counted in {@code employee.cache.snapshot.requests} as a fresh hit, a stale hit or a miss.
+ * When {@code persist-path} is set, every snapshot with new data is saved there in the background, and the
+ * saved one is restored on start as an already expired snapshot: it is served at once and revalidated against
+ * the upstream straight away. Every snapshot loaded, and every create and delete reported through
+ * {@link #employeeCreated} and {@link #employeeDeleted}, is recorded in the {@link EmployeeChangeLog}.
+ */
+@Component
+public class EmployeeSnapshotCache {
+
+    private final EmployeeIntegration employeeIntegration;
+    private final AsyncEmployeeReader asyncEmployeeReader;
+    private final EmployeeCacheConfigs cacheConfigs;
+    private final ScheduledExecutorService refreshScheduler;
+    private final EmployeeChangeLog changeLog;
+
+    private final AtomicReference<Entry> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Entry>> inFlight = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long lastAccessMillis;
+    private volatile String persistedVersion;
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSnapshotCache.class);
+
+    @Autowired
+    public EmployeeSnapshotCache(EmployeeIntegration employeeIntegration,
+                                 AsyncEmployeeReader asyncEmployeeReader, EmployeeCacheConfigs cacheConfigs,
+                                 MeterRegistry meterRegistry) {
+        this.employeeIntegration = employeeIntegration;
+        this.asyncEmployeeReader = asyncEmployeeReader;
+        this.cacheConfigs = cacheConfigs;
+        this.changeLog = new EmployeeChangeLog(cacheConfigs.getChangeLogMaxEntries());
+        this.hits = requests(meterRegistry, "hit");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.misses = requests(meterRegistry, "miss");
+        Gauge.builder("employee.cache.snapshot.age", current, EmployeeSnapshotCache::ageSeconds)
+                .description("Age of the cached employee snapshot")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-snapshot-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (cacheConfigs.isEnabled() && persistPath() != null) {
+            restore(persistPath());
+        }
+        if (cacheConfigs.isEnabled() && cacheConfigs.getRefreshCheckIntervalMs() > 0) {
+            long interval = cacheConfigs.getRefreshCheckIntervalMs();
+            refreshScheduler.scheduleWithFixedDelay(this::refreshIfDue, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        refreshScheduler.shutdownNow();
+    }
+
+    public EmployeeSnapshot getSnapshot() {
+        Entry entry = current.get();
+        if (mustAwaitRefresh(entry)) {
+            return awaitRefresh();
+        }
+        return entry.snapshot;
+    }
+
+    public CompletableFuture<EmployeeSnapshot> getSnapshotAsync() {
+        Entry entry = current.get();
+        if (mustAwaitRefresh(entry)) {
+            return awaitRefreshAsync(generation.get());
+        }
+        return CompletableFuture.completedFuture(entry.snapshot);
+    }
+
+    public Optional<EmployeeSnapshot> getLastSnapshot() {
+        Entry entry = current.get();
+        return entry == null ? Optional.empty() : Optional.of(entry.snapshot);
+    }
+
+    /**
+     * Whether {@link #getSnapshot()} would answer right now without waiting for a load. Counts no cache access.
+     */
+    public boolean hasServableSnapshot() {
+        Entry entry = current.get();
+        return cacheConfigs.isEnabled() && entry != null && entry.generation == generation.get()
+                && entry.snapshot.ageMillis(System.currentTimeMillis()) < cacheConfigs.getTtlMs() + cacheConfigs.getMaxStaleMs();
+    }
+
+    public boolean isEnabled() {
+        return cacheConfigs.isEnabled();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        logger.debug("Employee snapshot invalidated.");
+    }
+
+    /**
+     * Invalidates the snapshot after {@code employee} was created upstream and records it in the change log.
+     */
+    public void employeeCreated(Employee employee) {
+        long writeGeneration = generation.incrementAndGet();
+        changeLog.employeeCreated(employee, writeGeneration);
+        logger.debug("Employee snapshot invalidated after a create.");
+    }
+
+    /**
+     * Invalidates the snapshot after the employee with {@code id} was deleted upstream and records it in the
+     * change log.
+     */
+    public void employeeDeleted(String id) {
+        long writeGeneration = generation.incrementAndGet();
+        try {
+            changeLog.employeeDeleted(Integer.parseInt(id.trim()), writeGeneration);
+        } catch (NumberFormatException e) {
+            logger.debug("Deleted employee id {} is not a number, not recorded as a change.", id);
+        }
+        logger.debug("Employee snapshot invalidated after a delete.");
+    }
+
+    public EmployeeChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    private boolean mustAwaitRefresh(Entry entry) {
+        long now = System.currentTimeMillis();
+        lastAccessMillis = now;
+        if (!cacheConfigs.isEnabled()) {
+            return true;
+        }
+        if (entry == null || entry.generation != generation.get()) {
+            misses.increment();
+            return true;
+        }
+
+        long age = entry.snapshot.ageMillis(now);
+        long ttl = cacheConfigs.getTtlMs();
+        if (age >= ttl + cacheConfigs.getMaxStaleMs()) {
+            misses.increment();
+            return true;
+        }
+        if (age >= ttl - cacheConfigs.getRefreshAheadMs()) {
+            refresh(false);
+        }
+        (age >= ttl ? staleHits : hits).increment();
+        return false;
+    }
+
+    private void refreshIfDue() {
+        Entry entry = current.get();
+        if (entry == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        boolean recentlyRead = now - lastAccessMillis < cacheConfigs.getTtlMs();
+        if (recentlyRead && entry.snapshot.ageMillis(now) >= cacheConfigs.getTtlMs() - cacheConfigs.getRefreshAheadMs()) {
+            refresh(false);
+        }
+    }
+
+    private EmployeeSnapshot awaitRefresh() {
+        long required = generation.get();
+        while (true) {
+            Entry entry;
+            try {
+                entry = refresh(true).join();
+            } catch (CompletionException e) {
+                EmployeeSnapshot fallback = fallback(e.getCause());
+                if (fallback != null) {
+                    return fallback;
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new EmployeeIntegrationException("Error while loading employee snapshot", e.getCause());
+            }
+            if (entry.generation >= required) {
+                return entry.snapshot;
+            }
+        }
+    }
+
+    private CompletableFuture<EmployeeSnapshot> awaitRefreshAsync(long required) {
+        return refresh(false).handle((entry, error) -> {
+            if (error != null) {
+                EmployeeSnapshot fallback = fallback(error instanceof CompletionException ? error.getCause() : error);
+                return fallback != null
+                        ? CompletableFuture.completedFuture(fallback)
+                        : CompletableFuture.<EmployeeSnapshot>failedFuture(error);
+            }
+            return entry.generation >= required
+                    ? CompletableFuture.completedFuture(entry.snapshot)
+                    : awaitRefreshAsync(required);
+        }).thenCompose(Function.identity());
+    }
+
+    private EmployeeSnapshot fallback(Throwable error) {
+        Entry entry = current.get();
+        if (!(error instanceof EmployeeCircuitOpenException) || entry == null) {
+            return null;
+        }
+        logger.warn("Employee circuit is open, serving snapshot loaded {} ms ago.",
+                entry.snapshot.ageMillis(System.currentTimeMillis()));
+        return entry.snapshot;
+    }
+
+    private CompletableFuture<Entry> refresh(boolean blocking) {
+        while (true) {
+            CompletableFuture<Entry> existing = inFlight.get();
+            if (existing != null) {
+                return existing;
+            }
+            CompletableFuture<Entry> promise = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(null, promise)) {
+                continue;
+            }
+            long loadGeneration = generation.get();
+            if (blocking) {
+                try {
+                    install(promise, loadGeneration, employeeIntegration.getAllEmployees());
+                } catch (RuntimeException e) {
+                    fail(promise, e);
+                }
+            } else {
+                try {
+                    asyncEmployeeReader.getAllEmployees().whenComplete((response, error) -> {
+                        if (error != null) {
+                            fail(promise, error instanceof CompletionException ? error.getCause() : error);
+                        } else {
+                            install(promise, loadGeneration, response);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    fail(promise, e);
+                }
+            }
+            return promise;
+        }
+    }
+
+    private void install(CompletableFuture<Entry> promise, long loadGeneration, GetAllEmployeeResponseDto response) {
+        try {
+            EmployeeSnapshot snapshot = new EmployeeSnapshot(EmployeeColumns.from(response),
+                    System.currentTimeMillis());
+            Entry entry = new Entry(snapshot, loadGeneration);
+            changeLog.snapshotLoaded(snapshot, loadGeneration);
+            current.set(entry);
+            inFlight.set(null);
+            logger.info("Loaded employee snapshot with {} employees.", snapshot.getEmployees().size());
+            promise.complete(entry);
+            persistInBackground(snapshot);
+        } catch (RuntimeException e) {
+            fail(promise, e);
+        }
+    }
+
+    private void restore(Path path) {
+        EmployeeColumnsFile file;
+        try {
+            file = EmployeeColumnsFile.read(path);
+        } catch (NoSuchFileException e) {
+            logger.info("No persisted employee snapshot at {}.", path);
+            return;
+        } catch (IOException e) {
+            logger.warn("Ignoring persisted employee snapshot. Error : {}", e.getMessage());
+            return;
+        }
+        long now = System.currentTimeMillis();
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(file.getColumns(), now - cacheConfigs.getTtlMs());
+        persistedVersion = snapshot.getVersion();
+        if (!current.compareAndSet(null, new Entry(snapshot, generation.get()))) {
+            return;
+        }
+        changeLog.snapshotLoaded(snapshot, generation.get());
+        logger.info("Restored employee snapshot with {} employees saved {} ms ago, revalidating.",
+                snapshot.getEmployees().size(), now - file.getSavedAtMillis());
+        refresh(false);
+    }
+
+    private void persistInBackground(EmployeeSnapshot snapshot) {
+        Path path = persistPath();
+        if (path == null || snapshot.getVersion().equals(persistedVersion)) {
+            return;
+        }
+        try {
+            refreshScheduler.execute(() -> persist(path, snapshot));
+        } catch (RejectedExecutionException e) {
+            logger.debug("Employee snapshot not persisted, the cache is stopping.");
+        }
+    }
+
+    private void persist(Path path, EmployeeSnapshot snapshot) {
+        if (snapshot.getVersion().equals(persistedVersion) || current.get().snapshot != snapshot) {
+            return;
+        }
+        try {
+            EmployeeColumnsFile.write(path, snapshot.getColumns(), System.currentTimeMillis());
+            persistedVersion = snapshot.getVersion();
+            logger.debug("Persisted employee snapshot version {} to {}.", persistedVersion, path);
+        } catch (IOException e) {
+            logger.warn("Failed to persist employee snapshot to {}. Error : {}", path, e.getMessage());
+        }
+    }
+
+    private Path persistPath() {
+        String persistPath = cacheConfigs.getPersistPath();
+        return persistPath == null || persistPath.isBlank() ? null : Paths.get(persistPath);
+    }
+
+    private void fail(CompletableFuture<Entry> promise, Throwable error) {
+        inFlight.set(null);
+        logger.error("Failed to load employee snapshot. Error : {}", error.getMessage());
+        promise.completeExceptionally(error);
+    }
+
+    private static double ageSeconds(AtomicReference<Entry> current) {
+        Entry entry = current.get();
+        return entry == null ? Double.NaN : entry.snapshot.ageMillis(System.currentTimeMillis()) / 1000.0;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.cache.snapshot.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Entry {
+        private final EmployeeSnapshot snapshot;
+        private final long generation;
+
+        private Entry(EmployeeSnapshot snapshot, long generation) {
+            this.snapshot = snapshot;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.example.rqchallenge.cache.columnar;
+
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Employees held column by column: ids, salaries and ages in {@code int} arrays, with a bitmap of the rows where
+ * the upstream sent no value, and names and profile images in {@link StringTable}s. A row costs a few ints
+ * instead of an {@link Employee}, three boxes and two strings. {@link Employee} objects are only created for
+ * the rows that are read.
+ */
+public final class EmployeeColumns {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int DIGEST_BYTES = 32;
+
+    private final int size;
+    private final int[] ids;
+    private final int[] salaries;
+    private final int[] ages;
+    private final BitSet missingIds;
+    private final BitSet missingSalaries;
+    private final BitSet missingAges;
+    private final StringTable names;
+    private final StringTable profileImages;
+    private final byte[] contentDigest;
+
+    private EmployeeColumns(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.salaries = Arrays.copyOf(builder.salaries, size);
+        this.ages = Arrays.copyOf(builder.ages, size);
+        this.missingIds = builder.missingIds;
+        this.missingSalaries = builder.missingSalaries;
+        this.missingAges = builder.missingAges;
+        this.names = builder.names.build();
+        this.profileImages = builder.profileImages.build();
+        this.contentDigest = builder.digest.digest();
+    }
+
+    private EmployeeColumns(int[] ids, int[] salaries, int[] ages, BitSet missingIds, BitSet missingSalaries,
+                            BitSet missingAges, StringTable names, StringTable profileImages, byte[] contentDigest) {
+        this.size = ids.length;
+        this.ids = ids;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.missingIds = missingIds;
+        this.missingSalaries = missingSalaries;
+        this.missingAges = missingAges;
+        this.names = names;
+        this.profileImages = profileImages;
+        this.contentDigest = contentDigest;
+    }
+
+    public static EmployeeColumns from(GetAllEmployeeResponseDto response) {
+        return of(response == null ? null : response.getData());
+    }
+
+    public static EmployeeColumns of(List<Employee> employees) {
+        Builder builder = new Builder(employees == null ? 0 : employees.size());
+        if (employees != null) {
+            employees.forEach(builder);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean hasId(int row) {
+        return !missingIds.get(row);
+    }
+
+    public int idAt(int row) {
+        return ids[row];
+    }
+
+    public boolean hasSalary(int row) {
+        return !missingSalaries.get(row);
+    }
+
+    public int salaryAt(int row) {
+        return salaries[row];
+    }
+
+    public boolean hasAge(int row) {
+        return !missingAges.get(row);
+    }
+
+    public int ageAt(int row) {
+        return ages[row];
+    }
+
+    public String nameAt(int row) {
+        return names.get(row);
+    }
+
+    /**
+     * A SHA-256 digest of every value in row order, computed while the columns were built. Equal employee lists
+     * always have equal digests, and different lists in practice never do.
+     */
+    public byte[] getContentDigest() {
+        return contentDigest.clone();
+    }
+
+    public StringTable getNames() {
+        return names;
+    }
+
+    /**
+     * Creates the {@link Employee} of {@code row}. Every call returns a new object.
+     */
+    public Employee get(int row) {
+        return new Employee(
+                missingIds.get(row) ? null : ids[row],
+                names.get(row),
+                missingSalaries.get(row) ? null : salaries[row],
+                missingAges.get(row) ? null : ages[row],
+                profileImages.get(row));
+    }
+
+    /**
+     * Whether {@code row} holds the same employee as {@code otherRow} of {@code other}, without creating either.
+     */
+    public boolean rowEquals(int row, EmployeeColumns other, int otherRow) {
+        return sameValue(ids, missingIds, row, other.ids, other.missingIds, otherRow)
+                && sameValue(salaries, missingSalaries, row, other.salaries, other.missingSalaries, otherRow)
+                && sameValue(ages, missingAges, row, other.ages, other.missingAges, otherRow)
+                && names.valueEquals(row, other.names, otherRow)
+                && profileImages.valueEquals(row, other.profileImages, otherRow);
+    }
+
+    private static boolean sameValue(int[] values, BitSet missing, int row, int[] otherValues, BitSet otherMissing,
+                                     int otherRow) {
+        boolean absent = missing.get(row);
+        return absent == otherMissing.get(otherRow) && (absent || values[row] == otherValues[otherRow]);
+    }
+
+    /**
+     * A read-only list view that creates each {@link Employee} as it is read.
+     */
+    public List<Employee> asList() {
+        return new EmployeeList();
+    }
+
+    int encodedSize() {
+        return DIGEST_BYTES + Integer.BYTES * 3 * (size + 1)
+                + bitsSize(missingIds) + bitsSize(missingSalaries) + bitsSize(missingAges)
+                + names.encodedSize() + profileImages.encodedSize();
+    }
+
+    /**
+     * Writes every column to {@code buffer} as length-prefixed arrays, in the layout {@link #readFrom} expects.
+     */
+    void writeTo(ByteBuffer buffer) {
+        buffer.put(contentDigest);
+        putInts(buffer, ids);
+        putInts(buffer, salaries);
+        putInts(buffer, ages);
+        putBits(buffer, missingIds);
+        putBits(buffer, missingSalaries);
+        putBits(buffer, missingAges);
+        names.writeTo(buffer);
+        profileImages.writeTo(buffer);
+    }
+
+    static EmployeeColumns readFrom(ByteBuffer buffer) {
+        byte[] contentDigest = new byte[DIGEST_BYTES];
+        buffer.get(contentDigest);
+        int[] ids = getInts(buffer);
+        int[] salaries = getInts(buffer);
+        int[] ages = getInts(buffer);
+        BitSet missingIds = getBits(buffer);
+        BitSet missingSalaries = getBits(buffer);
+        BitSet missingAges = getBits(buffer);
+        StringTable names = StringTable.readFrom(buffer);
+        StringTable profileImages = StringTable.readFrom(buffer);
+        int size = ids.length;
+        if (salaries.length != size || ages.length != size || names.size() != size || profileImages.size() != size) {
+            throw new IllegalArgumentException("Employee columns have different lengths");
+        }
+        return new EmployeeColumns(ids, salaries, ages, missingIds, missingSalaries, missingAges, names,
+                profileImages, contentDigest);
+    }
+
+    static void putInts(ByteBuffer buffer, int[] values) {
+        buffer.putInt(values.length);
+        buffer.asIntBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+    }
+
+    static int[] getInts(ByteBuffer buffer) {
+        int[] values = new int[count(buffer, Integer.BYTES)];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+        return values;
+    }
+
+    /**
+     * Reads a length prefix, rejecting one that could not fit in the rest of the buffer before anything is
+     * allocated for it.
+     */
+    static int count(ByteBuffer buffer, int elementBytes) {
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * elementBytes > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid length " + count + " with " + buffer.remaining()
+                    + " bytes left");
+        }
+        return count;
+    }
+
+    private static int bitsSize(BitSet bits) {
+        return Integer.BYTES + Long.BYTES * ((bits.length() + 63) / 64);
+    }
+
+    private static void putBits(ByteBuffer buffer, BitSet bits) {
+        long[] words = bits.toLongArray();
+        buffer.putInt(words.length);
+        buffer.asLongBuffer().put(words);
+        buffer.position(buffer.position() + words.length * Long.BYTES);
+    }
+
+    private static BitSet getBits(ByteBuffer buffer) {
+        long[] words = new long[count(buffer, Long.BYTES)];
+        buffer.asLongBuffer().get(words);
+        buffer.position(buffer.position() + words.length * Long.BYTES);
+        return BitSet.valueOf(words);
+    }
+
+    private final class EmployeeList extends AbstractList<Employee> implements RandomAccess {
+        @Override
+        public Employee get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return EmployeeColumns.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Appends employees one at a time, so a snapshot can also be filled from a streamed payload.
+     */
+    public static final class Builder implements Consumer<Employee> {
+
+        private int size;
+        private int[] ids;
+        private int[] salaries;
+        private int[] ages;
+        private final BitSet missingIds = new BitSet();
+        private final BitSet missingSalaries = new BitSet();
+        private final BitSet missingAges = new BitSet();
+        private final StringTable.Builder names;
+        private final StringTable.Builder profileImages;
+        private final MessageDigest digest = newDigest();
+        private final ByteBuffer scratch = ByteBuffer.allocate(Integer.BYTES + 1);
+
+        public Builder(int expectedRows) {
+            int capacity = Math.max(16, expectedRows);
+            this.ids = new int[capacity];
+            this.salaries = new int[capacity];
+            this.ages = new int[capacity];
+            this.names = new StringTable.Builder(capacity);
+            this.profileImages = new StringTable.Builder(capacity);
+        }
+
+        @Override
+        public void accept(Employee employee) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                salaries = Arrays.copyOf(salaries, size * 2);
+                ages = Arrays.copyOf(ages, size * 2);
+            }
+            ids[size] = value(employee.getId(), missingIds);
+            salaries[size] = value(employee.getEmployeeSalary(), missingSalaries);
+            ages[size] = value(employee.getEmployeeAge(), missingAges);
+            names.add(employee.getEmployeeName());
+            profileImages.add(employee.getProfileImage());
+            digest(employee.getId());
+            digest(employee.getEmployeeName());
+            digest(employee.getEmployeeSalary());
+            digest(employee.getEmployeeAge());
+            digest(employee.getProfileImage());
+            size++;
+        }
+
+        public EmployeeColumns build() {
+            return new EmployeeColumns(this);
+        }
+
+        // every value is tagged as missing or present and strings are length-prefixed, so no two lists feed the
+        // digest the same bytes
+        private void digest(Integer value) {
+            scratch.clear();
+            if (value == null) {
+                scratch.put((byte) 0);
+            } else {
+                scratch.put((byte) 1).putInt(value);
+            }
+            digest.update(scratch.flip());
+        }
+
+        private void digest(String value) {
+            if (value == null) {
+                digest((Integer) null);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            digest(bytes.length);
+            digest.update(bytes);
+        }
+
+        private static MessageDigest newDigest() {
+            try {
+                return MessageDigest.getInstance(DIGEST_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+            }
+        }
+
+        private int value(Integer value, BitSet missing) {
+            if (value == null) {
+                missing.set(size);
+                return 0;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.rqchallenge.cache.columnar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Saves {@link EmployeeColumns} to a binary file and maps it back into memory. The file is a fixed header
+ * (magic, format version, save time, payload length and a CRC32C of the payload) followed by the columns as
+ * length-prefixed arrays, so reading is a checksum pass and a bulk copy of each column, with no parsing.
+ * Files are written to a temporary sibling, forced to disk and then moved over the target, so a crash never
+ * leaves a torn file in its place.
+ */
+public final class EmployeeColumnsFile {
+
+    static final int MAGIC = 0x454d5053;
+    static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = Integer.BYTES * 3 + Long.BYTES * 2;
+
+    private final EmployeeColumns columns;
+    private final long savedAtMillis;
+
+    private EmployeeColumnsFile(EmployeeColumns columns, long savedAtMillis) {
+        this.columns = columns;
+        this.savedAtMillis = savedAtMillis;
+    }
+
+    public EmployeeColumns getColumns() {
+        return columns;
+    }
+
+    public long getSavedAtMillis() {
+        return savedAtMillis;
+    }
+
+    public static void write(Path path, EmployeeColumns columns, long savedAtMillis) throws IOException {
+        ByteBuffer payload = ByteBuffer.allocate(columns.encodedSize());
+        columns.writeTo(payload);
+        payload.flip();
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(savedAtMillis)
+                .putLong(payload.remaining())
+                .putInt((int) crc.getValue());
+        header.flip();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (header.hasRemaining() || payload.hasRemaining()) {
+                    channel.write(new ByteBuffer[]{header, payload});
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Maps {@code path} read-only and copies its columns onto the heap. Throws {@link IOException} when the
+     * file is not a snapshot of the current format or fails its checksum.
+     */
+    public static EmployeeColumnsFile read(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Employee snapshot file " + path + " is truncated");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException(path + " is not an employee snapshot file");
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported employee snapshot format version " + formatVersion);
+        }
+        long savedAtMillis = buffer.getLong();
+        long payloadLength = buffer.getLong();
+        int checksum = buffer.getInt();
+        if (payloadLength != buffer.remaining()) {
+            throw new IOException("Employee snapshot file " + path + " is truncated");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Employee snapshot file " + path + " failed its checksum");
+        }
+        try {
+            EmployeeColumns columns = EmployeeColumns.readFrom(buffer);
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException(buffer.remaining() + " trailing bytes");
+            }
+            return new EmployeeColumnsFile(columns, savedAtMillis);
+        } catch (RuntimeException e) {
+            throw new IOException("Employee snapshot file " + path + " is malformed", e);
+        }
+    }
+}
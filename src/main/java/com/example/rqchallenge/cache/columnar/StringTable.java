@@ -0,0 +1,157 @@
+package com.example.rqchallenge.cache.columnar;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A column of strings kept as UTF-8 in a single byte array, with each distinct value stored once and every row
+ * holding only an int reference to it. A column where most rows share a value, like profile images, costs
+ * little more than one int per row. A {@link String} is only created when a row is read.
+ */
+public final class StringTable {
+
+    private static final int NULL_REF = -1;
+
+    private final byte[] data;
+    private final int[] valueOffsets;
+    private final int[] refs;
+
+    private StringTable(byte[] data, int[] valueOffsets, int[] refs) {
+        this.data = data;
+        this.valueOffsets = valueOffsets;
+        this.refs = refs;
+    }
+
+    public String get(int row) {
+        int ref = refs[row];
+        if (ref == NULL_REF) {
+            return null;
+        }
+        int start = valueOffsets[ref];
+        return new String(data, start, valueOffsets[ref + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Whether the value of {@code row} contains the UTF-8 encoded {@code needle}. A null value is treated as
+     * empty. Comparing encoded bytes is exact because no UTF-8 sequence starts inside another.
+     */
+    public boolean contains(int row, byte[] needle) {
+        int ref = refs[row];
+        if (needle.length == 0) {
+            return true;
+        }
+        if (ref == NULL_REF) {
+            return false;
+        }
+        int last = valueOffsets[ref + 1] - needle.length;
+        for (int i = valueOffsets[ref]; i <= last; i++) {
+            if (matchesAt(i, needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether {@code row} holds the same value as {@code otherRow} of {@code other}, compared as encoded bytes.
+     */
+    public boolean valueEquals(int row, StringTable other, int otherRow) {
+        int ref = refs[row];
+        int otherRef = other.refs[otherRow];
+        if (ref == NULL_REF || otherRef == NULL_REF) {
+            return ref == otherRef;
+        }
+        int start = valueOffsets[ref];
+        int otherStart = other.valueOffsets[otherRef];
+        return Arrays.equals(data, start, valueOffsets[ref + 1], other.data, otherStart, other.valueOffsets[otherRef + 1]);
+    }
+
+    public int size() {
+        return refs.length;
+    }
+
+    public int distinctValues() {
+        return valueOffsets.length - 1;
+    }
+
+    int encodedSize() {
+        return Integer.BYTES * 3 + data.length + Integer.BYTES * (valueOffsets.length + refs.length);
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        buffer.putInt(data.length).put(data);
+        EmployeeColumns.putInts(buffer, valueOffsets);
+        EmployeeColumns.putInts(buffer, refs);
+    }
+
+    static StringTable readFrom(ByteBuffer buffer) {
+        byte[] data = new byte[EmployeeColumns.count(buffer, Byte.BYTES)];
+        buffer.get(data);
+        int[] valueOffsets = EmployeeColumns.getInts(buffer);
+        int[] refs = EmployeeColumns.getInts(buffer);
+        if (valueOffsets.length == 0 || valueOffsets[valueOffsets.length - 1] != data.length) {
+            throw new IllegalArgumentException("String table offsets do not match its data");
+        }
+        for (int ref : refs) {
+            if (ref < NULL_REF || ref >= valueOffsets.length - 1) {
+                throw new IllegalArgumentException("String table reference out of range: " + ref);
+            }
+        }
+        return new StringTable(data, valueOffsets, refs);
+    }
+
+    private boolean matchesAt(int offset, byte[] needle) {
+        for (int j = 0; j < needle.length; j++) {
+            if (data[offset + j] != needle[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Integer> distinct = new HashMap<>();
+        private byte[] data = new byte[1024];
+        private int dataSize;
+        private int[] valueOffsets = new int[64];
+        private int[] refs;
+        private int size;
+
+        public Builder(int expectedRows) {
+            this.refs = new int[Math.max(16, expectedRows)];
+        }
+
+        public void add(String value) {
+            if (size == refs.length) {
+                refs = Arrays.copyOf(refs, size * 2);
+            }
+            refs[size++] = value == null ? NULL_REF : distinct.computeIfAbsent(value, this::append);
+        }
+
+        public StringTable build() {
+            int values = distinct.size();
+            int[] offsets = Arrays.copyOf(valueOffsets, values + 1);
+            offsets[values] = dataSize;
+            return new StringTable(Arrays.copyOf(data, dataSize), offsets, Arrays.copyOf(refs, size));
+        }
+
+        private int append(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            while (dataSize + bytes.length > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            int ref = distinct.size();
+            if (ref + 1 >= valueOffsets.length) {
+                valueOffsets = Arrays.copyOf(valueOffsets, valueOffsets.length * 2);
+            }
+            valueOffsets[ref] = dataSize;
+            System.arraycopy(bytes, 0, data, dataSize, bytes.length);
+            dataSize += bytes.length;
+            return ref;
+        }
+    }
+}
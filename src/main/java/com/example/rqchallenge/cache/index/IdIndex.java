@@ -0,0 +1,69 @@
+package com.example.rqchallenge.cache.index;
+
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot rows ordered by employee id, so an id resolves with a binary search over two primitive arrays
+ * instead of a boxed map. When an id occurs more than once the first row wins. Employees without an id are
+ * not indexed.
+ */
+public final class IdIndex {
+
+    private final int[] ids;
+    private final int[] rows;
+
+    private IdIndex(int[] ids, int[] rows) {
+        this.ids = ids;
+        this.rows = rows;
+    }
+
+    public static IdIndex build(EmployeeColumns columns) {
+        long[] keys = new long[columns.size()];
+        int count = 0;
+        for (int row = 0; row < columns.size(); row++) {
+            if (columns.hasId(row)) {
+                keys[count++] = ((long) columns.idAt(row) << 32) | row;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        int[] ids = new int[count];
+        int[] rows = new int[count];
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            int id = (int) (keys[i] >> 32);
+            if (unique > 0 && ids[unique - 1] == id) {
+                continue;
+            }
+            ids[unique] = id;
+            rows[unique] = (int) keys[i];
+            unique++;
+        }
+        return new IdIndex(Arrays.copyOf(ids, unique), Arrays.copyOf(rows, unique));
+    }
+
+    /**
+     * Returns the snapshot row of the employee with the given id, or -1 when there is none.
+     */
+    public int rowOf(int id) {
+        int position = Arrays.binarySearch(ids, id);
+        return position < 0 ? -1 : rows[position];
+    }
+
+    /**
+     * The id at {@code position} in ascending id order, for merging two indexes position by position.
+     */
+    public int idAt(int position) {
+        return ids[position];
+    }
+
+    public int rowAt(int position) {
+        return rows[position];
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
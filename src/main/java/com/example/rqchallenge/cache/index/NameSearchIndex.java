@@ -0,0 +1,144 @@
+package com.example.rqchallenge.cache.index;
+
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+import com.example.rqchallenge.cache.columnar.StringTable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Case-insensitive substring index over employee names. Every lowercased name is split into trigrams and
+ * each trigram maps to the ascending rows containing it, so a query of three or more characters only
+ * verifies the rows found in every posting list of its trigrams. Shorter queries scan the precomputed
+ * lowercase names, which are kept as a {@link StringTable} and matched on their UTF-8 bytes.
+ */
+public final class NameSearchIndex {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final StringTable lowerNames;
+    private final Map<Long, int[]> postings;
+
+    private NameSearchIndex(StringTable lowerNames, Map<Long, int[]> postings) {
+        this.lowerNames = lowerNames;
+        this.postings = postings;
+    }
+
+    public static NameSearchIndex build(EmployeeColumns columns) {
+        StringTable.Builder lowerNames = new StringTable.Builder(columns.size());
+        Map<Long, PostingsBuilder> builders = new HashMap<>();
+        for (int row = 0; row < columns.size(); row++) {
+            String name = columns.nameAt(row);
+            String lowerName = name == null ? "" : name.toLowerCase(Locale.ROOT);
+            lowerNames.add(lowerName);
+            for (int i = 0; i + 3 <= lowerName.length(); i++) {
+                builders.computeIfAbsent(trigram(lowerName, i), key -> new PostingsBuilder()).add(row);
+            }
+        }
+
+        Map<Long, int[]> postings = new HashMap<>(builders.size() * 4 / 3 + 1);
+        builders.forEach((gram, builder) -> postings.put(gram, builder.toArray()));
+        return new NameSearchIndex(lowerNames.build(), postings);
+    }
+
+    /**
+     * Returns the rows, in snapshot order, whose name contains {@code query}, skipping the first
+     * {@code offset} matches and stopping once {@code limit} rows have been collected.
+     */
+    public int[] search(String query, int offset, int limit) {
+        String lowerQuery = query.toLowerCase(Locale.ROOT);
+        byte[] needle = lowerQuery.getBytes(StandardCharsets.UTF_8);
+        int[] candidates = lowerQuery.length() < 3 ? null : candidates(lowerQuery);
+        if (candidates != null && candidates.length == 0) {
+            return NO_ROWS;
+        }
+
+        int candidateCount = candidates == null ? lowerNames.size() : candidates.length;
+        int[] rows = new int[Math.min(limit, candidateCount)];
+        int found = 0;
+        int skipped = 0;
+        for (int i = 0; i < candidateCount && found < rows.length; i++) {
+            int row = candidates == null ? i : candidates[i];
+            if (lowerNames.contains(row, needle)) {
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    rows[found++] = row;
+                }
+            }
+        }
+        return found == rows.length ? rows : Arrays.copyOf(rows, found);
+    }
+
+    private int[] candidates(String lowerQuery) {
+        int gramCount = lowerQuery.length() - 2;
+        int[][] lists = new int[gramCount][];
+        for (int i = 0; i < gramCount; i++) {
+            int[] list = postings.get(trigram(lowerQuery, i));
+            if (list == null) {
+                return NO_ROWS;
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            if (lists[i] != lists[i - 1]) {
+                result = intersect(result, lists[i]);
+            }
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] shorter, int[] longer) {
+        int[] out = new int[shorter.length];
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < shorter.length && j < longer.length; i++) {
+            int row = shorter[i];
+            j = advance(longer, j, row);
+            if (j < longer.length && longer[j] == row) {
+                out[count++] = row;
+            }
+        }
+        return count == out.length ? out : Arrays.copyOf(out, count);
+    }
+
+    private static int advance(int[] rows, int from, int target) {
+        int step = 1;
+        int low = from;
+        while (low + step < rows.length && rows[low + step] < target) {
+            low += step;
+            step <<= 1;
+        }
+        int index = Arrays.binarySearch(rows, low, Math.min(low + step + 1, rows.length), target);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static long trigram(String value, int start) {
+        return ((long) value.charAt(start) << 32) | ((long) value.charAt(start + 1) << 16) | value.charAt(start + 2);
+    }
+
+    private static final class PostingsBuilder {
+        private int[] rows = new int[4];
+        private int size;
+
+        private void add(int row) {
+            if (size > 0 && rows[size - 1] == row) {
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.rqchallenge.cache.index;
+
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.RandomAccess;
+
+/**
+ * Employees ranked by salary, highest first, with ties kept in snapshot order. Built once per snapshot
+ * so that highest-salary and top-N lookups never sort or box per request; names are read from the
+ * columns only for the ranks returned. Employees without a salary are not ranked.
+ */
+public final class SalaryIndex {
+
+    private final int[] rankedSalaries;
+    private final int[] rankedRows;
+    private final EmployeeColumns columns;
+
+    private SalaryIndex(int[] rankedSalaries, int[] rankedRows, EmployeeColumns columns) {
+        this.rankedSalaries = rankedSalaries;
+        this.rankedRows = rankedRows;
+        this.columns = columns;
+    }
+
+    public static SalaryIndex build(EmployeeColumns columns) {
+        long[] keys = new long[columns.size()];
+        int count = 0;
+        for (int row = 0; row < columns.size(); row++) {
+            if (columns.hasSalary(row)) {
+                keys[count++] = (-(long) columns.salaryAt(row) << 32) | row;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        int[] rankedSalaries = new int[count];
+        int[] rankedRows = new int[count];
+        for (int rank = 0; rank < count; rank++) {
+            rankedRows[rank] = (int) keys[rank];
+            rankedSalaries[rank] = (int) -(keys[rank] >> 32);
+        }
+        return new SalaryIndex(rankedSalaries, rankedRows, columns);
+    }
+
+    public OptionalInt getHighestSalary() {
+        return rankedSalaries.length == 0 ? OptionalInt.empty() : OptionalInt.of(rankedSalaries[0]);
+    }
+
+    /**
+     * Returns a read-only view of the {@code n} highest-ranked names, read from the columns as it is iterated.
+     */
+    public List<String> getTopNames(int n) {
+        return new RankedNames(Math.max(0, Math.min(n, rankedRows.length)));
+    }
+
+    /**
+     * Returns the first rank earning at most {@code salary}, or {@link #size()} when every salary is higher.
+     */
+    public int firstRankAtMost(int salary) {
+        int low = 0;
+        int high = rankedSalaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rankedSalaries[mid] > salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first rank earning less than {@code salary}, so ranks below it are the ones earning at least it.
+     */
+    public int firstRankBelow(int salary) {
+        int low = 0;
+        int high = rankedSalaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rankedSalaries[mid] >= salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int size() {
+        return rankedRows.length;
+    }
+
+    public int salaryAt(int rank) {
+        return rankedSalaries[rank];
+    }
+
+    public int rowAt(int rank) {
+        return rankedRows[rank];
+    }
+
+    private final class RankedNames extends AbstractList<String> implements RandomAccess {
+        private final int size;
+
+        private RankedNames(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return columns.nameAt(rankedRows[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
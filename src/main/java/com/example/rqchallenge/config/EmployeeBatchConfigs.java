@@ -0,0 +1,26 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class EmployeeBatchConfigs {
+
+    @Value("${employee.batch.max-size:1000}")
+    private int maxSize;
+
+    @Value("${employee.batch.concurrency:4}")
+    private int concurrency;
+
+    @Value("${employee.batch.rate-per-second:20}")
+    private double ratePerSecond;
+
+    @Value("${employee.batch.read-concurrency:8}")
+    private int readConcurrency;
+
+    @Value("${employee.batch.snapshot-lookup-threshold:10}")
+    private int snapshotLookupThreshold;
+
+}
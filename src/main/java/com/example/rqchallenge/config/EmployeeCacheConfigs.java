@@ -0,0 +1,41 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class EmployeeCacheConfigs {
+
+    @Value("${employee.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${employee.cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${employee.cache.refresh-ahead-ms:5000}")
+    private long refreshAheadMs;
+
+    @Value("${employee.cache.max-stale-ms:60000}")
+    private long maxStaleMs;
+
+    @Value("${employee.cache.refresh-check-interval-ms:1000}")
+    private long refreshCheckIntervalMs;
+
+    @Value("${employee.cache.persist-path:}")
+    private String persistPath;
+
+    @Value("${employee.cache.change-log-max-entries:10000}")
+    private int changeLogMaxEntries;
+
+    @Value("${employee.cache.by-id-max-size:10000}")
+    private int byIdMaxSize;
+
+    @Value("${employee.cache.by-id-ttl-ms:30000}")
+    private long byIdTtlMs;
+
+    @Value("${employee.cache.by-id-negative-ttl-ms:5000}")
+    private long byIdNegativeTtlMs;
+
+}
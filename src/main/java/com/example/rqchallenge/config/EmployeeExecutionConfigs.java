@@ -0,0 +1,14 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class EmployeeExecutionConfigs {
+
+    @Value("${employee.execution.virtual-threads:false}")
+    private boolean virtualThreads;
+
+}
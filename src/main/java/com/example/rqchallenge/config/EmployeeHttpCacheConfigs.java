@@ -0,0 +1,23 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class EmployeeHttpCacheConfigs {
+
+    @Value("${employee.http-cache.etag-enabled:true}")
+    private boolean etagEnabled;
+
+    @Value("${employee.http-cache.all-employees-max-age-seconds:0}")
+    private long allEmployeesMaxAgeSeconds;
+
+    @Value("${employee.http-cache.highest-salary-max-age-seconds:0}")
+    private long highestSalaryMaxAgeSeconds;
+
+    @Value("${employee.http-cache.top-earners-max-age-seconds:0}")
+    private long topEarnersMaxAgeSeconds;
+
+}
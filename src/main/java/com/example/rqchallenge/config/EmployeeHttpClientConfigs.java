@@ -0,0 +1,32 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class EmployeeHttpClientConfigs {
+
+    @Value("${employee.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${employee.http.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
+    @Value("${employee.http.pool-acquire-timeout-ms:1000}")
+    private long poolAcquireTimeoutMs;
+
+    @Value("${employee.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${employee.http.max-idle-connections:50}")
+    private int maxIdleConnections;
+
+    @Value("${employee.http.keep-alive-timeout-s:60}")
+    private int keepAliveTimeoutSeconds;
+
+    @Value("${employee.http.gzip-enabled:true}")
+    private boolean gzipEnabled;
+
+}
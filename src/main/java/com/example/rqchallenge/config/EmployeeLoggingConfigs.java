@@ -0,0 +1,20 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class EmployeeLoggingConfigs {
+
+    @Value("${employee.logging.access-log-enabled:true}")
+    private boolean accessLogEnabled;
+
+    @Value("${employee.logging.access-log-sample-rate:1.0}")
+    private double accessLogSampleRate;
+
+    @Value("${employee.logging.access-log-slow-request-ms:1000}")
+    private long accessLogSlowRequestMs;
+
+}
@@ -0,0 +1,23 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class EmployeeQueryConfigs {
+
+    @Value("${employee.query.default-limit:100}")
+    private int defaultLimit;
+
+    @Value("${employee.query.max-limit:1000}")
+    private int maxLimit;
+
+    @Value("${employee.query.stats-parallel-threshold:100000}")
+    private int statsParallelThreshold;
+
+    @Value("${employee.query.stats-relative-accuracy:0.01}")
+    private double statsRelativeAccuracy;
+
+}
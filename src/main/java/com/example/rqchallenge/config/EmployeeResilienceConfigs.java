@@ -0,0 +1,38 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class EmployeeResilienceConfigs {
+
+    @Value("${employee.resilience.enabled:true}")
+    private boolean enabled;
+
+    @Value("${employee.resilience.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${employee.resilience.slow-call-threshold-ms:4000}")
+    private long slowCallThresholdMs;
+
+    @Value("${employee.resilience.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${employee.resilience.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${employee.resilience.open-duration-ms:10000}")
+    private long openDurationMs;
+
+    @Value("${employee.resilience.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    @Value("${employee.resilience.max-concurrent-calls:10}")
+    private int maxConcurrentCalls;
+
+    @Value("${employee.resilience.max-wait-ms:50}")
+    private long maxWaitMs;
+
+}
@@ -0,0 +1,32 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class EmployeeRetryConfigs {
+
+    @Value("${employee.retry.enabled:true}")
+    private boolean enabled;
+
+    @Value("${employee.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${employee.retry.base-delay-ms:100}")
+    private long baseDelayMs;
+
+    @Value("${employee.retry.max-delay-ms:2000}")
+    private long maxDelayMs;
+
+    @Value("${employee.retry.max-retry-after-ms:5000}")
+    private long maxRetryAfterMs;
+
+    @Value("${employee.retry.budget-percent:20}")
+    private int budgetPercent;
+
+    @Value("${employee.retry.budget-min-retries-per-second:5}")
+    private int budgetMinRetriesPerSecond;
+
+}
@@ -0,0 +1,41 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class EmployeeWriteQueueConfigs {
+
+    @Value("${employee.write-queue.enabled:false}")
+    private boolean enabled;
+
+    @Value("${employee.write-queue.capacity:10000}")
+    private int capacity;
+
+    @Value("${employee.write-queue.workers:2}")
+    private int workers;
+
+    @Value("${employee.write-queue.rate-per-second:10}")
+    private double ratePerSecond;
+
+    @Value("${employee.write-queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${employee.write-queue.base-delay-ms:500}")
+    private long baseDelayMs;
+
+    @Value("${employee.write-queue.max-delay-ms:30000}")
+    private long maxDelayMs;
+
+    @Value("${employee.write-queue.max-retry-after-ms:60000}")
+    private long maxRetryAfterMs;
+
+    @Value("${employee.write-queue.operation-retention-ms:3600000}")
+    private long operationRetentionMs;
+
+    @Value("${employee.write-queue.journal-path:}")
+    private String journalPath;
+
+}
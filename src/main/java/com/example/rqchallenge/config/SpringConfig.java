@@ -1,15 +1,123 @@
 package com.example.rqchallenge.config;
 
+import com.example.rqchallenge.integration.http.JdkClientHttpRequestFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 @Configuration
 public class SpringConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(SpringConfig.class);
+
+    @Bean
+    public HttpClient employeeHttpClient(EmployeeHttpClientConfigs httpClientConfigs,
+                                         EmployeeExecutionConfigs executionConfigs) {
+        // read once by the JDK when its connection pool is first initialised
+        setIfAbsent("jdk.httpclient.keepalive.timeout", String.valueOf(httpClientConfigs.getKeepAliveTimeoutSeconds()));
+        setIfAbsent("jdk.httpclient.connectionPoolSize", String.valueOf(httpClientConfigs.getMaxIdleConnections()));
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(httpClientConfigs.getConnectTimeoutMs()))
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (useVirtualThreads(executionConfigs, "upstream calls")) {
+            builder.executor(VirtualThreads.newThreadPerTaskExecutor());
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeConnectionProvider(EmployeeHttpClientConfigs httpClientConfigs) {
+        return ConnectionProvider.builder("employee")
+                .maxConnections(httpClientConfigs.getMaxConnectionsPerRoute())
+                .pendingAcquireTimeout(Duration.ofMillis(httpClientConfigs.getPoolAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofSeconds(httpClientConfigs.getKeepAliveTimeoutSeconds()))
+                .build();
+    }
+
+    /**
+     * Client of the reactive integration, on the same timeouts and pool limits as {@link #employeeHttpClient}.
+     */
+    @Bean
+    public WebClient employeeWebClient(WebClient.Builder webClientBuilder, ConnectionProvider employeeConnectionProvider,
+                                       EmployeeHttpClientConfigs httpClientConfigs) {
+        reactor.netty.http.client.HttpClient httpClient = reactor.netty.http.client.HttpClient.create(employeeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) httpClientConfigs.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(httpClientConfigs.getReadTimeoutMs()))
+                .compress(httpClientConfigs.isGzipEnabled());
+        return webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+    }
+
+    /**
+     * Serves the reactive stack from Netty's event loops. Spring Boot would otherwise pick Tomcat, which the
+     * servlet stack keeps on the classpath.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Runs request handling on a virtual thread per request instead of Tomcat's worker pool when
+     * {@code employee.execution.virtual-threads} is set. Concurrency is then bounded by
+     * {@code server.tomcat.max-connections} rather than {@code server.tomcat.threads.max}.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(
+            EmployeeExecutionConfigs executionConfigs) {
+        return protocolHandler -> {
+            if (useVirtualThreads(executionConfigs, "request handling")) {
+                protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor());
+            }
+        };
+    }
+
+    /**
+     * Per-route connection limits shared by the {@link RestTemplate} and the asynchronous integration.
+     */
+    @Bean
+    public JdkClientHttpRequestFactory employeeRequestFactory(HttpClient employeeHttpClient,
+                                                              EmployeeHttpClientConfigs httpClientConfigs,
+                                                              MeterRegistry meterRegistry) {
+        return new JdkClientHttpRequestFactory(employeeHttpClient, httpClientConfigs, meterRegistry);
+    }
+
+    @Bean
+    public RestTemplate restTemplate(JdkClientHttpRequestFactory employeeRequestFactory) {
+        return new RestTemplate(employeeRequestFactory);
+    }
+
+    private static boolean useVirtualThreads(EmployeeExecutionConfigs executionConfigs, String usage) {
+        if (!executionConfigs.isVirtualThreads()) {
+            return false;
+        }
+        if (!VirtualThreads.isSupported()) {
+            logger.warn("Virtual threads requested for {} but Java {} has none, keeping platform threads.",
+                    usage, Runtime.version());
+            return false;
+        }
+        logger.info("Running {} on virtual threads.", usage);
+        return true;
+    }
+
+    private static void setIfAbsent(String property, String value) {
+        if (System.getProperty(property) == null) {
+            System.setProperty(property, value);
+        }
     }
 
 }
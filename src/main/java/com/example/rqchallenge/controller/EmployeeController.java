@@ -1,94 +1,408 @@
 package com.example.rqchallenge.controller;
 
+import com.example.rqchallenge.config.EmployeeHttpCacheConfigs;
+import com.example.rqchallenge.controller.advice.EmployeeControllerAdvice;
+import com.example.rqchallenge.controller.stream.EmployeeStreamWriter;
+import com.example.rqchallenge.dto.BatchItemResult;
 import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeChanges;
+import com.example.rqchallenge.dto.EmployeePage;
+import com.example.rqchallenge.dto.EmployeeQuery;
+import com.example.rqchallenge.dto.EmployeeStats;
+import com.example.rqchallenge.dto.EmployeeWriteOperation;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
 import com.example.rqchallenge.service.IEmployeeService;
 import com.example.rqchallenge.service.impl.EmployeeService;
+import com.example.rqchallenge.service.queue.EmployeeCreateQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/employee")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class EmployeeController implements IEmployeeController {
 
     private final IEmployeeService employeeService;
+    private final EmployeeStreamWriter employeeStreamWriter;
+    private final EmployeeHttpCacheConfigs httpCacheConfigs;
+    private final EmployeeCreateQueue employeeCreateQueue;
+    private final WebRequest webRequest;
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
-    public EmployeeController(EmployeeService employeeService) {
+    /**
+     * {@code webRequest} is the request-scoped proxy Spring injects, so it always refers to the request being
+     * handled.
+     */
+    public EmployeeController(EmployeeService employeeService, EmployeeStreamWriter employeeStreamWriter,
+                              EmployeeHttpCacheConfigs httpCacheConfigs, EmployeeCreateQueue employeeCreateQueue,
+                              WebRequest webRequest) {
         this.employeeService = employeeService;
+        this.employeeStreamWriter = employeeStreamWriter;
+        this.httpCacheConfigs = httpCacheConfigs;
+        this.employeeCreateQueue = employeeCreateQueue;
+        this.webRequest = webRequest;
     }
 
     @Override
     @GetMapping()
     public ResponseEntity<List<Employee>> getAllEmployees() throws IOException {
-        logger.info("Received request to load all the employees.");
-        List<Employee> employeeDtoList = employeeService.getAllEmployees();
-        logger.info("Done loading all the employees.");
-        return new ResponseEntity<>(employeeDtoList, HttpStatus.OK);
+        logger.debug("Received request to load all the employees.");
+        return conditionalGet("employees", httpCacheConfigs.getAllEmployeesMaxAgeSeconds(), () -> {
+            List<Employee> employeeDtoList = employeeService.getAllEmployees();
+            logger.debug("Done loading all the employees.");
+            return employeeDtoList;
+        });
+    }
+
+    @Override
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<BatchItemResult>> getEmployeesByIds(@RequestParam List<String> ids) {
+        logger.debug("Received request to load {} employees by id.", ids.size());
+        return new ResponseEntity<>(toLookupResults(ids, employeeService.getEmployeesByIds(ids)), HttpStatus.OK);
+    }
+
+    @Override
+    @PostMapping("/lookup")
+    public ResponseEntity<List<BatchItemResult>> lookupEmployeesByIds(@RequestBody List<String> ids) {
+        logger.debug("Received request to look up {} employees by id.", ids.size());
+        return new ResponseEntity<>(toLookupResults(ids, employeeService.getEmployeesByIds(ids)), HttpStatus.OK);
     }
 
     @GetMapping("/search/{searchString}")
     @Override
-    public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
-        logger.info("Received request to load all the employees with search string : {}.", searchString);
-        List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString);
-        logger.info("Done loading all the employees with search string : {}.", searchString);
+    public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString,
+                                                                   @RequestParam(defaultValue = "0") int offset,
+                                                                   @RequestParam(defaultValue = "2147483647") int limit) {
+        logger.debug("Received request to load all the employees with search string : {}.", searchString);
+        List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString, offset, limit);
+        logger.debug("Done loading all the employees with search string : {}.", searchString);
         return new ResponseEntity<>(employees, HttpStatus.OK);
     }
 
+    @Override
+    @GetMapping("/query")
+    public ResponseEntity<EmployeePage> queryEmployees(@RequestParam(required = false) Integer minSalary,
+                                                       @RequestParam(required = false) Integer maxSalary,
+                                                       @RequestParam(required = false) Integer minAge,
+                                                       @RequestParam(required = false) Integer maxAge,
+                                                       @RequestParam(required = false) String name,
+                                                       @RequestParam(required = false) String sort,
+                                                       @RequestParam(required = false) Integer limit,
+                                                       @RequestParam(required = false) String cursor) {
+        logger.debug("Received request to query employees.");
+        EmployeePage page = employeeService.queryEmployees(
+                new EmployeeQuery(minSalary, maxSalary, minAge, maxAge, name, sort, limit, cursor));
+        logger.debug("Done querying employees.");
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    @Override
+    @GetMapping(value = "/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        logger.debug("Received request to stream all the employees.");
+        MediaType mediaType = employeeStreamWriter.negotiate(accept);
+        List<Employee> employees = employeeService.getAllEmployees();
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .body(employeeStreamWriter.stream(employees, mediaType));
+    }
+
+    @Override
+    @GetMapping(value = "/search/{searchString}/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamEmployeesByNameSearch(@PathVariable String searchString,
+                                                                             @RequestParam(defaultValue = "0") int offset,
+                                                                             @RequestParam(defaultValue = "2147483647") int limit,
+                                                                             @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        logger.debug("Received request to stream all the employees with search string : {}.", searchString);
+        MediaType mediaType = employeeStreamWriter.negotiate(accept);
+        List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString, offset, limit);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .body(employeeStreamWriter.stream(employees, mediaType));
+    }
+
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<Employee> getEmployeeById(String id) {
-        logger.info("Received request to load employee details with id : {}.", id);
+        logger.debug("Received request to load employee details with id : {}.", id);
         Employee employee = employeeService.getEmployeeById(id);
-        logger.info("Done loading all the employees with id : {}.", id);
+        logger.debug("Done loading all the employees with id : {}.", id);
         return new ResponseEntity<>(employee, HttpStatus.OK);
     }
 
+    @Override
+    @GetMapping("/changes")
+    public ResponseEntity<EmployeeChanges> getEmployeeChanges(@RequestParam long since) {
+        logger.debug("Received request to load employee changes since version {}.", since);
+        EmployeeChanges changes = employeeService.getEmployeeChanges(since);
+        logger.debug("Done loading employee changes.");
+        return new ResponseEntity<>(changes, HttpStatus.OK);
+    }
+
     @Override
     @GetMapping("/highestSalary")
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
-        logger.info("Received request to load highest salary.");
-        Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
-        logger.info("Done loading highest salary.");
-        return new ResponseEntity<>(highestSalary, HttpStatus.OK);
+        logger.debug("Received request to load highest salary.");
+        return conditionalGet("highest-salary", httpCacheConfigs.getHighestSalaryMaxAgeSeconds(), () -> {
+            Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
+            logger.debug("Done loading highest salary.");
+            return highestSalary;
+        });
+    }
+
+    @Override
+    @GetMapping("/stats")
+    public ResponseEntity<EmployeeStats> getEmployeeStats(@RequestParam(defaultValue = "10") int ageBandWidth,
+                                                          @RequestParam(defaultValue = "50,90,95,99") double[] percentiles) {
+        logger.debug("Received request to load employee statistics.");
+        EmployeeStats stats = employeeService.getEmployeeStats(ageBandWidth, percentiles);
+        logger.debug("Done loading employee statistics.");
+        return new ResponseEntity<>(stats, HttpStatus.OK);
     }
 
     @Override
     @GetMapping("/topTenHighestEarningEmployeeNames")
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
-        logger.info("Received request to load top ten highest earning employees.");
-        List<String> top10EmployeeNames = employeeService.getTop10HighestEarningEmployeeNames();
-        logger.info("Done loading top ten highest earning employees.");
-        return new ResponseEntity<>(top10EmployeeNames, HttpStatus.OK);
+        logger.debug("Received request to load top ten highest earning employees.");
+        return conditionalGet("top-ten-earners", httpCacheConfigs.getTopEarnersMaxAgeSeconds(), () -> {
+            List<String> top10EmployeeNames = employeeService.getTop10HighestEarningEmployeeNames();
+            logger.debug("Done loading top ten highest earning employees.");
+            return top10EmployeeNames;
+        });
+    }
+
+    @Override
+    @GetMapping("/topNHighestEarningEmployeeNames")
+    public ResponseEntity<List<String>> getTopNHighestEarningEmployeeNames(@RequestParam(defaultValue = "10") int n) {
+        logger.debug("Received request to load top {} highest earning employees.", n);
+        List<String> topEmployeeNames = employeeService.getTopNHighestEarningEmployeeNames(n);
+        logger.debug("Done loading top {} highest earning employees.", n);
+        return new ResponseEntity<>(topEmployeeNames, HttpStatus.OK);
     }
 
     @PostMapping()
     @Override
     public ResponseEntity<Employee> createEmployee( @RequestBody Map<String, Object> employeeInput) {
-        logger.info("Received request to create employee.");
+        logger.debug("Received request to create employee.");
         String name = (String) employeeInput.get("name");
         Integer salary = Integer.parseInt(String.valueOf(employeeInput.get("salary")));
         Integer age = Integer.parseInt(String.valueOf(employeeInput.get("age")));
         Employee employee =  employeeService.createEmployee(name,salary,age);
-        logger.info("Done creating new employee.");
+        logger.debug("Done creating new employee.");
         return new ResponseEntity<>(employee, HttpStatus.CREATED);
     }
 
+    @Override
+    @GetMapping("/operations/{operationId}")
+    public ResponseEntity<EmployeeWriteOperation> getEmployeeOperation(@PathVariable String operationId) {
+        logger.debug("Received request to load employee operation {}.", operationId);
+        if (!employeeCreateQueue.isEnabled()) {
+            throw new EmployeeNotFoundException("Employee operation not found with id: " + operationId);
+        }
+        return new ResponseEntity<>(employeeCreateQueue.getOperation(operationId), HttpStatus.OK);
+    }
+
+    /**
+     * Where a queued creation can be polled, relative to the {@code /employee} resource it was posted to.
+     */
+    static URI operationLocation(EmployeeWriteOperation operation) {
+        return URI.create("employee/operations/" + operation.getId());
+    }
+
     @DeleteMapping("/{id}")
     @Override
     public ResponseEntity deleteEmployeeById(@PathVariable String id) {
-        logger.info("Received request to delete employee with id : {}.", id);
+        logger.debug("Received request to delete employee with id : {}.", id);
         employeeService.deleteEmployee(id);
-        logger.info("Successfully deleted employee with id : {}.", id);
+        logger.debug("Successfully deleted employee with id : {}.", id);
         return new  ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    @PostMapping("/batch")
+    @Override
+    public ResponseEntity<List<BatchItemResult>> createEmployees(@RequestBody List<Map<String, Object>> employeeInputs) {
+        logger.debug("Received request to create a batch of employees.");
+        List<CompletableFuture<Employee>> results = employeeService.createEmployees(toEmployees(employeeInputs));
+        return new ResponseEntity<>(toCreateResults(results), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/batch")
+    @Override
+    public ResponseEntity<List<BatchItemResult>> deleteEmployees(@RequestBody List<String> ids) {
+        logger.debug("Received request to delete a batch of {} employees.", ids.size());
+        List<CompletableFuture<Void>> results = employeeService.deleteEmployees(ids);
+        return new ResponseEntity<>(toDeleteResults(ids, results), HttpStatus.OK);
+    }
+
+    @Override
+    @GetMapping("/async")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getAllEmployeesAsync() {
+        logger.debug("Received async request to load all the employees.");
+        return employeeService.getAllEmployeesAsync()
+                .thenApply(employees -> new ResponseEntity<>(employees, HttpStatus.OK));
+    }
+
+    @Override
+    @GetMapping("/async/search/{searchString}")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearchAsync(@PathVariable String searchString,
+                                                                                            @RequestParam(defaultValue = "0") int offset,
+                                                                                            @RequestParam(defaultValue = "2147483647") int limit) {
+        logger.debug("Received async request to load all the employees with search string : {}.", searchString);
+        return employeeService.getEmployeesByNameSearchAsync(searchString, offset, limit)
+                .thenApply(employees -> new ResponseEntity<>(employees, HttpStatus.OK));
+    }
+
+    @Override
+    @GetMapping("/async/{id}")
+    public CompletableFuture<ResponseEntity<Employee>> getEmployeeByIdAsync(@PathVariable String id) {
+        logger.debug("Received async request to load employee details with id : {}.", id);
+        return employeeService.getEmployeeByIdAsync(id)
+                .thenApply(employee -> new ResponseEntity<>(employee, HttpStatus.OK));
+    }
+
+    @Override
+    @GetMapping("/async/highestSalary")
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployeesAsync() {
+        logger.debug("Received async request to load highest salary.");
+        return employeeService.getHighestSalaryOfEmployeesAsync()
+                .thenApply(highestSalary -> new ResponseEntity<>(highestSalary, HttpStatus.OK));
+    }
+
+    @Override
+    @GetMapping("/async/topNHighestEarningEmployeeNames")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopNHighestEarningEmployeeNamesAsync(@RequestParam(defaultValue = "10") int n) {
+        logger.debug("Received async request to load top {} highest earning employees.", n);
+        return employeeService.getTopNHighestEarningEmployeeNamesAsync(n)
+                .thenApply(names -> new ResponseEntity<>(names, HttpStatus.OK));
+    }
+
+    @Override
+    @PostMapping("/async")
+    public CompletableFuture<ResponseEntity<Employee>> createEmployeeAsync(@RequestBody Map<String, Object> employeeInput) {
+        logger.debug("Received async request to create employee.");
+        String name = (String) employeeInput.get("name");
+        Integer salary = Integer.parseInt(String.valueOf(employeeInput.get("salary")));
+        Integer age = Integer.parseInt(String.valueOf(employeeInput.get("age")));
+        return employeeService.createEmployeeAsync(name, salary, age)
+                .thenApply(employee -> new ResponseEntity<>(employee, HttpStatus.CREATED));
+    }
+
+    @Override
+    @DeleteMapping("/async/{id}")
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeByIdAsync(@PathVariable String id) {
+        logger.debug("Received async request to delete employee with id : {}.", id);
+        return employeeService.deleteEmployeeAsync(id)
+                .thenApply(ignored -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
+    }
+
+    /**
+     * Tags the response with a strong ETag built from the version of the employee data, and answers a matching
+     * If-None-Match with 304 before the body is loaded or serialized. The version is read before the body, so
+     * a body can only be newer than its ETag, which at worst costs the client one full response later.
+     */
+    private <T> ResponseEntity<T> conditionalGet(String representation, long maxAgeSeconds, Supplier<T> body) {
+        CacheControl cacheControl = maxAgeSeconds > 0
+                ? CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).mustRevalidate()
+                : CacheControl.noCache();
+        String version = httpCacheConfigs.isEtagEnabled() ? employeeService.getEmployeesVersion() : null;
+        if (version == null) {
+            return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+        }
+        String eTag = "\"" + representation + "-" + version + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            // checkNotModified already wrote the 304 status and ETag header to the response
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(body.get());
+    }
+
+    /**
+     * Parses every batch item before any is created, naming the index of the first invalid one.
+     */
+    static List<Employee> toEmployees(List<Map<String, Object>> employeeInputs) {
+        List<Employee> employees = new ArrayList<>(employeeInputs.size());
+        for (int i = 0; i < employeeInputs.size(); i++) {
+            try {
+                employees.add(toEmployee(employeeInputs.get(i)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid batch item at index " + i + ": " + e.getMessage(), e);
+            }
+        }
+        return employees;
+    }
+
+    static List<BatchItemResult> toCreateResults(List<CompletableFuture<Employee>> results) {
+        List<BatchItemResult> response = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                Employee employee = results.get(i).join();
+                String id = employee == null || employee.getId() == null ? null : String.valueOf(employee.getId());
+                response.add(new BatchItemResult(i, id, HttpStatus.CREATED.value(), employee, null));
+            } catch (CompletionException e) {
+                response.add(failedItem(i, null, e));
+            }
+        }
+        return response;
+    }
+
+    static List<BatchItemResult> toDeleteResults(List<String> ids, List<CompletableFuture<Void>> results) {
+        List<BatchItemResult> response = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                results.get(i).join();
+                response.add(new BatchItemResult(i, ids.get(i), HttpStatus.NO_CONTENT.value(), null, null));
+            } catch (CompletionException e) {
+                response.add(failedItem(i, ids.get(i), e));
+            }
+        }
+        return response;
+    }
+
+    private static Employee toEmployee(Map<String, Object> employeeInput) {
+        if (employeeInput == null) {
+            throw new IllegalArgumentException("Employee must not be null");
+        }
+        String name = (String) employeeInput.get("name");
+        Integer salary = Integer.parseInt(String.valueOf(employeeInput.get("salary")));
+        Integer age = Integer.parseInt(String.valueOf(employeeInput.get("age")));
+        return new Employee(name, salary, age);
+    }
+
+    static List<BatchItemResult> toLookupResults(List<String> ids, List<CompletableFuture<Employee>> results) {
+        List<BatchItemResult> response = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                response.add(new BatchItemResult(i, ids.get(i), HttpStatus.OK.value(), results.get(i).join(), null));
+            } catch (CompletionException e) {
+                response.add(failedItem(i, ids.get(i), e));
+            }
+        }
+        return response;
+    }
+
+    private static BatchItemResult failedItem(int index, String id, CompletionException e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        return new BatchItemResult(index, id, EmployeeControllerAdvice.statusFor(cause).value(), null, cause.getMessage());
+    }
 }
@@ -0,0 +1,48 @@
+package com.example.rqchallenge.controller;
+
+import com.example.rqchallenge.dto.EmployeeWriteOperation;
+import com.example.rqchallenge.service.queue.EmployeeCreateQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Takes over {@code POST /employee} from {@link EmployeeController#createEmployee} when
+ * {@code employee.write-queue.enabled} is set: the creation is queued and answered with 202 and the location of
+ * the operation to poll. The JSON {@code consumes} condition makes this mapping the more specific of the two.
+ */
+@RestController
+@RequestMapping("/employee")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "employee.write-queue.enabled", havingValue = "true")
+public class EmployeeWriteQueueController {
+
+    private final EmployeeCreateQueue employeeCreateQueue;
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeWriteQueueController.class);
+
+    public EmployeeWriteQueueController(EmployeeCreateQueue employeeCreateQueue) {
+        this.employeeCreateQueue = employeeCreateQueue;
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeWriteOperation> createEmployee(@RequestBody Map<String, Object> employeeInput) {
+        logger.debug("Received request to queue employee creation.");
+        String name = (String) employeeInput.get("name");
+        Integer salary = Integer.parseInt(String.valueOf(employeeInput.get("salary")));
+        Integer age = Integer.parseInt(String.valueOf(employeeInput.get("age")));
+        EmployeeWriteOperation operation = employeeCreateQueue.submit(name, salary, age);
+        logger.debug("Queued employee creation {}.", operation.getId());
+        return ResponseEntity.accepted().location(EmployeeController.operationLocation(operation)).body(operation);
+    }
+
+}
@@ -1,11 +1,20 @@
 package com.example.rqchallenge.controller;
 
+import com.example.rqchallenge.dto.BatchItemResult;
 import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeChanges;
+import com.example.rqchallenge.dto.EmployeePage;
+import com.example.rqchallenge.dto.EmployeeStats;
+import com.example.rqchallenge.dto.EmployeeWriteOperation;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 public interface IEmployeeController {
@@ -13,8 +22,38 @@ public interface IEmployeeController {
     @GetMapping()
     ResponseEntity<List<Employee>> getAllEmployees() throws IOException;
 
+    @GetMapping(params = "ids")
+    ResponseEntity<List<BatchItemResult>> getEmployeesByIds(@RequestParam List<String> ids);
+
+    @PostMapping("/lookup")
+    ResponseEntity<List<BatchItemResult>> lookupEmployeesByIds(@RequestBody List<String> ids);
+
     @GetMapping("/search/{searchString}")
-    ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString);
+    ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString,
+                                                            @RequestParam(defaultValue = "0") int offset,
+                                                            @RequestParam(defaultValue = "2147483647") int limit);
+
+    @GetMapping("/query")
+    ResponseEntity<EmployeePage> queryEmployees(@RequestParam(required = false) Integer minSalary,
+                                                @RequestParam(required = false) Integer maxSalary,
+                                                @RequestParam(required = false) Integer minAge,
+                                                @RequestParam(required = false) Integer maxAge,
+                                                @RequestParam(required = false) String name,
+                                                @RequestParam(required = false) String sort,
+                                                @RequestParam(required = false) Integer limit,
+                                                @RequestParam(required = false) String cursor);
+
+    @GetMapping(value = "/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    ResponseEntity<StreamingResponseBody> streamAllEmployees(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept);
+
+    @GetMapping(value = "/search/{searchString}/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    ResponseEntity<StreamingResponseBody> streamEmployeesByNameSearch(@PathVariable String searchString,
+                                                                      @RequestParam(defaultValue = "0") int offset,
+                                                                      @RequestParam(defaultValue = "2147483647") int limit,
+                                                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept);
+
+    @GetMapping("/changes")
+    ResponseEntity<EmployeeChanges> getEmployeeChanges(@RequestParam long since);
 
     @GetMapping("/{id}")
     ResponseEntity<Employee> getEmployeeById(@PathVariable String id);
@@ -22,13 +61,52 @@ public interface IEmployeeController {
     @GetMapping("/highestSalary")
     ResponseEntity<Integer> getHighestSalaryOfEmployees();
 
+    @GetMapping("/stats")
+    ResponseEntity<EmployeeStats> getEmployeeStats(@RequestParam(defaultValue = "10") int ageBandWidth,
+                                                   @RequestParam(defaultValue = "50,90,95,99") double[] percentiles);
+
     @GetMapping("/topTenHighestEarningEmployeeNames")
     ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames();
 
+    @GetMapping("/topNHighestEarningEmployeeNames")
+    ResponseEntity<List<String>> getTopNHighestEarningEmployeeNames(@RequestParam(defaultValue = "10") int n);
+
     @PostMapping()
     ResponseEntity<Employee> createEmployee(@RequestBody Map<String, Object> employeeInput);
 
+    @GetMapping("/operations/{operationId}")
+    ResponseEntity<EmployeeWriteOperation> getEmployeeOperation(@PathVariable String operationId);
+
     @DeleteMapping("/{id}")
     ResponseEntity<String> deleteEmployeeById(@PathVariable String id);
 
+    @PostMapping("/batch")
+    ResponseEntity<List<BatchItemResult>> createEmployees(@RequestBody List<Map<String, Object>> employeeInputs);
+
+    @DeleteMapping("/batch")
+    ResponseEntity<List<BatchItemResult>> deleteEmployees(@RequestBody List<String> ids);
+
+    @GetMapping("/async")
+    CompletableFuture<ResponseEntity<List<Employee>>> getAllEmployeesAsync();
+
+    @GetMapping("/async/search/{searchString}")
+    CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearchAsync(@PathVariable String searchString,
+                                                                                     @RequestParam(defaultValue = "0") int offset,
+                                                                                     @RequestParam(defaultValue = "2147483647") int limit);
+
+    @GetMapping("/async/{id}")
+    CompletableFuture<ResponseEntity<Employee>> getEmployeeByIdAsync(@PathVariable String id);
+
+    @GetMapping("/async/highestSalary")
+    CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployeesAsync();
+
+    @GetMapping("/async/topNHighestEarningEmployeeNames")
+    CompletableFuture<ResponseEntity<List<String>>> getTopNHighestEarningEmployeeNamesAsync(@RequestParam(defaultValue = "10") int n);
+
+    @PostMapping("/async")
+    CompletableFuture<ResponseEntity<Employee>> createEmployeeAsync(@RequestBody Map<String, Object> employeeInput);
+
+    @DeleteMapping("/async/{id}")
+    CompletableFuture<ResponseEntity<String>> deleteEmployeeByIdAsync(@PathVariable String id);
+
 }
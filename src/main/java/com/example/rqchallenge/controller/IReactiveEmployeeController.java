@@ -0,0 +1,78 @@
+package com.example.rqchallenge.controller;
+
+import com.example.rqchallenge.dto.BatchItemResult;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeChanges;
+import com.example.rqchallenge.dto.EmployeePage;
+import com.example.rqchallenge.dto.EmployeeStats;
+import com.example.rqchallenge.dto.EmployeeWriteOperation;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+public interface IReactiveEmployeeController {
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    Flux<Employee> getAllEmployees();
+
+    @GetMapping(params = "ids")
+    Mono<List<BatchItemResult>> getEmployeesByIds(@RequestParam List<String> ids);
+
+    @PostMapping("/lookup")
+    Mono<List<BatchItemResult>> lookupEmployeesByIds(@RequestBody List<String> ids);
+
+    @GetMapping(value = "/search/{searchString}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    Flux<Employee> getEmployeesByNameSearch(@PathVariable String searchString,
+                                            @RequestParam(defaultValue = "0") int offset,
+                                            @RequestParam(defaultValue = "2147483647") int limit);
+
+    @GetMapping("/query")
+    Mono<EmployeePage> queryEmployees(@RequestParam(required = false) Integer minSalary,
+                                      @RequestParam(required = false) Integer maxSalary,
+                                      @RequestParam(required = false) Integer minAge,
+                                      @RequestParam(required = false) Integer maxAge,
+                                      @RequestParam(required = false) String name,
+                                      @RequestParam(required = false) String sort,
+                                      @RequestParam(required = false) Integer limit,
+                                      @RequestParam(required = false) String cursor);
+
+    @GetMapping("/changes")
+    Mono<EmployeeChanges> getEmployeeChanges(@RequestParam long since);
+
+    @GetMapping("/{id}")
+    Mono<Employee> getEmployeeById(@PathVariable String id);
+
+    @GetMapping("/highestSalary")
+    Mono<Integer> getHighestSalaryOfEmployees();
+
+    @GetMapping("/stats")
+    Mono<EmployeeStats> getEmployeeStats(@RequestParam(defaultValue = "10") int ageBandWidth,
+                                         @RequestParam(defaultValue = "50,90,95,99") double[] percentiles);
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    Mono<List<String>> getTopTenHighestEarningEmployeeNames();
+
+    @GetMapping("/topNHighestEarningEmployeeNames")
+    Mono<List<String>> getTopNHighestEarningEmployeeNames(@RequestParam(defaultValue = "10") int n);
+
+    @PostMapping()
+    Mono<ResponseEntity<?>> createEmployee(@RequestBody Map<String, Object> employeeInput);
+
+    @GetMapping("/operations/{operationId}")
+    Mono<EmployeeWriteOperation> getEmployeeOperation(@PathVariable String operationId);
+
+    @DeleteMapping("/{id}")
+    Mono<ResponseEntity<Void>> deleteEmployeeById(@PathVariable String id);
+
+    @PostMapping("/batch")
+    Mono<List<BatchItemResult>> createEmployees(@RequestBody List<Map<String, Object>> employeeInputs);
+
+    @DeleteMapping("/batch")
+    Mono<List<BatchItemResult>> deleteEmployees(@RequestBody List<String> ids);
+
+}
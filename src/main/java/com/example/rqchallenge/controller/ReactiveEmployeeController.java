@@ -0,0 +1,210 @@
+package com.example.rqchallenge.controller;
+
+import com.example.rqchallenge.dto.BatchItemResult;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeChanges;
+import com.example.rqchallenge.dto.EmployeePage;
+import com.example.rqchallenge.dto.EmployeeQuery;
+import com.example.rqchallenge.dto.EmployeeStats;
+import com.example.rqchallenge.dto.EmployeeWriteOperation;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.service.IReactiveEmployeeService;
+import com.example.rqchallenge.service.impl.EmployeeService;
+import com.example.rqchallenge.service.impl.ReactiveEmployeeService;
+import com.example.rqchallenge.service.queue.EmployeeCreateQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * WebFlux variant of {@link EmployeeController}, served instead of it when the application is started with
+ * {@code spring.main.web-application-type=reactive}. Employee lists are written as they are emitted, as a JSON
+ * array or, when asked for, as newline-delimited JSON. The lookup, query, stats and batch endpoints have no
+ * reactive service counterpart: they call {@link EmployeeService} on a bounded elastic thread, since it may block
+ * on a snapshot load, and answer once every item has settled.
+ */
+@RestController
+@RequestMapping("/employee")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeController implements IReactiveEmployeeController {
+
+    private final IReactiveEmployeeService employeeService;
+    private final EmployeeService blockingEmployeeService;
+    private final EmployeeCreateQueue employeeCreateQueue;
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeController.class);
+
+    public ReactiveEmployeeController(ReactiveEmployeeService employeeService, EmployeeService blockingEmployeeService,
+                                      EmployeeCreateQueue employeeCreateQueue) {
+        this.employeeService = employeeService;
+        this.blockingEmployeeService = blockingEmployeeService;
+        this.employeeCreateQueue = employeeCreateQueue;
+    }
+
+    @Override
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Employee> getAllEmployees() {
+        logger.debug("Received reactive request to load all the employees.");
+        return employeeService.getAllEmployees();
+    }
+
+    @Override
+    @GetMapping(params = "ids")
+    public Mono<List<BatchItemResult>> getEmployeesByIds(@RequestParam List<String> ids) {
+        logger.debug("Received reactive request to load {} employees by id.", ids.size());
+        return settled(() -> blockingEmployeeService.getEmployeesByIds(ids))
+                .map(results -> EmployeeController.toLookupResults(ids, results));
+    }
+
+    @Override
+    @PostMapping("/lookup")
+    public Mono<List<BatchItemResult>> lookupEmployeesByIds(@RequestBody List<String> ids) {
+        logger.debug("Received reactive request to look up {} employees by id.", ids.size());
+        return settled(() -> blockingEmployeeService.getEmployeesByIds(ids))
+                .map(results -> EmployeeController.toLookupResults(ids, results));
+    }
+
+    @Override
+    @GetMapping(value = "/search/{searchString}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Employee> getEmployeesByNameSearch(@PathVariable String searchString,
+                                                   @RequestParam(defaultValue = "0") int offset,
+                                                   @RequestParam(defaultValue = "2147483647") int limit) {
+        logger.debug("Received reactive request to load all the employees with search string : {}.", searchString);
+        return employeeService.getEmployeesByNameSearch(searchString, offset, limit);
+    }
+
+    @Override
+    @GetMapping("/query")
+    public Mono<EmployeePage> queryEmployees(@RequestParam(required = false) Integer minSalary,
+                                             @RequestParam(required = false) Integer maxSalary,
+                                             @RequestParam(required = false) Integer minAge,
+                                             @RequestParam(required = false) Integer maxAge,
+                                             @RequestParam(required = false) String name,
+                                             @RequestParam(required = false) String sort,
+                                             @RequestParam(required = false) Integer limit,
+                                             @RequestParam(required = false) String cursor) {
+        logger.debug("Received reactive request to query employees.");
+        EmployeeQuery query = new EmployeeQuery(minSalary, maxSalary, minAge, maxAge, name, sort, limit, cursor);
+        return onBoundedElastic(() -> blockingEmployeeService.queryEmployees(query));
+    }
+
+    @Override
+    @GetMapping("/{id}")
+    public Mono<Employee> getEmployeeById(@PathVariable String id) {
+        logger.debug("Received reactive request to load employee details with id : {}.", id);
+        return employeeService.getEmployeeById(id);
+    }
+
+    @Override
+    @GetMapping("/changes")
+    public Mono<EmployeeChanges> getEmployeeChanges(@RequestParam long since) {
+        logger.debug("Received reactive request to load employee changes since version {}.", since);
+        return employeeService.getEmployeeChanges(since);
+    }
+
+    @Override
+    @GetMapping("/highestSalary")
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        logger.debug("Received reactive request to load highest salary.");
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    @Override
+    @GetMapping("/stats")
+    public Mono<EmployeeStats> getEmployeeStats(@RequestParam(defaultValue = "10") int ageBandWidth,
+                                                @RequestParam(defaultValue = "50,90,95,99") double[] percentiles) {
+        logger.debug("Received reactive request to load employee statistics.");
+        return onBoundedElastic(() -> blockingEmployeeService.getEmployeeStats(ageBandWidth, percentiles));
+    }
+
+    @Override
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<List<String>> getTopTenHighestEarningEmployeeNames() {
+        logger.debug("Received reactive request to load top ten highest earning employees.");
+        return employeeService.getTop10HighestEarningEmployeeNames().collectList();
+    }
+
+    @Override
+    @GetMapping("/topNHighestEarningEmployeeNames")
+    public Mono<List<String>> getTopNHighestEarningEmployeeNames(@RequestParam(defaultValue = "10") int n) {
+        logger.debug("Received reactive request to load top {} highest earning employees.", n);
+        return employeeService.getTopNHighestEarningEmployeeNames(n).collectList();
+    }
+
+    @Override
+    @PostMapping()
+    public Mono<ResponseEntity<?>> createEmployee(@RequestBody Map<String, Object> employeeInput) {
+        logger.debug("Received reactive request to create employee.");
+        String name = (String) employeeInput.get("name");
+        Integer salary = Integer.parseInt(String.valueOf(employeeInput.get("salary")));
+        Integer age = Integer.parseInt(String.valueOf(employeeInput.get("age")));
+        if (employeeCreateQueue.isEnabled()) {
+            return Mono.fromCallable(() -> employeeCreateQueue.submit(name, salary, age))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .<ResponseEntity<?>>map(operation -> ResponseEntity.accepted()
+                            .location(EmployeeController.operationLocation(operation))
+                            .body(operation));
+        }
+        return employeeService.createEmployee(name, salary, age)
+                .<ResponseEntity<?>>map(employee -> new ResponseEntity<>(employee, HttpStatus.CREATED))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.CREATED));
+    }
+
+    @Override
+    @GetMapping("/operations/{operationId}")
+    public Mono<EmployeeWriteOperation> getEmployeeOperation(@PathVariable String operationId) {
+        logger.debug("Received reactive request to load employee operation {}.", operationId);
+        if (!employeeCreateQueue.isEnabled()) {
+            return Mono.error(new EmployeeNotFoundException("Employee operation not found with id: " + operationId));
+        }
+        return Mono.fromCallable(() -> employeeCreateQueue.getOperation(operationId));
+    }
+
+    @Override
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteEmployeeById(@PathVariable String id) {
+        logger.debug("Received reactive request to delete employee with id : {}.", id);
+        return employeeService.deleteEmployee(id)
+                .then(Mono.just(new ResponseEntity<>(HttpStatus.NO_CONTENT)));
+    }
+
+    @Override
+    @PostMapping("/batch")
+    public Mono<List<BatchItemResult>> createEmployees(@RequestBody List<Map<String, Object>> employeeInputs) {
+        logger.debug("Received reactive request to create a batch of employees.");
+        return settled(() -> blockingEmployeeService.createEmployees(EmployeeController.toEmployees(employeeInputs)))
+                .map(EmployeeController::toCreateResults);
+    }
+
+    @Override
+    @DeleteMapping("/batch")
+    public Mono<List<BatchItemResult>> deleteEmployees(@RequestBody List<String> ids) {
+        logger.debug("Received reactive request to delete a batch of {} employees.", ids.size());
+        return settled(() -> blockingEmployeeService.deleteEmployees(ids))
+                .map(results -> EmployeeController.toDeleteResults(ids, results));
+    }
+
+    private static <T> Mono<T> onBoundedElastic(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * The futures {@code call} returns, emitted once all of them have completed, successfully or not.
+     */
+    private static <T> Mono<List<CompletableFuture<T>>> settled(Callable<List<CompletableFuture<T>>> call) {
+        return onBoundedElastic(call).flatMap(results -> Mono.fromFuture(
+                CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).handle((ignored, error) -> results)));
+    }
+}
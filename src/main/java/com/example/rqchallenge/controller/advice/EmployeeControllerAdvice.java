@@ -1,7 +1,10 @@
 package com.example.rqchallenge.controller.advice;
 
+import com.example.rqchallenge.exception.EmployeeBulkheadFullException;
+import com.example.rqchallenge.exception.EmployeeCircuitOpenException;
 import com.example.rqchallenge.exception.EmployeeCreationException;
 import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.exception.EmployeeQueueFullException;
 import com.example.rqchallenge.exception.EmployeeServiceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,22 +18,42 @@ public class EmployeeControllerAdvice {
 
     @ExceptionHandler(EmployeeNotFoundException.class)
     public ResponseEntity<Map<String, String>> handleEmployeeNotFoundException(EmployeeNotFoundException ex) {
-        return buildResponseEntity(HttpStatus.NOT_FOUND, ex.getMessage());
+        return buildResponseEntity(statusFor(ex), ex.getMessage());
     }
 
     @ExceptionHandler(EmployeeCreationException.class)
     public ResponseEntity<Map<String, String>> handleEmployeeCreationException(EmployeeCreationException ex) {
-        return buildResponseEntity(HttpStatus.BAD_REQUEST, ex.getMessage());
+        return buildResponseEntity(statusFor(ex), ex.getMessage());
     }
 
     @ExceptionHandler(EmployeeServiceException.class)
     public ResponseEntity<Map<String, String>> handleEmployeeServiceException(EmployeeServiceException ex) {
-        return buildResponseEntity(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
+        return buildResponseEntity(statusFor(ex), ex.getMessage());
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException ex) {
-        return buildResponseEntity(HttpStatus.BAD_REQUEST, ex.getMessage());
+        return buildResponseEntity(statusFor(ex), ex.getMessage());
+    }
+
+    /**
+     * Status a failure maps to; also used for the per-item results of batch requests.
+     */
+    public static HttpStatus statusFor(Throwable ex) {
+        if (ex instanceof EmployeeNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (ex instanceof EmployeeCreationException || ex instanceof IllegalArgumentException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        if (ex instanceof EmployeeQueueFullException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        if (ex instanceof EmployeeServiceException
+                && (ex.getCause() instanceof EmployeeCircuitOpenException || ex.getCause() instanceof EmployeeBulkheadFullException)) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
     }
 
     private ResponseEntity<Map<String, String>> buildResponseEntity(HttpStatus status, String message) {
@@ -0,0 +1,75 @@
+package com.example.rqchallenge.controller.stream;
+
+import com.example.rqchallenge.dto.Employee;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes employees to the response one at a time, either as a JSON array or as newline-delimited JSON,
+ * flushing every {@link #FLUSH_EVERY} employees so the response is never buffered in full.
+ */
+@Component
+public class EmployeeStreamWriter {
+
+    private static final int FLUSH_EVERY = 256;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter employeeWriter;
+
+    @Autowired
+    public EmployeeStreamWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.employeeWriter = objectMapper.writerFor(Employee.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public MediaType negotiate(String accept) {
+        if (accept != null) {
+            for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+                if (MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(mediaType)) {
+                    return MediaType.APPLICATION_NDJSON;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    public StreamingResponseBody stream(List<Employee> employees, MediaType mediaType) {
+        boolean ndjson = MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(mediaType);
+        return outputStream -> write(employees, ndjson, outputStream);
+    }
+
+    public void write(List<Employee> employees, boolean ndjson, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            if (ndjson) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+            int written = 0;
+            for (Employee employee : employees) {
+                employeeWriter.writeValue(generator, employee);
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+    }
+}
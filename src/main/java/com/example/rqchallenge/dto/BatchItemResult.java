@@ -0,0 +1,26 @@
+package com.example.rqchallenge.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of one item of a batch request. {@code status} is the HTTP status the item would have had as a
+ * single request; {@code error} is set only when it failed.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+
+    private int index;
+
+    private String id;
+
+    private int status;
+
+    private Employee employee;
+
+    private String error;
+
+}
@@ -0,0 +1,27 @@
+package com.example.rqchallenge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Employee changes between a client's version and {@code version}. When {@code resync} is set the changes
+ * could not be computed, and {@code added} holds every employee for the client to replace its copy with.
+ * Removed employees are given by id.
+ */
+@Getter
+@AllArgsConstructor
+public class EmployeeChanges {
+
+    private long version;
+
+    private boolean resync;
+
+    private List<Employee> added;
+
+    private List<Employee> updated;
+
+    private List<Integer> removed;
+
+}
@@ -0,0 +1,21 @@
+package com.example.rqchallenge.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of query results. {@code nextCursor} is set only when more results follow.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeePage {
+
+    private List<Employee> employees;
+
+    private String nextCursor;
+
+}
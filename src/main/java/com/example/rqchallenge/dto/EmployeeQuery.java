@@ -0,0 +1,31 @@
+package com.example.rqchallenge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Filters, sort and page of an employee query. Every filter is optional and bounds are inclusive; {@code name}
+ * matches case-insensitively anywhere in the employee name. {@code cursor} is the {@code nextCursor} of the
+ * previous page.
+ */
+@Getter
+@AllArgsConstructor
+public class EmployeeQuery {
+
+    private Integer minSalary;
+
+    private Integer maxSalary;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    private String name;
+
+    private String sort;
+
+    private Integer limit;
+
+    private String cursor;
+
+}
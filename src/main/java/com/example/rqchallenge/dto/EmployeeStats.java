@@ -0,0 +1,62 @@
+package com.example.rqchallenge.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Salary and age statistics over all employees. Salary percentiles are approximate, keyed like {@code p99.9}.
+ * Employees without a salary or age are counted in {@code count} but left out of the matching statistics.
+ */
+@Getter
+@AllArgsConstructor
+public class EmployeeStats {
+
+    private long count;
+
+    private ValueStats salary;
+
+    private ValueStats age;
+
+    private List<AgeBand> ageBands;
+
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ValueStats {
+
+        private long count;
+
+        private Integer min;
+
+        private Integer max;
+
+        private long sum;
+
+        private Double average;
+
+        private Map<String, Integer> percentiles;
+
+    }
+
+    /**
+     * Employees aged {@code from} to {@code to}, both inclusive.
+     */
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class AgeBand {
+
+        private int from;
+
+        private int to;
+
+        private long count;
+
+        private Double averageSalary;
+
+    }
+}
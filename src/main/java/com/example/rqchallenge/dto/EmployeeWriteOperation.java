@@ -0,0 +1,34 @@
+package com.example.rqchallenge.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * State of a queued employee creation. {@code employee} is set once it succeeded and {@code error} once it
+ * failed for good or its outcome became unknown; times are epoch milliseconds.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeWriteOperation {
+
+    public enum Status {
+        PENDING, SUCCEEDED, FAILED, UNKNOWN
+    }
+
+    private String id;
+
+    private Status status;
+
+    private int attempts;
+
+    private long submittedAt;
+
+    private Long completedAt;
+
+    private Employee employee;
+
+    private String error;
+
+}
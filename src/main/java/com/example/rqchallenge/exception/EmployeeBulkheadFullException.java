@@ -0,0 +1,7 @@
+package com.example.rqchallenge.exception;
+
+public class EmployeeBulkheadFullException extends EmployeeIntegrationException {
+    public EmployeeBulkheadFullException(String message) {
+        super(message, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.rqchallenge.exception;
+
+public class EmployeeCircuitOpenException extends EmployeeIntegrationException {
+    public EmployeeCircuitOpenException(String message) {
+        super(message, null);
+    }
+}
@@ -4,4 +4,8 @@ public class EmployeeDeletionException extends RuntimeException {
     public EmployeeDeletionException(String message) {
         super(message);
     }
+
+    public EmployeeDeletionException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
\ No newline at end of file
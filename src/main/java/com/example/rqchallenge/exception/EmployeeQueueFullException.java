@@ -0,0 +1,7 @@
+package com.example.rqchallenge.exception;
+
+public class EmployeeQueueFullException extends EmployeeServiceException {
+    public EmployeeQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.rqchallenge.integration;
+
+import com.example.rqchallenge.config.EmployeeHttpClientConfigs;
+import com.example.rqchallenge.config.EmployeeUrlConfigs;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.exception.EmployeeCreationException;
+import com.example.rqchallenge.exception.EmployeeDeletionException;
+import com.example.rqchallenge.exception.EmployeeIntegrationException;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.example.rqchallenge.integration.http.JdkClientHttpRequestFactory;
+import com.example.rqchallenge.integration.resilience.EmployeeOperation;
+import com.example.rqchallenge.integration.resilience.EmployeeResilience;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeIntegration}. Calls are sent with
+ * {@link JdkClientHttpRequestFactory#sendAsync} so no caller thread waits on the upstream round trip, within
+ * the same per-route connection limits as the blocking calls; failures complete the returned future with the
+ * same exception types the blocking integration throws.
+ */
+@Component
+public class AsyncEmployeeIntegration implements AsyncEmployeeReader {
+
+    private final JdkClientHttpRequestFactory requestFactory;
+    private final ObjectMapper objectMapper;
+    private final EmployeeUrlConfigs employeeUrlConfigs;
+    private final EmployeeHttpClientConfigs httpClientConfigs;
+    private final EmployeeResilience employeeResilience;
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEmployeeIntegration.class);
+
+    @Autowired
+    public AsyncEmployeeIntegration(JdkClientHttpRequestFactory requestFactory, ObjectMapper objectMapper,
+                                    EmployeeUrlConfigs employeeUrlConfigs, EmployeeHttpClientConfigs httpClientConfigs,
+                                    EmployeeResilience employeeResilience) {
+        this.requestFactory = requestFactory;
+        this.objectMapper = objectMapper;
+        this.employeeUrlConfigs = employeeUrlConfigs;
+        this.httpClientConfigs = httpClientConfigs;
+        this.employeeResilience = employeeResilience;
+    }
+
+    @Override
+    public CompletableFuture<GetAllEmployeeResponseDto> getAllEmployees() {
+        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeesResource();
+        logger.debug("Fetching all employees asynchronously from URL: {}", url);
+        return employeeResilience.executeAsync(EmployeeOperation.LIST, () -> send(request(url).GET())
+                .thenApply(response -> {
+                    if (response.statusCode() != HttpStatus.OK.value()) {
+                        throw new EmployeeIntegrationException("Failed to fetch employees: " + response.statusCode(), statusError(response));
+                    }
+                    return read(response.body(), GetAllEmployeeResponseDto.class);
+                }))
+                .exceptionally(e -> {
+                    throw integrationFailure("Error while fetching all employees", e);
+                });
+    }
+
+    @Override
+    public CompletableFuture<EmployeeResponseDto> getEmployeeById(String id) {
+        EmployeeIntegration.validateId(id);
+        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeResource() + id;
+        logger.debug("Fetching employee with ID: {} asynchronously from URL: {}", id, url);
+        return employeeResilience.executeAsync(EmployeeOperation.GET_BY_ID, () -> send(request(url).GET())
+                .thenApply(response -> {
+                    if (response.statusCode() == HttpStatus.NOT_FOUND.value()) {
+                        throw new EmployeeNotFoundException("Employee not found with id: " + id);
+                    }
+                    if (response.statusCode() != HttpStatus.OK.value()) {
+                        throw new EmployeeIntegrationException("Failed to fetch employee: " + response.statusCode(), statusError(response));
+                    }
+                    EmployeeResponseDto responseBody = read(response.body(), EmployeeResponseDto.class);
+                    if (responseBody == null || responseBody.getData() == null) {
+                        throw new EmployeeNotFoundException("Employee not found with id: " + id);
+                    }
+                    return responseBody;
+                }))
+                .exceptionally(e -> {
+                    throw integrationFailure("Error while fetching employee with id: " + id, e);
+                });
+    }
+
+    public CompletableFuture<EmployeeResponseDto> createEmployee(String name, int salary, int age) {
+        EmployeeIntegration.validateEmployeeData(name, salary, age);
+        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeCreateResource();
+        logger.debug("Creating employee asynchronously with name: {}, salary: {}, age: {} at URL: {}", name, salary, age, url);
+        HttpRequest.Builder request = request(url)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(write(new Employee(name, salary, age))));
+        return employeeResilience.executeAsync(EmployeeOperation.CREATE, () -> send(request)
+                .thenApply(response -> {
+                    if (response.statusCode() != HttpStatus.CREATED.value()) {
+                        throw new EmployeeCreationException("Failed to create employee: " + response.statusCode());
+                    }
+                    return read(response.body(), EmployeeResponseDto.class);
+                }))
+                .exceptionally(e -> {
+                    throw integrationFailure("Error while creating employee", e);
+                });
+    }
+
+    public CompletableFuture<Void> deleteEmployee(String id) {
+        EmployeeIntegration.validateId(id);
+        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeDeleteResource() + id;
+        logger.debug("Deleting employee with ID: {} asynchronously at URL: {}", id, url);
+        return employeeResilience.executeAsync(EmployeeOperation.DELETE, () -> send(request(url).DELETE())
+                .thenAccept(response -> {
+                    if (response.statusCode() >= 300) {
+                        throw new EmployeeDeletionException("Error while deleting employee with id: " + id, statusError(response));
+                    }
+                }))
+                .exceptionally(e -> {
+                    Throwable cause = unwrap(e);
+                    if (EmployeeResilience.isRejection(cause)) {
+                        throw (RuntimeException) cause;
+                    }
+                    logger.error("Error while deleting employee with ID: {}", id, cause);
+                    throw new EmployeeDeletionException("Error while deleting employee with id: " + id, cause);
+                });
+    }
+
+    private HttpRequest.Builder request(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(httpClientConfigs.getReadTimeoutMs()))
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> send(HttpRequest.Builder request) {
+        return requestFactory.sendAsync(request);
+    }
+
+    private static RestClientResponseException statusError(HttpResponse<byte[]> response) {
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        return new RestClientResponseException("Upstream responded with status " + response.statusCode(),
+                response.statusCode(), "", headers, response.body(), StandardCharsets.UTF_8);
+    }
+
+    private <T> T read(byte[] body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new EmployeeIntegrationException("Unable to read upstream response", e);
+        }
+    }
+
+    private String write(Employee employee) {
+        try {
+            return objectMapper.writeValueAsString(employee);
+        } catch (JsonProcessingException e) {
+            throw new EmployeeIntegrationException("Unable to write upstream request", e);
+        }
+    }
+
+    private RuntimeException integrationFailure(String message, Throwable e) {
+        Throwable cause = unwrap(e);
+        if (cause instanceof EmployeeNotFoundException || cause instanceof EmployeeCreationException
+                || EmployeeResilience.isRejection(cause)) {
+            return (RuntimeException) cause;
+        }
+        logger.error(message, cause);
+        return new EmployeeIntegrationException(message, cause);
+    }
+
+    static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
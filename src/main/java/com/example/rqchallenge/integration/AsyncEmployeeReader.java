@@ -0,0 +1,17 @@
+package com.example.rqchallenge.integration;
+
+import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The non-blocking reads the employee caches load through. {@link AsyncEmployeeIntegration} serves them on the
+ * servlet stack and {@link ReactiveEmployeeReader} on the reactive one.
+ */
+public interface AsyncEmployeeReader {
+
+    CompletableFuture<GetAllEmployeeResponseDto> getAllEmployees();
+
+    CompletableFuture<EmployeeResponseDto> getEmployeeById(String id);
+}
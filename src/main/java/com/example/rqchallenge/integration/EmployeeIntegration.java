@@ -8,32 +8,79 @@ import com.example.rqchallenge.exception.EmployeeIntegrationException;
 import com.example.rqchallenge.exception.EmployeeNotFoundException;
 import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
 import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.example.rqchallenge.integration.resilience.EmployeeOperation;
+import com.example.rqchallenge.integration.resilience.EmployeeResilience;
+import com.example.rqchallenge.integration.stream.EmployeeStreamReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
 @Component
 public class EmployeeIntegration {
 
     private final RestTemplate restTemplate;
     private final EmployeeUrlConfigs employeeUrlConfigs;
+    private final EmployeeStreamReader employeeStreamReader;
+    private final EmployeeResilience employeeResilience;
     private static final Logger logger = LoggerFactory.getLogger(EmployeeIntegration.class);
 
     @Autowired
-    public EmployeeIntegration(RestTemplate restTemplate, EmployeeUrlConfigs employeeUrlConfigs) {
+    public EmployeeIntegration(RestTemplate restTemplate, EmployeeUrlConfigs employeeUrlConfigs,
+                               EmployeeStreamReader employeeStreamReader, EmployeeResilience employeeResilience) {
         this.restTemplate = restTemplate;
         this.employeeUrlConfigs = employeeUrlConfigs;
+        this.employeeStreamReader = employeeStreamReader;
+        this.employeeResilience = employeeResilience;
     }
 
     public GetAllEmployeeResponseDto getAllEmployees() {
+        return employeeResilience.execute(EmployeeOperation.LIST, this::fetchAllEmployees);
+    }
+
+    public void streamAllEmployees(Consumer<Employee> consumer) {
+        AtomicBoolean delivered = new AtomicBoolean();
+        employeeResilience.execute(EmployeeOperation.LIST, () -> {
+            fetchAllEmployees(employee -> {
+                delivered.set(true);
+                consumer.accept(employee);
+            });
+            return null;
+        }, () -> !delivered.get());
+    }
+
+    public EmployeeResponseDto getEmployeeById(String id) {
+        validateId(id);
+        return employeeResilience.execute(EmployeeOperation.GET_BY_ID, () -> fetchEmployeeById(id));
+    }
+
+    public EmployeeResponseDto createEmployee(String name, int salary, int age) {
+        validateEmployeeData(name, salary, age);
+        return employeeResilience.execute(EmployeeOperation.CREATE, () -> postEmployee(name, salary, age));
+    }
+
+    public void deleteEmployee(String id) {
+        validateId(id);
+        employeeResilience.execute(EmployeeOperation.DELETE, () -> {
+            sendDelete(id);
+            return null;
+        });
+    }
+
+    private GetAllEmployeeResponseDto fetchAllEmployees() {
         String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeesResource();
-        logger.info("Fetching all employees from URL: {}", url);
+        logger.debug("Fetching all employees from URL: {}", url);
         try {
             ResponseEntity<GetAllEmployeeResponseDto> responseEntity = restTemplate.exchange(
                     url,
@@ -41,9 +88,9 @@ public class EmployeeIntegration {
                     null,
                     GetAllEmployeeResponseDto.class);
 
-            logger.info("Received response status: {}", responseEntity.getStatusCode());
+            logger.debug("Received response status: {}", responseEntity.getStatusCode());
             if (responseEntity.getStatusCode() == HttpStatus.OK) {
-                logger.info("Successfully fetched all employees.");
+                logger.debug("Successfully fetched all employees.");
                 return responseEntity.getBody();
             } else {
                 logger.error("Failed to fetch employees: {}", responseEntity.getStatusCode());
@@ -55,10 +102,29 @@ public class EmployeeIntegration {
         }
     }
 
-    public EmployeeResponseDto getEmployeeById(String id) {
-        validateId(id);
+    private void fetchAllEmployees(Consumer<Employee> consumer) {
+        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeesResource();
+        logger.debug("Streaming all employees from URL: {}", url);
+        try {
+            restTemplate.execute(url, HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON)),
+                    response -> {
+                        logger.debug("Received response status: {}", response.getStatusCode());
+                        if (response.getStatusCode() != HttpStatus.OK) {
+                            throw new EmployeeIntegrationException("Failed to fetch employees: " + response.getStatusCode(), null);
+                        }
+                        return employeeStreamReader.read(response.getBody(), consumer);
+                    });
+            logger.debug("Successfully streamed all employees.");
+        } catch (Exception e) {
+            logger.error("Error while streaming all employees", e);
+            throw new EmployeeIntegrationException("Error while streaming all employees", e);
+        }
+    }
+
+    private EmployeeResponseDto fetchEmployeeById(String id) {
         String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeResource() + id;
-        logger.info("Fetching employee with ID: {} from URL: {}", id, url);
+        logger.debug("Fetching employee with ID: {} from URL: {}", id, url);
         try {
             ResponseEntity<EmployeeResponseDto> responseEntity = restTemplate.exchange(
                     url,
@@ -66,11 +132,11 @@ public class EmployeeIntegration {
                     null,
                     EmployeeResponseDto.class);
 
-            logger.info("Received response status: {}", responseEntity.getStatusCode());
+            logger.debug("Received response status: {}", responseEntity.getStatusCode());
             if (responseEntity.getStatusCode() == HttpStatus.OK) {
                 EmployeeResponseDto responseBody = responseEntity.getBody();
                 if (responseBody != null) {
-                    logger.info("Successfully fetched employee with ID: {}", id);
+                    logger.debug("Successfully fetched employee with ID: {}", id);
                     return responseBody;
                 } else {
                     logger.warn("Employee not found with ID: {}", id);
@@ -80,24 +146,28 @@ public class EmployeeIntegration {
                 logger.error("Failed to fetch employee: {}", responseEntity.getStatusCode());
                 throw new EmployeeIntegrationException("Failed to fetch employee: " + responseEntity.getStatusCode(), null);
             }
+        } catch (EmployeeNotFoundException e) {
+            throw e;
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.warn("Employee not found with ID: {}", id);
+            throw new EmployeeNotFoundException("Employee not found with id: " + id);
         } catch (Exception e) {
             logger.error("Error while fetching employee with ID: {}", id, e);
             throw new EmployeeIntegrationException("Error while fetching employee with id: " + id, e);
         }
     }
 
-    public EmployeeResponseDto createEmployee(String name, int salary, int age) {
-        validateEmployeeData(name, salary, age);
+    private EmployeeResponseDto postEmployee(String name, int salary, int age) {
         String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeCreateResource();
-        logger.info("Creating employee with name: {}, salary: {}, age: {} at URL: {}", name, salary, age, url);
+        logger.debug("Creating employee with name: {}, salary: {}, age: {} at URL: {}", name, salary, age, url);
         Employee newEmployee = new Employee(name, salary, age);
         HttpEntity<Employee> requestEntity = new HttpEntity<>(newEmployee, null);
 
         try {
             ResponseEntity<EmployeeResponseDto> response = restTemplate.postForEntity(url, requestEntity, EmployeeResponseDto.class);
-            logger.info("Received response status for creation: {}", response.getStatusCode());
+            logger.debug("Received response status for creation: {}", response.getStatusCode());
             if (response.getStatusCode() == HttpStatus.CREATED) {
-                logger.info("Successfully created employee.");
+                logger.debug("Successfully created employee.");
                 return response.getBody();
             } else {
                 logger.error("Failed to create employee: {}", response.getStatusCode());
@@ -109,27 +179,26 @@ public class EmployeeIntegration {
         }
     }
 
-    public void deleteEmployee(String id) {
-        validateId(id);
+    private void sendDelete(String id) {
         String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeDeleteResource() + id;
-        logger.info("Deleting employee with ID: {} at URL: {}", id, url);
+        logger.debug("Deleting employee with ID: {} at URL: {}", id, url);
         try {
             restTemplate.delete(url);
-            logger.info("Successfully deleted employee with ID: {}", id);
+            logger.debug("Successfully deleted employee with ID: {}", id);
         } catch (Exception e) {
             logger.error("Error while deleting employee with ID: {}", id, e);
-            throw new EmployeeDeletionException("Error while deleting employee with id: " + id);
+            throw new EmployeeDeletionException("Error while deleting employee with id: " + id, e);
         }
     }
 
-    private void validateId(String id) {
+    static void validateId(String id) {
         if (id == null || id.trim().isEmpty()) {
             logger.warn("Invalid Employee ID: {}", id);
             throw new IllegalArgumentException("Employee ID must not be null or empty");
         }
     }
 
-    private void validateEmployeeData(String name, int salary, int age) {
+    static void validateEmployeeData(String name, int salary, int age) {
         if (name == null || name.trim().isEmpty()) {
             logger.warn("Invalid Employee name: {}", name);
             throw new IllegalArgumentException("Employee name must not be null or empty");
@@ -0,0 +1,140 @@
+package com.example.rqchallenge.integration;
+
+import com.example.rqchallenge.config.EmployeeUrlConfigs;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.exception.EmployeeCreationException;
+import com.example.rqchallenge.exception.EmployeeDeletionException;
+import com.example.rqchallenge.exception.EmployeeIntegrationException;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
+import com.example.rqchallenge.integration.resilience.EmployeeOperation;
+import com.example.rqchallenge.integration.resilience.EmployeeResilience;
+import com.example.rqchallenge.integration.stream.EmployeeStreamReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reactive counterpart of {@link EmployeeIntegration} on {@link WebClient}. The employee list is decoded as it
+ * arrives and emitted with backpressure, so it is never held whole. Calls go through {@link EmployeeResilience}
+ * and fail with the same exception types the blocking integration throws.
+ */
+@Component
+public class ReactiveEmployeeIntegration {
+
+    private final WebClient employeeWebClient;
+    private final EmployeeUrlConfigs employeeUrlConfigs;
+    private final EmployeeStreamReader employeeStreamReader;
+    private final EmployeeResilience employeeResilience;
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeIntegration.class);
+
+    @Autowired
+    public ReactiveEmployeeIntegration(WebClient employeeWebClient, EmployeeUrlConfigs employeeUrlConfigs,
+                                       EmployeeStreamReader employeeStreamReader, EmployeeResilience employeeResilience) {
+        this.employeeWebClient = employeeWebClient;
+        this.employeeUrlConfigs = employeeUrlConfigs;
+        this.employeeStreamReader = employeeStreamReader;
+        this.employeeResilience = employeeResilience;
+    }
+
+    public Flux<Employee> getAllEmployees() {
+        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeesResource();
+        logger.debug("Streaming all employees reactively from URL: {}", url);
+        return employeeResilience.executeFlux(EmployeeOperation.LIST, () -> employeeWebClient.get().uri(url)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .exchangeToFlux(response -> {
+                            if (response.rawStatusCode() != HttpStatus.OK.value()) {
+                                return statusError(response).flatMapMany(e -> Flux.error(new EmployeeIntegrationException(
+                                        "Failed to fetch employees: " + response.rawStatusCode(), e)));
+                            }
+                            return employeeStreamReader.read(response.bodyToFlux(DataBuffer.class));
+                        }))
+                .onErrorMap(e -> integrationFailure("Error while fetching all employees", e));
+    }
+
+    public Mono<EmployeeResponseDto> getEmployeeById(String id) {
+        EmployeeIntegration.validateId(id);
+        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeResource() + id;
+        logger.debug("Fetching employee with ID: {} reactively from URL: {}", id, url);
+        return employeeResilience.executeMono(EmployeeOperation.GET_BY_ID, () -> employeeWebClient.get().uri(url)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .exchangeToMono(response -> {
+                            if (response.rawStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                                return response.releaseBody().then(Mono.<EmployeeResponseDto>error(
+                                        new EmployeeNotFoundException("Employee not found with id: " + id)));
+                            }
+                            if (response.rawStatusCode() != HttpStatus.OK.value()) {
+                                return statusError(response).flatMap(e -> Mono.error(new EmployeeIntegrationException(
+                                        "Failed to fetch employee: " + response.rawStatusCode(), e)));
+                            }
+                            return response.bodyToMono(EmployeeResponseDto.class)
+                                    .filter(responseBody -> responseBody.getData() != null)
+                                    .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException("Employee not found with id: " + id)));
+                        }))
+                .onErrorMap(e -> integrationFailure("Error while fetching employee with id: " + id, e));
+    }
+
+    public Mono<EmployeeResponseDto> createEmployee(String name, int salary, int age) {
+        EmployeeIntegration.validateEmployeeData(name, salary, age);
+        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeCreateResource();
+        logger.debug("Creating employee reactively with name: {}, salary: {}, age: {} at URL: {}", name, salary, age, url);
+        return employeeResilience.executeMono(EmployeeOperation.CREATE, () -> employeeWebClient.post().uri(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .bodyValue(new Employee(name, salary, age))
+                        .exchangeToMono(response -> {
+                            if (response.rawStatusCode() != HttpStatus.CREATED.value()) {
+                                return response.releaseBody().then(Mono.<EmployeeResponseDto>error(
+                                        new EmployeeCreationException("Failed to create employee: " + response.rawStatusCode())));
+                            }
+                            return response.bodyToMono(EmployeeResponseDto.class);
+                        }))
+                .onErrorMap(e -> integrationFailure("Error while creating employee", e));
+    }
+
+    public Mono<Void> deleteEmployee(String id) {
+        EmployeeIntegration.validateId(id);
+        String url = employeeUrlConfigs.getBaseUrl() + employeeUrlConfigs.getEmployeeDeleteResource() + id;
+        logger.debug("Deleting employee with ID: {} reactively at URL: {}", id, url);
+        return employeeResilience.executeMono(EmployeeOperation.DELETE, () -> employeeWebClient.delete().uri(url)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .exchangeToMono(response -> {
+                            if (response.rawStatusCode() >= 300) {
+                                return statusError(response).flatMap(e -> Mono.<Void>error(new EmployeeDeletionException(
+                                        "Error while deleting employee with id: " + id, e)));
+                            }
+                            return response.releaseBody();
+                        }))
+                .onErrorMap(e -> !(e instanceof EmployeeDeletionException) && !EmployeeResilience.isRejection(e), e -> {
+                    logger.error("Error while deleting employee with ID: {}", id, e);
+                    return new EmployeeDeletionException("Error while deleting employee with id: " + id, e);
+                });
+    }
+
+    private static Mono<RestClientResponseException> statusError(ClientResponse response) {
+        return response.bodyToMono(byte[].class)
+                .defaultIfEmpty(new byte[0])
+                .map(body -> new RestClientResponseException("Upstream responded with status " + response.rawStatusCode(),
+                        response.rawStatusCode(), "", response.headers().asHttpHeaders(), body, StandardCharsets.UTF_8));
+    }
+
+    private Throwable integrationFailure(String message, Throwable cause) {
+        if (cause instanceof EmployeeNotFoundException || cause instanceof EmployeeCreationException
+                || cause instanceof IllegalArgumentException || EmployeeResilience.isRejection(cause)) {
+            return cause;
+        }
+        logger.error(message, cause);
+        return new EmployeeIntegrationException(message, cause);
+    }
+}
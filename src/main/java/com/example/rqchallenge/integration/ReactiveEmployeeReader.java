@@ -0,0 +1,42 @@
+package com.example.rqchallenge.integration;
+
+import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Loads the employee caches through {@link ReactiveEmployeeIntegration} on the reactive stack, so its snapshot
+ * and by-id reads use the same {@code WebClient} as its writes rather than the JDK client.
+ */
+@Component
+@Primary
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeReader implements AsyncEmployeeReader {
+
+    private final ReactiveEmployeeIntegration reactiveEmployeeIntegration;
+
+    @Autowired
+    public ReactiveEmployeeReader(ReactiveEmployeeIntegration reactiveEmployeeIntegration) {
+        this.reactiveEmployeeIntegration = reactiveEmployeeIntegration;
+    }
+
+    @Override
+    public CompletableFuture<GetAllEmployeeResponseDto> getAllEmployees() {
+        return reactiveEmployeeIntegration.getAllEmployees().collectList().map(employees -> {
+            GetAllEmployeeResponseDto response = new GetAllEmployeeResponseDto();
+            response.setStatus("success");
+            response.setData(employees);
+            return response;
+        }).toFuture();
+    }
+
+    @Override
+    public CompletableFuture<EmployeeResponseDto> getEmployeeById(String id) {
+        return reactiveEmployeeIntegration.getEmployeeById(id).toFuture();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.rqchallenge.integration.http;
+
+import com.example.rqchallenge.config.EmployeeHttpClientConfigs;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+class JdkClientHttpRequest extends AbstractClientHttpRequest {
+
+    private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "content-length", "expect", "host", "upgrade"));
+
+    private final HttpClient httpClient;
+    private final URI uri;
+    private final HttpMethod method;
+    private final RoutePool routePool;
+    private final EmployeeHttpClientConfigs httpClientConfigs;
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+
+    JdkClientHttpRequest(HttpClient httpClient, URI uri, HttpMethod method, RoutePool routePool,
+                         EmployeeHttpClientConfigs httpClientConfigs) {
+        this.httpClient = httpClient;
+        this.uri = uri;
+        this.method = method;
+        this.routePool = routePool;
+        this.httpClientConfigs = httpClientConfigs;
+    }
+
+    @Override
+    public String getMethodValue() {
+        return method.name();
+    }
+
+    @Override
+    public URI getURI() {
+        return uri;
+    }
+
+    @Override
+    protected OutputStream getBodyInternal(HttpHeaders headers) {
+        return body;
+    }
+
+    @Override
+    protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+        HttpRequest request = buildRequest(headers);
+        try {
+            if (!routePool.acquire(httpClientConfigs.getPoolAcquireTimeoutMs())) {
+                throw new IOException("Timed out waiting for a connection to " + uri.getHost());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection to " + uri.getHost());
+        }
+
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            return new JdkClientHttpResponse(response, routePool);
+        } catch (InterruptedException e) {
+            routePool.release();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while calling " + uri);
+        } catch (IOException | RuntimeException e) {
+            routePool.release();
+            throw e;
+        }
+    }
+
+    private HttpRequest buildRequest(HttpHeaders headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(httpClientConfigs.getReadTimeoutMs()));
+        headers.forEach((name, values) -> {
+            if (!RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+        if (httpClientConfigs.isGzipEnabled() && !headers.containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+
+        byte[] bytes = body.toByteArray();
+        HttpRequest.BodyPublisher publisher = bytes.length == 0
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(bytes);
+        return builder.method(method.name(), publisher).build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.rqchallenge.integration.http;
+
+import com.example.rqchallenge.config.EmployeeHttpClientConfigs;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * {@link ClientHttpRequestFactory} backed by a shared JDK {@link HttpClient}. The client keeps idle
+ * connections alive between requests; this factory caps the number of concurrent exchanges per
+ * scheme/host/port route and bounds how long a caller may wait for one of those slots. {@link #sendAsync}
+ * shares those slots with the blocking requests.
+ */
+public class JdkClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final HttpClient httpClient;
+    private final EmployeeHttpClientConfigs httpClientConfigs;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RoutePool> routePools = new ConcurrentHashMap<>();
+
+    public JdkClientHttpRequestFactory(HttpClient httpClient, EmployeeHttpClientConfigs httpClientConfigs,
+                                       MeterRegistry meterRegistry) {
+        this.httpClient = httpClient;
+        this.httpClientConfigs = httpClientConfigs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new JdkClientHttpRequest(httpClient, uri, httpMethod, routePool(uri), httpClientConfigs);
+    }
+
+    /**
+     * Sends {@code request} without blocking once a slot of its route is free, and holds the slot until the
+     * whole body has been read. Asks for and decodes gzip bodies like the blocking requests do.
+     */
+    public CompletableFuture<HttpResponse<byte[]>> sendAsync(HttpRequest.Builder request) {
+        HttpRequest.Builder builder = request.copy();
+        if (httpClientConfigs.isGzipEnabled()) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+        HttpRequest httpRequest = builder.build();
+        RoutePool routePool = routePool(httpRequest.uri());
+        return routePool.acquireAsync(httpRequest.uri().getHost(), httpClientConfigs.getPoolAcquireTimeoutMs())
+                .thenCompose(acquired -> {
+                    try {
+                        return httpClient.sendAsync(httpRequest, JdkClientHttpRequestFactory::bodyHandler)
+                                .whenComplete((response, error) -> routePool.release());
+                    } catch (RuntimeException e) {
+                        routePool.release();
+                        throw e;
+                    }
+                });
+    }
+
+    RoutePool routePool(URI uri) {
+        String route = uri.getScheme() + "://" + uri.getHost() + ":" + port(uri);
+        return routePools.computeIfAbsent(route,
+                key -> new RoutePool(key, httpClientConfigs.getMaxConnectionsPerRoute(), meterRegistry));
+    }
+
+    private static HttpResponse.BodySubscriber<byte[]> bodyHandler(HttpResponse.ResponseInfo responseInfo) {
+        boolean gzipped = responseInfo.headers().firstValue(HttpHeaders.CONTENT_ENCODING)
+                .filter("gzip"::equalsIgnoreCase)
+                .isPresent();
+        HttpResponse.BodySubscriber<byte[]> bytes = HttpResponse.BodySubscribers.ofByteArray();
+        return gzipped ? HttpResponse.BodySubscribers.mapping(bytes, JdkClientHttpRequestFactory::gunzip) : bytes;
+    }
+
+    private static byte[] gunzip(byte[] body) {
+        if (body.length == 0) {
+            return body;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to decode gzip response body", e);
+        }
+    }
+
+    private static int port(URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.rqchallenge.integration.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.AbstractClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+class JdkClientHttpResponse extends AbstractClientHttpResponse {
+
+    private final HttpResponse<InputStream> response;
+    private final RoutePool routePool;
+    private final HttpHeaders headers = new HttpHeaders();
+    private final boolean gzipped;
+    private InputStream body;
+    private boolean closed;
+
+    JdkClientHttpResponse(HttpResponse<InputStream> response, RoutePool routePool) {
+        this.response = response;
+        this.routePool = routePool;
+        response.headers().map().forEach(headers::addAll);
+        this.gzipped = "gzip".equalsIgnoreCase(headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        if (gzipped) {
+            headers.remove(HttpHeaders.CONTENT_ENCODING);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+    }
+
+    @Override
+    public int getRawStatusCode() {
+        return response.statusCode();
+    }
+
+    @Override
+    public String getStatusText() {
+        HttpStatus status = HttpStatus.resolve(response.statusCode());
+        return status == null ? "" : status.getReasonPhrase();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        if (body == null) {
+            body = gzipped ? new GZIPInputStream(response.body()) : response.body();
+        }
+        return body;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            (body != null ? body : response.body()).close();
+        } catch (IOException ignored) {
+            // the connection is discarded by the client if the body cannot be drained
+        } finally {
+            routePool.release();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.rqchallenge.integration.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection slots of one route. Blocking callers wait on the semaphore; asynchronous callers queue a future
+ * that a released slot is handed to, so neither holds a thread while the route is saturated.
+ */
+class RoutePool {
+
+    private final int maxConnections;
+    private final Semaphore permits;
+    private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final Timer acquireTimer;
+    private final Counter acquireTimeouts;
+
+    RoutePool(String route, int maxConnections, MeterRegistry meterRegistry) {
+        this.maxConnections = maxConnections;
+        this.permits = new Semaphore(maxConnections, true);
+        this.acquireTimer = Timer.builder("employee.http.pool.acquire")
+                .description("Time spent waiting for an upstream connection slot")
+                .tag("route", route)
+                .register(meterRegistry);
+        this.acquireTimeouts = Counter.builder("employee.http.pool.acquire.timeouts")
+                .tag("route", route)
+                .register(meterRegistry);
+        Gauge.builder("employee.http.pool.connections.active", inUse, AtomicInteger::get)
+                .tag("route", route)
+                .register(meterRegistry);
+        Gauge.builder("employee.http.pool.connections.max", this, pool -> pool.maxConnections)
+                .tag("route", route)
+                .register(meterRegistry);
+        Gauge.builder("employee.http.pool.utilization", this, RoutePool::utilization)
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+
+    boolean acquire(long timeoutMs) throws InterruptedException {
+        long start = System.nanoTime();
+        boolean acquired = permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            acquireTimeouts.increment();
+            return false;
+        }
+        inUse.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Completes once a slot is held, or fails with an {@link IOException} after {@code timeoutMs}.
+     */
+    CompletableFuture<Void> acquireAsync(String host, long timeoutMs) {
+        long start = System.nanoTime();
+        if (waiters.isEmpty() && permits.tryAcquire()) {
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            inUse.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        // a slot released before the waiter was queued is picked up here
+        handOver();
+        CompletableFuture<Void> acquired = new CompletableFuture<>();
+        waiter.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).whenComplete((ignored, error) -> {
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (error == null) {
+                acquired.complete(null);
+            } else {
+                waiters.remove(waiter);
+                acquireTimeouts.increment();
+                acquired.completeExceptionally(new IOException("Timed out waiting for a connection to " + host));
+            }
+        });
+        return acquired;
+    }
+
+    void release() {
+        inUse.decrementAndGet();
+        permits.release();
+        handOver();
+    }
+
+    private void handOver() {
+        while (!waiters.isEmpty() && permits.tryAcquire()) {
+            CompletableFuture<Void> waiter = waiters.poll();
+            inUse.incrementAndGet();
+            if (waiter == null || !waiter.complete(null)) {
+                inUse.decrementAndGet();
+                permits.release();
+            }
+        }
+    }
+
+    int inUse() {
+        return inUse.get();
+    }
+
+    double utilization() {
+        return (double) inUse.get() / maxConnections;
+    }
+}
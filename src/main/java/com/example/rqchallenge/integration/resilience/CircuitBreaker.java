@@ -0,0 +1,147 @@
+package com.example.rqchallenge.integration.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Count-based circuit breaker. While closed, the outcomes of the last {@code windowSize} calls are kept in a
+ * ring; once at least {@code minimumCalls} are recorded and the failed share reaches the threshold the
+ * circuit opens and rejects calls for {@code openDurationNanos}. It then lets {@code halfOpenCalls} trial
+ * calls through: any failure reopens it, all of them succeeding closes it. Calls slower than the slow call
+ * threshold count as failures.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final long slowCallThresholdNanos;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] window;
+    private int recorded;
+    private int next;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public CircuitBreaker(String name, int failureRateThreshold, long slowCallThresholdNanos, int windowSize,
+                          int minimumCalls, long openDurationNanos, int halfOpenCalls) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThresholdNanos = slowCallThresholdNanos;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.openDurationNanos = openDurationNanos;
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits >= halfOpenCalls) {
+                    return false;
+                }
+                halfOpenPermits++;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives back a permission that was acquired but never used for a call.
+     */
+    public void releasePermission() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+                halfOpenPermits--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onResult(boolean failed, long durationNanos) {
+        boolean failure = failed || durationNanos >= slowCallThresholdNanos;
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                if (failure) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+            } else if (state == State.CLOSED) {
+                record(failure);
+                if (recorded >= minimumCalls && failures * 100L >= (long) failureRateThreshold * recorded) {
+                    transitionTo(State.OPEN);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void transitionTo(State target) {
+        logger.warn("Circuit breaker {} changed state from {} to {}.", name, state, target);
+        state = target;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+        if (target == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        } else if (target == State.CLOSED) {
+            recorded = 0;
+            next = 0;
+            failures = 0;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.rqchallenge.integration.resilience;
+
+public enum EmployeeOperation {
+    LIST(true),
+    GET_BY_ID(true),
+    CREATE(false),
+    DELETE(true);
+
+    private final boolean idempotent;
+
+    EmployeeOperation(boolean idempotent) {
+        this.idempotent = idempotent;
+    }
+
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+}
@@ -0,0 +1,383 @@
+package com.example.rqchallenge.integration.resilience;
+
+import com.example.rqchallenge.config.EmployeeResilienceConfigs;
+import com.example.rqchallenge.config.EmployeeRetryConfigs;
+import com.example.rqchallenge.exception.EmployeeBulkheadFullException;
+import com.example.rqchallenge.exception.EmployeeCircuitOpenException;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Guards every upstream call with a circuit breaker and a bulkhead per {@link EmployeeOperation}. Calls that
+ * are not permitted fail fast with {@link EmployeeCircuitOpenException} or {@link EmployeeBulkheadFullException}.
+ * Upstream 429 and 5xx responses, transport errors and slow calls count as failures; a missing employee or
+ * another 4xx response does not.
+ * <p>
+ * Idempotent operations are retried according to {@link RetryPolicy}, as long as the shared
+ * {@link RetryBudget} allows it. Each retry goes through the circuit breaker and bulkhead again.
+ * <p>
+ * Every attempt that reaches the upstream is timed as {@code employee.upstream.requests}, tagged with the
+ * operation, outcome and response status, and counted in {@code employee.upstream.in_flight} while it runs.
+ */
+@Component
+public class EmployeeResilience {
+
+    private final EmployeeResilienceConfigs resilienceConfigs;
+    private final EmployeeRetryConfigs retryConfigs;
+    private final RetryPolicy retryPolicy;
+    private final RetryBudget retryBudget;
+    private final Map<EmployeeOperation, Guard> guards = new EnumMap<>(EmployeeOperation.class);
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeResilience.class);
+
+    @Autowired
+    public EmployeeResilience(EmployeeResilienceConfigs resilienceConfigs, EmployeeRetryConfigs retryConfigs,
+                              MeterRegistry meterRegistry) {
+        this.resilienceConfigs = resilienceConfigs;
+        this.retryConfigs = retryConfigs;
+        this.retryPolicy = new RetryPolicy(retryConfigs.getMaxAttempts(), retryConfigs.getBaseDelayMs(),
+                retryConfigs.getMaxDelayMs(), retryConfigs.getMaxRetryAfterMs());
+        this.retryBudget = new RetryBudget(retryConfigs.getBudgetPercent(), retryConfigs.getBudgetMinRetriesPerSecond());
+        for (EmployeeOperation operation : EmployeeOperation.values()) {
+            guards.put(operation, new Guard(operation, resilienceConfigs, meterRegistry));
+        }
+    }
+
+    public <T> T execute(EmployeeOperation operation, Supplier<T> call) {
+        return execute(operation, call, () -> true);
+    }
+
+    /**
+     * @param replayable checked before each retry; lets a caller that has already consumed part of a
+     *                   response stop the call from being replayed
+     */
+    public <T> T execute(EmployeeOperation operation, Supplier<T> call, BooleanSupplier replayable) {
+        Guard guard = guards.get(operation);
+        retryBudget.recordCall();
+        long delayMs = retryPolicy.getBaseDelayMs();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return guarded(guard, call);
+            } catch (RuntimeException e) {
+                delayMs = retryDelay(guard, e, attempt, delayMs, replayable);
+                if (delayMs == RetryPolicy.NO_RETRY) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #execute}. The bulkhead is never waited on here so the caller's thread
+     * is not blocked, and retries are scheduled on a delayed executor instead of sleeping.
+     */
+    public <T> CompletableFuture<T> executeAsync(EmployeeOperation operation, Supplier<CompletableFuture<T>> call) {
+        Guard guard = guards.get(operation);
+        retryBudget.recordCall();
+        return attemptAsync(guard, call, 1, retryPolicy.getBaseDelayMs());
+    }
+
+    private <T> CompletableFuture<T> attemptAsync(Guard guard, Supplier<CompletableFuture<T>> call, int attempt,
+                                                  long previousDelayMs) {
+        return guardedAsync(guard, call).handle((result, error) -> {
+            if (error == null) {
+                return CompletableFuture.completedFuture(result);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            long delayMs = retryDelay(guard, cause, attempt, previousDelayMs, () -> true);
+            if (delayMs == RetryPolicy.NO_RETRY) {
+                return CompletableFuture.<T>failedFuture(error);
+            }
+            return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS))
+                    .thenCompose(ignored -> attemptAsync(guard, call, attempt + 1, delayMs));
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Reactive variant of {@link #execute} for a response streamed as it arrives. The guard is held from
+     * subscription until the stream terminates or is cancelled, and a failed call is only retried while none
+     * of its elements has been emitted, so a retry never replays them.
+     */
+    public <T> Flux<T> executeFlux(EmployeeOperation operation, Supplier<Flux<T>> call) {
+        Guard guard = guards.get(operation);
+        return Flux.defer(() -> {
+            retryBudget.recordCall();
+            AtomicBoolean delivered = new AtomicBoolean();
+            AtomicLong previousDelayMs = new AtomicLong(retryPolicy.getBaseDelayMs());
+            return Flux.defer(() -> guardedFlux(guard, call))
+                    .doOnNext(ignored -> delivered.set(true))
+                    .retryWhen(Retry.from(failures -> failures.concatMap(failure -> {
+                        Throwable error = failure.failure();
+                        long delayMs = retryDelay(guard, error, (int) failure.totalRetries() + 1, previousDelayMs.get(),
+                                () -> !delivered.get());
+                        if (delayMs == RetryPolicy.NO_RETRY) {
+                            return Mono.error(error);
+                        }
+                        previousDelayMs.set(delayMs);
+                        return Mono.delay(Duration.ofMillis(delayMs));
+                    })));
+        });
+    }
+
+    public <T> Mono<T> executeMono(EmployeeOperation operation, Supplier<Mono<T>> call) {
+        return executeFlux(operation, () -> call.get().flux()).singleOrEmpty();
+    }
+
+    private long retryDelay(Guard guard, Throwable error, int attempt, long previousDelayMs, BooleanSupplier replayable) {
+        if (!retryConfigs.isEnabled() || !guard.operation.isIdempotent() || isRejection(error)) {
+            return RetryPolicy.NO_RETRY;
+        }
+        long delayMs = retryPolicy.delayMs(error, attempt, previousDelayMs);
+        if (delayMs == RetryPolicy.NO_RETRY || !replayable.getAsBoolean()) {
+            return RetryPolicy.NO_RETRY;
+        }
+        if (!retryBudget.tryAcquireRetry()) {
+            guard.retryBudgetExhausted.increment();
+            logger.warn("Retry budget exhausted, not retrying employee operation {}.", guard.operation);
+            return RetryPolicy.NO_RETRY;
+        }
+        guard.retries.increment();
+        guard.retryWait.record(delayMs, TimeUnit.MILLISECONDS);
+        logger.info("Retrying employee operation {} in {} ms after attempt {} failed. Error : {}",
+                guard.operation, delayMs, attempt, error.getMessage());
+        return delayMs;
+    }
+
+    private <T> T guarded(Guard guard, Supplier<T> call) {
+        boolean enabled = resilienceConfigs.isEnabled();
+        if (enabled) {
+            guard.acquire(resilienceConfigs.getMaxWaitMs());
+        }
+        long start = guard.start();
+        try {
+            T result = call.get();
+            guard.complete(enabled, start, null);
+            return result;
+        } catch (RuntimeException e) {
+            guard.complete(enabled, start, e);
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> guardedAsync(Guard guard, Supplier<CompletableFuture<T>> call) {
+        boolean enabled = resilienceConfigs.isEnabled();
+        if (enabled) {
+            try {
+                guard.acquire(0);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        long start = guard.start();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            guard.complete(enabled, start, e);
+            throw e;
+        }
+        return future.whenComplete((result, error) -> guard.complete(enabled, start, error));
+    }
+
+    private <T> Flux<T> guardedFlux(Guard guard, Supplier<Flux<T>> call) {
+        boolean enabled = resilienceConfigs.isEnabled();
+        if (enabled) {
+            try {
+                guard.acquire(0);
+            } catch (RuntimeException e) {
+                return Flux.error(e);
+            }
+        }
+        long start = guard.start();
+        AtomicBoolean completed = new AtomicBoolean();
+        Consumer<Throwable> complete = error -> {
+            if (completed.compareAndSet(false, true)) {
+                guard.complete(enabled, start, error);
+            }
+        };
+        Flux<T> flux;
+        try {
+            flux = call.get();
+        } catch (RuntimeException e) {
+            complete.accept(e);
+            return Flux.error(e);
+        }
+        return flux.doOnComplete(() -> complete.accept(null))
+                .doOnError(complete)
+                .doOnCancel(() -> complete.accept(null));
+    }
+
+    public CircuitBreaker.State getState(EmployeeOperation operation) {
+        return guards.get(operation).circuitBreaker.getState();
+    }
+
+    public static boolean isRejection(Throwable error) {
+        return error instanceof EmployeeCircuitOpenException || error instanceof EmployeeBulkheadFullException;
+    }
+
+    static boolean isFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RestClientResponseException) {
+                HttpStatus status = HttpStatus.resolve(((RestClientResponseException) cause).getRawStatusCode());
+                return status == null || status.is5xxServerError() || status == HttpStatus.TOO_MANY_REQUESTS;
+            }
+            if (cause instanceof EmployeeNotFoundException || cause instanceof IllegalArgumentException) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String outcome(Throwable error) {
+        if (error == null) {
+            return "SUCCESS";
+        }
+        RestClientResponseException statusError = statusError(error);
+        if (statusError != null) {
+            HttpStatus.Series series = HttpStatus.Series.resolve(statusError.getRawStatusCode());
+            if (series == HttpStatus.Series.CLIENT_ERROR) {
+                return "CLIENT_ERROR";
+            }
+            if (series == HttpStatus.Series.SERVER_ERROR) {
+                return "SERVER_ERROR";
+            }
+        }
+        return "UNKNOWN";
+    }
+
+    static String status(Throwable error) {
+        if (error == null) {
+            return "2xx";
+        }
+        RestClientResponseException statusError = statusError(error);
+        return statusError != null ? String.valueOf(statusError.getRawStatusCode()) : "IO_ERROR";
+    }
+
+    private static RestClientResponseException statusError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RestClientResponseException) {
+                return (RestClientResponseException) cause;
+            }
+        }
+        return null;
+    }
+
+    private static final class Guard {
+        private final EmployeeOperation operation;
+        private final CircuitBreaker circuitBreaker;
+        private final Bulkhead bulkhead;
+        private final Counter circuitOpenRejections;
+        private final Counter bulkheadRejections;
+        private final Counter retries;
+        private final Counter retryBudgetExhausted;
+        private final Timer retryWait;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final MeterRegistry meterRegistry;
+        private final String tag;
+
+        private Guard(EmployeeOperation operation, EmployeeResilienceConfigs configs, MeterRegistry meterRegistry) {
+            this.operation = operation;
+            this.meterRegistry = meterRegistry;
+            this.circuitBreaker = new CircuitBreaker(operation.name(), configs.getFailureRateThreshold(),
+                    TimeUnit.MILLISECONDS.toNanos(configs.getSlowCallThresholdMs()), configs.getSlidingWindowSize(),
+                    configs.getMinimumCalls(), TimeUnit.MILLISECONDS.toNanos(configs.getOpenDurationMs()),
+                    configs.getHalfOpenCalls());
+            this.bulkhead = new Bulkhead(configs.getMaxConcurrentCalls());
+            this.tag = operation.name().toLowerCase();
+            this.circuitOpenRejections = Counter.builder("employee.resilience.rejected")
+                    .tag("operation", tag)
+                    .tag("reason", "circuit_open")
+                    .register(meterRegistry);
+            this.bulkheadRejections = Counter.builder("employee.resilience.rejected")
+                    .tag("operation", tag)
+                    .tag("reason", "bulkhead_full")
+                    .register(meterRegistry);
+            this.retries = Counter.builder("employee.retry.retries")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            this.retryBudgetExhausted = Counter.builder("employee.retry.budget.exhausted")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            this.retryWait = Timer.builder("employee.retry.wait")
+                    .description("Backoff time spent before retrying an upstream call")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            Gauge.builder("employee.resilience.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                    .description("0 closed, 1 open, 2 half-open")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            Gauge.builder("employee.resilience.bulkhead.active", bulkhead, Bulkhead::getActiveCalls)
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            Gauge.builder("employee.upstream.in_flight", inFlight, AtomicInteger::get)
+                    .description("Upstream calls currently waiting for a response")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+        }
+
+        private long start() {
+            inFlight.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        private void complete(boolean guarded, long startNanos, Throwable error) {
+            long durationNanos = System.nanoTime() - startNanos;
+            inFlight.decrementAndGet();
+            Timer.builder("employee.upstream.requests")
+                    .description("Upstream call attempts, each retry timed separately")
+                    .tag("operation", tag)
+                    .tag("outcome", outcome(error))
+                    .tag("status", status(error))
+                    .register(meterRegistry)
+                    .record(durationNanos, TimeUnit.NANOSECONDS);
+            if (guarded) {
+                circuitBreaker.onResult(error != null && isFailure(error), durationNanos);
+                bulkhead.release();
+            }
+        }
+
+        private void acquire(long maxWaitMs) {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                circuitOpenRejections.increment();
+                throw new EmployeeCircuitOpenException("Circuit breaker is open for employee operation " + operation);
+            }
+            if (!bulkhead.tryAcquire(maxWaitMs)) {
+                circuitBreaker.releasePermission();
+                bulkheadRejections.increment();
+                throw new EmployeeBulkheadFullException("Too many concurrent calls for employee operation " + operation);
+            }
+        }
+    }
+}
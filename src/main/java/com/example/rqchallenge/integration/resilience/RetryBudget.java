@@ -0,0 +1,71 @@
+package com.example.rqchallenge.integration.resilience;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits retries to a share of recent traffic so they cannot multiply load on an upstream that is already
+ * failing. Over a sliding window of one-second buckets, a retry is allowed while the retries in the window
+ * stay below {@code minRetriesPerSecond} per second plus {@code percent} percent of the calls.
+ */
+public class RetryBudget {
+
+    private static final int WINDOW_SECONDS = 10;
+
+    private final int percent;
+    private final int minRetriesPerSecond;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[] bucketSeconds = new long[WINDOW_SECONDS];
+    private final int[] calls = new int[WINDOW_SECONDS];
+    private final int[] retries = new int[WINDOW_SECONDS];
+
+    public RetryBudget(int percent, int minRetriesPerSecond) {
+        this.percent = percent;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+    }
+
+    public void recordCall() {
+        lock.lock();
+        try {
+            calls[bucket(currentSecond())]++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean tryAcquireRetry() {
+        lock.lock();
+        try {
+            long now = currentSecond();
+            long totalCalls = 0;
+            long totalRetries = 0;
+            for (int i = 0; i < WINDOW_SECONDS; i++) {
+                if (now - bucketSeconds[i] < WINDOW_SECONDS) {
+                    totalCalls += calls[i];
+                    totalRetries += retries[i];
+                }
+            }
+            long allowed = (long) minRetriesPerSecond * WINDOW_SECONDS + totalCalls * percent / 100;
+            if (totalRetries >= allowed) {
+                return false;
+            }
+            retries[bucket(now)]++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int bucket(long second) {
+        int index = Math.floorMod(second, WINDOW_SECONDS);
+        if (bucketSeconds[index] != second) {
+            bucketSeconds[index] = second;
+            calls[index] = 0;
+            retries[index] = 0;
+        }
+        return index;
+    }
+
+    private static long currentSecond() {
+        return Math.floorDiv(System.nanoTime(), 1_000_000_000L);
+    }
+}
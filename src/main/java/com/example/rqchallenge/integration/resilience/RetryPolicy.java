@@ -0,0 +1,108 @@
+package com.example.rqchallenge.integration.resilience;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether a failed upstream call is worth retrying and how long to wait first. Rate limiting
+ * (429), 502, 503, 504 and transport errors are retried. The wait honours a {@code Retry-After} header and
+ * otherwise uses decorrelated jitter: a random delay between the base delay and three times the previous
+ * delay, capped at {@code maxDelayMs}.
+ */
+public class RetryPolicy {
+
+    /** Returned by {@link #delayMs} when the failure must not be retried. */
+    public static final long NO_RETRY = -1;
+
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final long maxRetryAfterMs;
+
+    public RetryPolicy(int maxAttempts, long baseDelayMs, long maxDelayMs, long maxRetryAfterMs) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMs = Math.max(1, baseDelayMs);
+        this.maxDelayMs = Math.max(this.baseDelayMs, maxDelayMs);
+        this.maxRetryAfterMs = maxRetryAfterMs;
+    }
+
+    public long getBaseDelayMs() {
+        return baseDelayMs;
+    }
+
+    /**
+     * @param attempt the attempt that just failed, starting at 1
+     * @param previousDelayMs the delay before that attempt, or the base delay for the first one
+     */
+    public long delayMs(Throwable error, int attempt, long previousDelayMs) {
+        if (attempt >= maxAttempts) {
+            return NO_RETRY;
+        }
+        RestClientResponseException statusError = find(error, RestClientResponseException.class);
+        if (statusError != null) {
+            if (!isRetryable(statusError.getRawStatusCode())) {
+                return NO_RETRY;
+            }
+            long retryAfterMs = retryAfterMs(statusError.getResponseHeaders());
+            if (retryAfterMs >= 0) {
+                return retryAfterMs <= maxRetryAfterMs ? retryAfterMs : NO_RETRY;
+            }
+        } else if (!isTransportError(error)) {
+            return NO_RETRY;
+        }
+        long upper = Math.min(maxDelayMs, Math.max(baseDelayMs, previousDelayMs) * 3);
+        return ThreadLocalRandom.current().nextLong(baseDelayMs, upper + 1);
+    }
+
+    static boolean isRetryable(int status) {
+        return status == HttpStatus.TOO_MANY_REQUESTS.value()
+                || status == HttpStatus.BAD_GATEWAY.value()
+                || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    static boolean isTransportError(Throwable error) {
+        IOException ioError = find(error, IOException.class);
+        if (ioError != null) {
+            return !(ioError instanceof JsonProcessingException);
+        }
+        return find(error, ResourceAccessException.class) != null;
+    }
+
+    static long retryAfterMs(HttpHeaders headers) {
+        String retryAfter = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null || retryAfter.trim().isEmpty()) {
+            return -1;
+        }
+        retryAfter = retryAfter.trim();
+        try {
+            return Math.max(0, Long.parseLong(retryAfter) * 1000);
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+            } catch (DateTimeParseException ignored) {
+                return -1;
+            }
+        }
+    }
+
+    private static <T extends Throwable> T find(Throwable error, Class<T> type) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.rqchallenge.integration.stream;
+
+import com.example.rqchallenge.dto.Employee;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads an upstream {@code {"status": ..., "data": [...]}} payload token by token, handing each element
+ * of {@code data} to a consumer as soon as it is parsed, so the full list is never held in memory.
+ */
+@Component
+public class EmployeeStreamReader {
+
+    private static final String DATA_FIELD = "data";
+    private static final String STATUS_FIELD = "status";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader employeeReader;
+
+    @Autowired
+    public EmployeeStreamReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.employeeReader = objectMapper.readerFor(Employee.class);
+    }
+
+    public String read(InputStream body, Consumer<Employee> consumer) throws IOException {
+        String status = null;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object but found " + parser.currentToken());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (DATA_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    JsonToken element;
+                    while ((element = parser.nextToken()) != JsonToken.END_ARRAY && element != null) {
+                        if (element == JsonToken.START_OBJECT) {
+                            consumer.accept(employeeReader.readValue(parser));
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if (STATUS_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+                    status = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Reactive variant of {@link #read(InputStream, Consumer)} for a body that arrives as buffers. Each element
+     * of {@code data} is emitted as soon as its last byte has arrived, and buffers are only requested as fast
+     * as the elements are consumed. A malformed or truncated body fails with {@link UncheckedIOException}.
+     */
+    public Flux<Employee> read(Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+            IncrementalReader reader;
+            try {
+                reader = new IncrementalReader(objectMapper.getFactory().createNonBlockingByteArrayParser());
+            } catch (IOException e) {
+                return Flux.error(new UncheckedIOException(e));
+            }
+            return body.concatMapIterable(reader::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(reader.end())))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+        });
+    }
+
+    /**
+     * Tracks where the non-blocking parser is in the payload between buffers, copying the tokens of the
+     * current {@code data} element until it is complete.
+     */
+    private final class IncrementalReader {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private boolean started;
+        private int depth;
+        private String field;
+        private boolean inData;
+        private TokenBuffer element;
+
+        private IncrementalReader(JsonParser parser) {
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        private List<Employee> feed(DataBuffer buffer) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            DataBufferUtils.release(buffer);
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private List<Employee> end() {
+            feeder.endOfInput();
+            try {
+                List<Employee> employees = drain();
+                if (!started || depth != 0) {
+                    throw new IOException("Upstream response ended before the JSON object was complete");
+                }
+                parser.close();
+                return employees;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private List<Employee> drain() throws IOException {
+            List<Employee> employees = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (!started) {
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new IOException("Expected a JSON object but found " + token);
+                    }
+                    started = true;
+                }
+                if (token.isStructStart()) {
+                    depth++;
+                    if (depth == 2 && token == JsonToken.START_ARRAY && DATA_FIELD.equals(field)) {
+                        inData = true;
+                    } else if (depth == 3 && inData && token == JsonToken.START_OBJECT) {
+                        element = new TokenBuffer(parser);
+                    }
+                } else if (depth == 1 && token == JsonToken.FIELD_NAME) {
+                    field = parser.getCurrentName();
+                }
+                if (element != null) {
+                    element.copyCurrentEvent(parser);
+                }
+                if (token.isStructEnd()) {
+                    depth--;
+                    if (depth == 2 && element != null) {
+                        employees.add(employeeReader.readValue(element.asParser()));
+                        element = null;
+                    } else if (depth == 1) {
+                        inData = false;
+                    }
+                }
+            }
+            return employees;
+        }
+    }
+}
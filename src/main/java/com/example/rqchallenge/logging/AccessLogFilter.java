@@ -0,0 +1,98 @@
+package com.example.rqchallenge.logging;
+
+import com.example.rqchallenge.config.EmployeeLoggingConfigs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one structured line per request to the {@code com.example.rqchallenge.access} logger once the
+ * response is complete, including requests handled asynchronously. Successful requests are sampled at
+ * {@code access-log-sample-rate}; failed and slow ones are always logged. Actuator requests are skipped.
+ */
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    public static final String ACCESS_LOGGER = "com.example.rqchallenge.access";
+
+    private static final Logger accessLogger = LoggerFactory.getLogger(ACCESS_LOGGER);
+
+    private final EmployeeLoggingConfigs loggingConfigs;
+
+    @Autowired
+    public AccessLogFilter(EmployeeLoggingConfigs loggingConfigs) {
+        this.loggingConfigs = loggingConfigs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !loggingConfigs.isAccessLogEnabled() || !accessLogger.isInfoEnabled()
+                || request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        log(request, response.getStatus(), start, true);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                log(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(), start, false);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, int status, long startNanos, boolean async) {
+        long durationNanos = System.nanoTime() - startNanos;
+        if (!shouldLog(status, durationNanos)) {
+            return;
+        }
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        accessLogger.info("method={} path={} route={} status={} durationMs={} async={}", request.getMethod(),
+                request.getRequestURI(), route == null ? "-" : route, status,
+                TimeUnit.NANOSECONDS.toMicros(durationNanos) / 1000.0, async);
+    }
+
+    private boolean shouldLog(int status, long durationNanos) {
+        if (status >= 400 || durationNanos >= TimeUnit.MILLISECONDS.toNanos(loggingConfigs.getAccessLogSlowRequestMs())) {
+            return true;
+        }
+        double sampleRate = loggingConfigs.getAccessLogSampleRate();
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.rqchallenge.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets each logger under {@code loggerPrefix} emit at most {@code maxEventsPerSecond} INFO and lower events
+ * per second and denies the rest before they are formatted. WARN and ERROR events and the loggers listed
+ * as {@code exclude} are never limited. Runs lock-free: each logger keeps its current second and count in
+ * a single {@link AtomicLong}.
+ */
+public class LoggerRateLimitFilter extends TurboFilter {
+
+    private static final AtomicLong suppressedEvents = new AtomicLong();
+
+    private final ConcurrentHashMap<String, AtomicLong> windows = new ConcurrentHashMap<>();
+    private final List<String> excludes = new ArrayList<>();
+    private String loggerPrefix = "";
+    private int maxEventsPerSecond = 100;
+
+    public static long getSuppressedEvents() {
+        return suppressedEvents.get();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void addExclude(String loggerName) {
+        excludes.add(loggerName);
+    }
+
+    public void setMaxEventsPerSecond(int maxEventsPerSecond) {
+        this.maxEventsPerSecond = maxEventsPerSecond;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        if (!name.startsWith(loggerPrefix) || excludes.contains(name)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (tryAcquire(windows.computeIfAbsent(name, key -> new AtomicLong()), System.nanoTime() / 1_000_000_000L)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressedEvents.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    private boolean tryAcquire(AtomicLong window, long second) {
+        while (true) {
+            long state = window.get();
+            boolean sameSecond = state >>> 32 == (second & 0xFFFFFFFFL);
+            int count = (int) state;
+            if (sameSecond && count >= maxEventsPerSecond) {
+                return false;
+            }
+            long next = sameSecond ? state + 1 : (second & 0xFFFFFFFFL) << 32 | 1;
+            if (window.compareAndSet(state, next)) {
+                return true;
+            }
+        }
+    }
+}
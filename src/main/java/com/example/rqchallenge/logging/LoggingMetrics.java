@@ -0,0 +1,52 @@
+package com.example.rqchallenge.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Exposes the async logging pipeline: events dropped by {@link MeteredAsyncAppender}, events suppressed by
+ * {@link LoggerRateLimitFilter} and the number of events waiting in the async queues. Appenders are looked
+ * up on every read because Spring Boot may reinitialise logging after startup.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.logging.async.dropped", this, metrics -> MeteredAsyncAppender.getDroppedEvents())
+                .description("Log events dropped because the async appender queue was full")
+                .register(registry);
+        FunctionCounter.builder("employee.logging.rate_limited", this, metrics -> LoggerRateLimitFilter.getSuppressedEvents())
+                .description("Log events denied by the per-logger rate limit")
+                .register(registry);
+        Gauge.builder("employee.logging.async.queue.size", this, LoggingMetrics::queuedEvents)
+                .description("Log events waiting to be written by the async appender")
+                .register(registry);
+    }
+
+    private double queuedEvents() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext)) {
+            return 0;
+        }
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        int queued = 0;
+        Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            Appender<ILoggingEvent> appender = appenders.next();
+            if (appender instanceof MeteredAsyncAppender) {
+                queued += ((MeteredAsyncAppender) appender).getNumberOfElementsInQueue();
+            }
+        }
+        return queued;
+    }
+}
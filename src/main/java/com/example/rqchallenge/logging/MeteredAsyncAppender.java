@@ -0,0 +1,33 @@
+package com.example.rqchallenge.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link AsyncAppender} that counts the events it drops: INFO and lower once the queue is past its
+ * discarding threshold, and any event when the queue is full and {@code neverBlock} is set. The count is
+ * kept across logging reinitialisation so it can be exposed as a monotonic counter.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private static final AtomicLong droppedEvents = new AtomicLong();
+
+    public static long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isStarted() && willDrop(event)) {
+            droppedEvents.incrementAndGet();
+        }
+        super.append(event);
+    }
+
+    private boolean willDrop(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        return (remaining < getDiscardingThreshold() && isDiscardable(event)) || (isNeverBlock() && remaining == 0);
+    }
+}
@@ -1,23 +1,59 @@
 package com.example.rqchallenge.service;
 
 import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeChanges;
+import com.example.rqchallenge.dto.EmployeePage;
+import com.example.rqchallenge.dto.EmployeeQuery;
+import com.example.rqchallenge.dto.EmployeeStats;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface IEmployeeService {
 
     List<Employee> getAllEmployees();
 
+    String getEmployeesVersion();
+
+    EmployeeChanges getEmployeeChanges(long since);
+
     List<Employee> getEmployeesByNameSearch(String name);
 
+    List<Employee> getEmployeesByNameSearch(String name, int offset, int limit);
+
+    EmployeePage queryEmployees(EmployeeQuery query);
+
     Employee getEmployeeById(String id);
 
     Integer getHighestSalaryOfEmployees();
 
+    EmployeeStats getEmployeeStats(int ageBandWidth, double[] percentiles);
+
     List<String> getTop10HighestEarningEmployeeNames();
 
+    List<String> getTopNHighestEarningEmployeeNames(int n);
+
     Employee createEmployee(String name, int salary, int age);
 
     String deleteEmployee(String id);
 
+    List<CompletableFuture<Employee>> createEmployees(List<Employee> employees);
+
+    List<CompletableFuture<Void>> deleteEmployees(List<String> ids);
+
+    List<CompletableFuture<Employee>> getEmployeesByIds(List<String> ids);
+
+    CompletableFuture<List<Employee>> getAllEmployeesAsync();
+
+    CompletableFuture<List<Employee>> getEmployeesByNameSearchAsync(String name, int offset, int limit);
+
+    CompletableFuture<Employee> getEmployeeByIdAsync(String id);
+
+    CompletableFuture<Integer> getHighestSalaryOfEmployeesAsync();
+
+    CompletableFuture<List<String>> getTopNHighestEarningEmployeeNamesAsync(int n);
+
+    CompletableFuture<Employee> createEmployeeAsync(String name, int salary, int age);
+
+    CompletableFuture<Void> deleteEmployeeAsync(String id);
 
 }
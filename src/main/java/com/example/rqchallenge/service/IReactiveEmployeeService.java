@@ -0,0 +1,28 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeChanges;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveEmployeeService {
+
+    Flux<Employee> getAllEmployees();
+
+    Flux<Employee> getEmployeesByNameSearch(String name, int offset, int limit);
+
+    Mono<EmployeeChanges> getEmployeeChanges(long since);
+
+    Mono<Employee> getEmployeeById(String id);
+
+    Mono<Integer> getHighestSalaryOfEmployees();
+
+    Flux<String> getTop10HighestEarningEmployeeNames();
+
+    Flux<String> getTopNHighestEarningEmployeeNames(int n);
+
+    Mono<Employee> createEmployee(String name, int salary, int age);
+
+    Mono<Void> deleteEmployee(String id);
+
+}
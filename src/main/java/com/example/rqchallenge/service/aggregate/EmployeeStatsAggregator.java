@@ -0,0 +1,121 @@
+package com.example.rqchallenge.service.aggregate;
+
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeStats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Collects every statistic of {@link EmployeeStats} in one pass over primitive accumulators. Accepts streamed
+ * employees or snapshot rows, and partial aggregators can be merged, so a large snapshot can be split across
+ * threads.
+ */
+public class EmployeeStatsAggregator implements Consumer<Employee> {
+
+    private final int ageBandWidth;
+    private final IntSummaryStatistics salaries = new IntSummaryStatistics();
+    private final IntSummaryStatistics ages = new IntSummaryStatistics();
+    private final PercentileSketch salarySketch;
+    private long count;
+    private long[] bandCounts = new long[8];
+    private long[] bandSalaryCounts = new long[8];
+    private long[] bandSalarySums = new long[8];
+
+    public EmployeeStatsAggregator(int ageBandWidth, double relativeAccuracy) {
+        this.ageBandWidth = ageBandWidth;
+        this.salarySketch = new PercentileSketch(relativeAccuracy);
+    }
+
+    @Override
+    public void accept(Employee employee) {
+        Integer salary = employee.getEmployeeSalary();
+        Integer age = employee.getEmployeeAge();
+        add(salary != null, salary == null ? 0 : salary, age != null, age == null ? 0 : age);
+    }
+
+    public void accept(EmployeeColumns columns, int row) {
+        add(columns.hasSalary(row), columns.salaryAt(row), columns.hasAge(row), columns.ageAt(row));
+    }
+
+    public EmployeeStatsAggregator merge(EmployeeStatsAggregator other) {
+        count += other.count;
+        salaries.combine(other.salaries);
+        ages.combine(other.ages);
+        salarySketch.merge(other.salarySketch);
+        ensureBands(other.bandCounts.length - 1);
+        for (int band = 0; band < other.bandCounts.length; band++) {
+            bandCounts[band] += other.bandCounts[band];
+            bandSalaryCounts[band] += other.bandSalaryCounts[band];
+            bandSalarySums[band] += other.bandSalarySums[band];
+        }
+        return this;
+    }
+
+    public EmployeeStats getStats(double[] percentiles) {
+        Map<String, Integer> salaryPercentiles = null;
+        if (salarySketch.getCount() > 0) {
+            salaryPercentiles = new LinkedHashMap<>();
+            for (double percentile : percentiles) {
+                salaryPercentiles.put(percentileKey(percentile), salarySketch.percentile(percentile));
+            }
+        }
+
+        List<EmployeeStats.AgeBand> bands = new ArrayList<>();
+        for (int band = 0; band < bandCounts.length; band++) {
+            if (bandCounts[band] > 0) {
+                Double averageSalary = bandSalaryCounts[band] == 0 ? null : (double) bandSalarySums[band] / bandSalaryCounts[band];
+                bands.add(new EmployeeStats.AgeBand(band * ageBandWidth, (band + 1) * ageBandWidth - 1,
+                        bandCounts[band], averageSalary));
+            }
+        }
+        return new EmployeeStats(count, valueStats(salaries, salaryPercentiles), valueStats(ages, null), bands);
+    }
+
+    private void add(boolean hasSalary, int salary, boolean hasAge, int age) {
+        count++;
+        if (hasSalary) {
+            salaries.accept(salary);
+            salarySketch.add(salary);
+        }
+        if (hasAge) {
+            ages.accept(age);
+            if (age >= 0) {
+                int band = age / ageBandWidth;
+                ensureBands(band);
+                bandCounts[band]++;
+                if (hasSalary) {
+                    bandSalaryCounts[band]++;
+                    bandSalarySums[band] += salary;
+                }
+            }
+        }
+    }
+
+    private void ensureBands(int band) {
+        if (band >= bandCounts.length) {
+            int length = Math.max(band + 1, bandCounts.length * 2);
+            bandCounts = Arrays.copyOf(bandCounts, length);
+            bandSalaryCounts = Arrays.copyOf(bandSalaryCounts, length);
+            bandSalarySums = Arrays.copyOf(bandSalarySums, length);
+        }
+    }
+
+    private static EmployeeStats.ValueStats valueStats(IntSummaryStatistics statistics, Map<String, Integer> percentiles) {
+        if (statistics.getCount() == 0) {
+            return new EmployeeStats.ValueStats(0, null, null, 0, null, null);
+        }
+        return new EmployeeStats.ValueStats(statistics.getCount(), statistics.getMin(), statistics.getMax(),
+                statistics.getSum(), statistics.getAverage(), percentiles);
+    }
+
+    private static String percentileKey(double percentile) {
+        return percentile == Math.rint(percentile) ? "p" + (long) percentile : "p" + percentile;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.rqchallenge.service.aggregate;
+
+import com.example.rqchallenge.dto.Employee;
+
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+
+public class MaxSalaryAggregator implements Consumer<Employee> {
+
+    private int highestSalary = Integer.MIN_VALUE;
+    private boolean seen;
+
+    @Override
+    public void accept(Employee employee) {
+        Integer salary = employee.getEmployeeSalary();
+        if (salary != null && (!seen || salary > highestSalary)) {
+            highestSalary = salary;
+            seen = true;
+        }
+    }
+
+    public OptionalInt getHighestSalary() {
+        return seen ? OptionalInt.of(highestSalary) : OptionalInt.empty();
+    }
+}
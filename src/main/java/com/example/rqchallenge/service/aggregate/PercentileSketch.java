@@ -0,0 +1,89 @@
+package com.example.rqchallenge.service.aggregate;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable percentile sketch over int values with a bounded relative error, after DDSketch. Positive values fall
+ * into logarithmic buckets whose bounds grow by {@code gamma = (1 + a) / (1 - a)}, so any percentile is answered
+ * within relative accuracy {@code a} of the true value from about {@code ln(max) / ln(gamma)} counters, however
+ * many values were added. Values below one share a single bucket.
+ */
+public final class PercentileSketch {
+
+    private final double gamma;
+    private final double logGamma;
+    private long[] counts = new long[64];
+    private long belowOne;
+    private long count;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    public PercentileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(int value) {
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (value < 1) {
+            belowOne++;
+            return;
+        }
+        int index = (int) Math.ceil(Math.log(value) / logGamma);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length * 2));
+        }
+        counts[index]++;
+    }
+
+    /**
+     * Adds the values of {@code other}, which must have been created with the same relative accuracy.
+     */
+    public void merge(PercentileSketch other) {
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        belowOne += other.belowOne;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Returns the estimated value at {@code percentile}, between 0 and 100. The lowest and highest ranks return
+     * the exact minimum and maximum, and estimates are clamped to them. Throws if nothing was added.
+     */
+    public int percentile(double percentile) {
+        if (count == 0) {
+            throw new IllegalStateException("No values were added");
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        if (rank >= count) {
+            return max;
+        }
+        long seen = belowOne;
+        if (rank == 1 || seen >= rank) {
+            return min;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long estimate = Math.round(2 * Math.pow(gamma, i) / (gamma + 1));
+                return (int) Math.max(min, Math.min(max, estimate));
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.rqchallenge.service.aggregate;
+
+import com.example.rqchallenge.dto.Employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the {@code k} best paid employees seen so far in a primitive min-heap whose root is the weakest
+ * entry: the lowest salary, or for equal salaries the one seen last. Results match a stable sort of the
+ * whole stream by descending salary.
+ */
+public class TopSalaryAggregator implements Consumer<Employee> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int k;
+    private int[] salaries;
+    private long[] sequences;
+    private String[] names;
+    private int size;
+    private long seen;
+
+    public TopSalaryAggregator(int k) {
+        this.k = k;
+        int capacity = Math.min(k, INITIAL_CAPACITY);
+        this.salaries = new int[capacity];
+        this.sequences = new long[capacity];
+        this.names = new String[capacity];
+    }
+
+    @Override
+    public void accept(Employee employee) {
+        Integer salary = employee.getEmployeeSalary();
+        long sequence = seen++;
+        if (salary == null || k == 0) {
+            return;
+        }
+        if (size < k) {
+            if (size == salaries.length) {
+                grow();
+            }
+            set(size, salary, sequence, employee.getEmployeeName());
+            siftUp(size++);
+        } else if (salary > salaries[0]) {
+            set(0, salary, sequence, employee.getEmployeeName());
+            siftDown(0);
+        }
+    }
+
+    public List<String> getTopNames() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> weaker(a, b) ? 1 : weaker(b, a) ? -1 : 0);
+        List<String> topNames = new ArrayList<>(size);
+        for (int slot : order) {
+            topNames.add(names[slot]);
+        }
+        return topNames;
+    }
+
+    private boolean weaker(int a, int b) {
+        return salaries[a] < salaries[b] || (salaries[a] == salaries[b] && sequences[a] > sequences[b]);
+    }
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (!weaker(slot, parent)) {
+                return;
+            }
+            swap(slot, parent);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot) {
+        while (true) {
+            int left = 2 * slot + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int weakest = right < size && weaker(right, left) ? right : left;
+            if (!weaker(weakest, slot)) {
+                return;
+            }
+            swap(slot, weakest);
+            slot = weakest;
+        }
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min(k, salaries.length * 2L);
+        salaries = Arrays.copyOf(salaries, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        names = Arrays.copyOf(names, capacity);
+    }
+
+    private void set(int slot, int salary, long sequence, String name) {
+        salaries[slot] = salary;
+        sequences[slot] = sequence;
+        names[slot] = name;
+    }
+
+    private void swap(int a, int b) {
+        int salary = salaries[a];
+        long sequence = sequences[a];
+        String name = names[a];
+        set(a, salaries[b], sequences[b], names[b]);
+        set(b, salary, sequence, name);
+    }
+}
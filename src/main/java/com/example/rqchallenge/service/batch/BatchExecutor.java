@@ -0,0 +1,74 @@
+package com.example.rqchallenge.service.batch;
+
+import com.example.rqchallenge.config.EmployeeBatchConfigs;
+import com.example.rqchallenge.exception.EmployeeServiceException;
+import com.example.rqchallenge.integration.resilience.RateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Fans a batch out to one asynchronous call per item. At most {@code concurrency} calls of a batch are
+ * outstanding at once. Write calls start no faster than {@code rate-per-second}, a limit shared by all
+ * batches; reads are bounded by {@code read-concurrency} alone. A failed call fails only its own item.
+ */
+@Component
+public class BatchExecutor {
+
+    private final EmployeeBatchConfigs batchConfigs;
+    private final RateLimiter rateLimiter;
+
+    @Autowired
+    public BatchExecutor(EmployeeBatchConfigs batchConfigs) {
+        this.batchConfigs = batchConfigs;
+        this.rateLimiter = new RateLimiter(batchConfigs.getRatePerSecond());
+    }
+
+    /**
+     * Blocks until every call has completed and returns their results in item order.
+     */
+    public <T, R> List<CompletableFuture<R>> execute(List<T> items, Function<T, CompletableFuture<R>> call) {
+        return fanOut(items, call, batchConfigs.getConcurrency(), rateLimiter);
+    }
+
+    /**
+     * Like {@link #execute}, for calls that change nothing upstream and so are not rate limited.
+     */
+    public <T, R> List<CompletableFuture<R>> executeReads(List<T> items, Function<T, CompletableFuture<R>> call) {
+        return fanOut(items, call, batchConfigs.getReadConcurrency(), null);
+    }
+
+    private <T, R> List<CompletableFuture<R>> fanOut(List<T> items, Function<T, CompletableFuture<R>> call,
+                                                     int concurrency, RateLimiter rateLimiter) {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        List<CompletableFuture<R>> results = new ArrayList<>(items.size());
+        try {
+            for (T item : items) {
+                permits.acquire();
+                if (rateLimiter != null) {
+                    rateLimiter.acquire();
+                }
+                CompletableFuture<R> result;
+                try {
+                    result = call.apply(item);
+                } catch (RuntimeException e) {
+                    result = CompletableFuture.failedFuture(e);
+                }
+                result.whenComplete((value, error) -> permits.release());
+                results.add(result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            while (results.size() < items.size()) {
+                results.add(CompletableFuture.failedFuture(new EmployeeServiceException("Batch was interrupted")));
+            }
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).handle((ignored, error) -> null).join();
+        return results;
+    }
+}
@@ -1,138 +1,625 @@
 package com.example.rqchallenge.service.impl;
 
+import com.example.rqchallenge.cache.EmployeeByIdCache;
+import com.example.rqchallenge.cache.EmployeeSnapshot;
+import com.example.rqchallenge.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+import com.example.rqchallenge.config.EmployeeBatchConfigs;
+import com.example.rqchallenge.config.EmployeeQueryConfigs;
 import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeChanges;
+import com.example.rqchallenge.dto.EmployeePage;
+import com.example.rqchallenge.dto.EmployeeQuery;
+import com.example.rqchallenge.dto.EmployeeStats;
+import com.example.rqchallenge.exception.EmployeeCircuitOpenException;
 import com.example.rqchallenge.exception.EmployeeCreationException;
 import com.example.rqchallenge.exception.EmployeeIntegrationException;
 import com.example.rqchallenge.exception.EmployeeNotFoundException;
 import com.example.rqchallenge.exception.EmployeeServiceException;
+import com.example.rqchallenge.integration.AsyncEmployeeIntegration;
 import com.example.rqchallenge.integration.EmployeeIntegration;
 import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
-import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
 import com.example.rqchallenge.service.IEmployeeService;
+import com.example.rqchallenge.service.aggregate.EmployeeStatsAggregator;
+import com.example.rqchallenge.service.aggregate.MaxSalaryAggregator;
+import com.example.rqchallenge.service.aggregate.TopSalaryAggregator;
+import com.example.rqchallenge.service.batch.BatchExecutor;
+import com.example.rqchallenge.service.query.EmployeeQueryEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 @Service
 public class EmployeeService implements IEmployeeService {
 
+    private static final int TOP_EARNERS_LIMIT = 10;
+
     private final EmployeeIntegration employeeIntegration;
+    private final AsyncEmployeeIntegration asyncEmployeeIntegration;
+    private final EmployeeSnapshotCache employeeSnapshotCache;
+    private final EmployeeByIdCache employeeByIdCache;
+    private final BatchExecutor batchExecutor;
+    private final EmployeeBatchConfigs batchConfigs;
+    private final EmployeeQueryConfigs queryConfigs;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
-    public EmployeeService(EmployeeIntegration employeeIntegration) {
+    public EmployeeService(EmployeeIntegration employeeIntegration, AsyncEmployeeIntegration asyncEmployeeIntegration,
+                           EmployeeSnapshotCache employeeSnapshotCache, EmployeeByIdCache employeeByIdCache,
+                           BatchExecutor batchExecutor, EmployeeBatchConfigs batchConfigs,
+                           EmployeeQueryConfigs queryConfigs, MeterRegistry meterRegistry) {
         this.employeeIntegration = employeeIntegration;
+        this.asyncEmployeeIntegration = asyncEmployeeIntegration;
+        this.employeeSnapshotCache = employeeSnapshotCache;
+        this.employeeByIdCache = employeeByIdCache;
+        this.batchExecutor = batchExecutor;
+        this.batchConfigs = batchConfigs;
+        this.queryConfigs = queryConfigs;
+        this.meterRegistry = meterRegistry;
     }
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
 
     @Override
     public List<Employee> getAllEmployees() {
-        logger.info("Received request to load all the employees.");
+        return time("get_all", () -> {
+            logger.debug("Received request to load all the employees.");
+            try {
+                List<Employee> employees = employeeSnapshotCache.getSnapshot().getEmployees();
+                logger.debug("Done loading all the employees.");
+                return employees;
+            } catch (EmployeeIntegrationException e) {
+                logger.error("Error occurred while fetching all the employees. Error : {}", e.getMessage());
+                throw new EmployeeServiceException("Error fetching all employees", e);
+            }
+        });
+    }
+
+    /**
+     * Version of the employee data the other reads currently answer from, or null when the snapshot cache is off
+     * and there is no held data to version.
+     */
+    @Override
+    public String getEmployeesVersion() {
+        if (!employeeSnapshotCache.isEnabled()) {
+            return null;
+        }
         try {
-            GetAllEmployeeResponseDto getAllEmployeeResponseDto = employeeIntegration.getAllEmployees();
-            logger.info("Done loading all the employees.");
-            return getAllEmployeeResponseDto.getData();
+            return employeeSnapshotCache.getSnapshot().getVersion();
         } catch (EmployeeIntegrationException e) {
-            logger.error("Error occurred while fetching all the employees. Error : {}", e.getMessage());
             throw new EmployeeServiceException("Error fetching all employees", e);
         }
     }
 
+    /**
+     * Changes since version {@code since}, answered after making sure the current data has been loaded, so the
+     * change log has seen it.
+     */
+    @Override
+    public EmployeeChanges getEmployeeChanges(long since) {
+        return time("changes", () -> {
+            logger.debug("Received request to load employee changes since version {}.", since);
+            try {
+                employeeSnapshotCache.getSnapshot();
+                EmployeeChanges changes = employeeSnapshotCache.getChangeLog().changesSince(since);
+                logger.debug("Done loading employee changes up to version {}.", changes.getVersion());
+                return changes;
+            } catch (EmployeeIntegrationException e) {
+                logger.error("Error occurred while fetching employee changes. Error : {}", e.getMessage());
+                throw new EmployeeServiceException("Error fetching employee changes", e);
+            }
+        });
+    }
+
     @Override
     public List<Employee> getEmployeesByNameSearch(String name) {
-        logger.info("Received request to load all the employees with search string : {}.", name);
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Search name must not be null or empty");
-        }
+        return getEmployeesByNameSearch(name, 0, Integer.MAX_VALUE);
+    }
 
-        try {
-            GetAllEmployeeResponseDto getAllEmployeeResponseDto = employeeIntegration.getAllEmployees();
-            logger.info("Done loading all the employees with search string : {}.", name);
-            return getAllEmployeeResponseDto.getData().stream()
-                    .filter(employee -> employee.getEmployeeName().toLowerCase().contains(name.toLowerCase()))
-                    .collect(Collectors.toList());
-        } catch (EmployeeIntegrationException e) {
-            logger.error("Error occurred while searching for employee. Error : {}", e.getMessage());
-            throw new EmployeeServiceException("Error searching for employees by name", e);
-        }
+    @Override
+    public List<Employee> getEmployeesByNameSearch(String name, int offset, int limit) {
+        return time("search", () -> {
+            logger.debug("Received request to load all the employees with search string : {}.", name);
+            validateSearch(name, offset, limit);
+
+            try {
+                List<Employee> employees = search(employeeSnapshotCache.getSnapshot(), name, offset, limit);
+                logger.debug("Done loading all the employees with search string : {}.", name);
+                return employees;
+            } catch (EmployeeIntegrationException e) {
+                logger.error("Error occurred while searching for employee. Error : {}", e.getMessage());
+                throw new EmployeeServiceException("Error searching for employees by name", e);
+            }
+        });
+    }
+
+    @Override
+    public EmployeePage queryEmployees(EmployeeQuery query) {
+        return time("query", () -> {
+            logger.debug("Received request to query employees.");
+            EmployeeQueryEngine engine = new EmployeeQueryEngine(query, validateQuery(query));
+            try {
+                EmployeePage page = engine.execute(employeeSnapshotCache.getSnapshot());
+                logger.debug("Done querying employees, returning {}.", page.getEmployees().size());
+                return page;
+            } catch (EmployeeIntegrationException e) {
+                logger.error("Error occurred while querying employees. Error : {}", e.getMessage());
+                throw new EmployeeServiceException("Error querying employees", e);
+            }
+        });
     }
 
     @Override
     public Employee getEmployeeById(String id) {
-        logger.info("Received request to load employees by id: {}.", id);
-        validateId(id);
-        try {
-            EmployeeResponseDto employeeResponseDto = employeeIntegration.getEmployeeById(id);
-            logger.info("Done loading employee details.");
-            return employeeResponseDto.getData();
-        } catch (EmployeeNotFoundException e) {
-            logger.error("Unable to find employee with id : {}", id);
-            throw e;
-        } catch (EmployeeIntegrationException e) {
-            throw new EmployeeServiceException("Error fetching employee with id: " + id, e);
-        }
+        return time("get_by_id", () -> {
+            logger.debug("Received request to load employees by id: {}.", id);
+            validateId(id);
+            try {
+                Employee employee = employeeByIdCache.get(id);
+                logger.debug("Done loading employee details.");
+                return employee;
+            } catch (EmployeeNotFoundException e) {
+                logger.error("Unable to find employee with id : {}", id);
+                throw e;
+            } catch (EmployeeIntegrationException e) {
+                throw new EmployeeServiceException("Error fetching employee with id: " + id, e);
+            }
+        });
     }
 
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        logger.info("Received request to fetch highest salary.");
-        try {
-            GetAllEmployeeResponseDto getAllEmployeeResponseDto = employeeIntegration.getAllEmployees();
-            Optional<Integer> highestSalary = getAllEmployeeResponseDto.getData().stream()
-                    .map(Employee::getEmployeeSalary)
-                    .max(Integer::compareTo);
-            return highestSalary.orElseThrow(() -> new EmployeeServiceException("No employees found to determine highest salary"));
-        } catch (EmployeeIntegrationException e) {
-            throw new EmployeeServiceException("Error fetching highest salary of employees", e);
-        }
+        return time("highest_salary", () -> {
+            logger.debug("Received request to fetch highest salary.");
+            try {
+                if (!employeeSnapshotCache.isEnabled()) {
+                    MaxSalaryAggregator aggregator = new MaxSalaryAggregator();
+                    try {
+                        employeeIntegration.streamAllEmployees(aggregator);
+                    } catch (EmployeeCircuitOpenException e) {
+                        return highestSalary(lastSnapshot(e).getSalaryIndex().getHighestSalary());
+                    }
+                    return highestSalary(aggregator.getHighestSalary());
+                }
+                return highestSalary(employeeSnapshotCache.getSnapshot().getSalaryIndex().getHighestSalary());
+            } catch (EmployeeIntegrationException e) {
+                throw new EmployeeServiceException("Error fetching highest salary of employees", e);
+            }
+        });
+    }
+
+    /**
+     * Computes all statistics in one pass, from the streamed upstream list when the snapshot cache is off. A
+     * snapshot of at least {@code stats-parallel-threshold} employees is split across the common fork-join pool.
+     */
+    @Override
+    public EmployeeStats getEmployeeStats(int ageBandWidth, double[] percentiles) {
+        return time("stats", () -> {
+            logger.debug("Received request to compute employee statistics.");
+            validateStats(ageBandWidth, percentiles);
+            try {
+                if (!employeeSnapshotCache.isEnabled()) {
+                    EmployeeStatsAggregator aggregator = statsAggregator(ageBandWidth);
+                    try {
+                        employeeIntegration.streamAllEmployees(aggregator);
+                    } catch (EmployeeCircuitOpenException e) {
+                        return aggregate(lastSnapshot(e), ageBandWidth).getStats(percentiles);
+                    }
+                    return aggregator.getStats(percentiles);
+                }
+                return aggregate(employeeSnapshotCache.getSnapshot(), ageBandWidth).getStats(percentiles);
+            } catch (EmployeeIntegrationException e) {
+                throw new EmployeeServiceException("Error computing employee statistics", e);
+            }
+        });
     }
 
     @Override
     public List<String> getTop10HighestEarningEmployeeNames() {
-        logger.info("Received request to fetch Top 10 Highest Earning Employees.");
-        try {
-            GetAllEmployeeResponseDto getAllEmployeeResponseDto = employeeIntegration.getAllEmployees();
-            return getAllEmployeeResponseDto.getData().stream()
-                    .sorted((e1, e2) -> Integer.compare(e2.getEmployeeSalary(), e1.getEmployeeSalary()))
-                    .limit(10)
-                    .map(Employee::getEmployeeName)
-                    .collect(Collectors.toList());
-        } catch (EmployeeIntegrationException e) {
-            throw new EmployeeServiceException("Error fetching top 10 highest earning employee names", e);
-        }
+        logger.debug("Received request to fetch Top 10 Highest Earning Employees.");
+        return getTopNHighestEarningEmployeeNames(TOP_EARNERS_LIMIT);
+    }
+
+    @Override
+    public List<String> getTopNHighestEarningEmployeeNames(int n) {
+        return time("top_earners", () -> {
+            logger.debug("Received request to fetch Top {} Highest Earning Employees.", n);
+            validateTopN(n);
+            try {
+                if (!employeeSnapshotCache.isEnabled()) {
+                    TopSalaryAggregator aggregator = new TopSalaryAggregator(n);
+                    try {
+                        employeeIntegration.streamAllEmployees(aggregator);
+                    } catch (EmployeeCircuitOpenException e) {
+                        return lastSnapshot(e).getSalaryIndex().getTopNames(n);
+                    }
+                    return aggregator.getTopNames();
+                }
+                return employeeSnapshotCache.getSnapshot().getSalaryIndex().getTopNames(n);
+            } catch (EmployeeIntegrationException e) {
+                throw new EmployeeServiceException("Error fetching top " + n + " highest earning employee names", e);
+            }
+        });
     }
 
     @Override
     public Employee createEmployee(String name, int salary, int age) {
-        logger.info("Received request to create new Employee.");
-        validateEmployeeData(name, salary, age);
+        return time("create", () -> {
+            logger.debug("Received request to create new Employee.");
+            validateEmployeeData(name, salary, age);
+            try {
+                EmployeeResponseDto employeeResponseDto = employeeIntegration.createEmployee(name, salary, age);
+                employeeSnapshotCache.employeeCreated(employeeResponseDto.getData());
+                logger.debug("Successfully created new Employee.");
+                return employeeResponseDto.getData();
+            } catch (EmployeeCreationException e) {
+                throw e;
+            } catch (EmployeeIntegrationException e) {
+                throw new EmployeeServiceException("Error creating employee", e);
+            }
+        });
+    }
+
+    @Override
+    public String deleteEmployee(String id) {
+        return time("delete", () -> {
+            logger.debug("Received request to delete employee with id : {}", id);
+            validateId(id);
+            try {
+                employeeIntegration.deleteEmployee(id);
+                employeeSnapshotCache.employeeDeleted(id);
+                employeeByIdCache.invalidate(id);
+                logger.debug("Successfully deleted employee with id : {}", id);
+                return null;
+            } catch (EmployeeNotFoundException e) {
+                throw e;
+            } catch (EmployeeIntegrationException e) {
+                throw new EmployeeServiceException("Error deleting employee with id: " + id, e);
+            }
+        });
+    }
+
+    /**
+     * Validates every employee before creating any, then creates them through the asynchronous path with the
+     * fan-out bounded by {@link BatchExecutor}. Each returned future holds the result of one employee.
+     */
+    @Override
+    public List<CompletableFuture<Employee>> createEmployees(List<Employee> employees) {
+        return time("create_batch", () -> {
+            logger.debug("Received request to create {} employees.", employees == null ? 0 : employees.size());
+            validateBatchSize(employees);
+            for (int i = 0; i < employees.size(); i++) {
+                Employee employee = employees.get(i);
+                validateBatchItem(i, () -> {
+                    if (employee == null) {
+                        throw new IllegalArgumentException("Employee must not be null");
+                    }
+                    validateEmployeeData(employee.getEmployeeName(), valueOf(employee.getEmployeeSalary()),
+                            valueOf(employee.getEmployeeAge()));
+                });
+            }
+            return batchExecutor.execute(employees, employee -> createEmployeeAsync(employee.getEmployeeName(),
+                    employee.getEmployeeSalary(), employee.getEmployeeAge()));
+        });
+    }
+
+    @Override
+    public List<CompletableFuture<Void>> deleteEmployees(List<String> ids) {
+        return time("delete_batch", () -> {
+            logger.debug("Received request to delete {} employees.", ids == null ? 0 : ids.size());
+            validateBatchSize(ids);
+            for (int i = 0; i < ids.size(); i++) {
+                String id = ids.get(i);
+                validateBatchItem(i, () -> validateId(id));
+            }
+            return batchExecutor.execute(ids, this::deleteEmployeeAsync);
+        });
+    }
+
+    /**
+     * Resolves every id from the employee snapshot when one is held, or when there are enough ids that a single
+     * list call is cheaper than one lookup each. Otherwise looks each id up through the by-id cache with the
+     * fan-out bounded by {@link BatchExecutor}. Results are in request order; a missing employee fails only its
+     * own future, with {@link EmployeeNotFoundException}.
+     */
+    @Override
+    public List<CompletableFuture<Employee>> getEmployeesByIds(List<String> ids) {
+        return time("get_by_ids", () -> {
+            logger.debug("Received request to load {} employees by id.", ids == null ? 0 : ids.size());
+            validateBatchSize(ids);
+            for (int i = 0; i < ids.size(); i++) {
+                String id = ids.get(i);
+                validateBatchItem(i, () -> validateId(id));
+            }
+            if (employeeSnapshotCache.hasServableSnapshot() || (employeeSnapshotCache.isEnabled()
+                    && ids.size() >= batchConfigs.getSnapshotLookupThreshold())) {
+                try {
+                    return lookup(employeeSnapshotCache.getSnapshot(), ids);
+                } catch (EmployeeIntegrationException e) {
+                    throw new EmployeeServiceException("Error fetching employees by id", e);
+                }
+            }
+            return batchExecutor.executeReads(ids, this::getEmployeeByIdAsync);
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployeesAsync() {
+        return timeAsync("get_all", () -> {
+            logger.debug("Received request to load all the employees asynchronously.");
+            return employeeSnapshotCache.getSnapshotAsync()
+                    .thenApply(EmployeeSnapshot::getEmployees)
+                    .exceptionally(e -> {
+                        throw serviceFailure("Error fetching all employees", e);
+                    });
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getEmployeesByNameSearchAsync(String name, int offset, int limit) {
+        return timeAsync("search", () -> {
+            logger.debug("Received request to load all the employees asynchronously with search string : {}.", name);
+            validateSearch(name, offset, limit);
+            return employeeSnapshotCache.getSnapshotAsync()
+                    .thenApply(snapshot -> search(snapshot, name, offset, limit))
+                    .exceptionally(e -> {
+                        throw serviceFailure("Error searching for employees by name", e);
+                    });
+        });
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeByIdAsync(String id) {
+        return timeAsync("get_by_id", () -> {
+            logger.debug("Received request to load employees asynchronously by id: {}.", id);
+            validateId(id);
+            return employeeByIdCache.getAsync(id)
+                    .exceptionally(e -> {
+                        throw serviceFailure("Error fetching employee with id: " + id, e);
+                    });
+        });
+    }
+
+    @Override
+    public CompletableFuture<Integer> getHighestSalaryOfEmployeesAsync() {
+        return timeAsync("highest_salary", () -> {
+            logger.debug("Received request to fetch highest salary asynchronously.");
+            return employeeSnapshotCache.getSnapshotAsync()
+                    .thenApply(snapshot -> highestSalary(snapshot.getSalaryIndex().getHighestSalary()))
+                    .exceptionally(e -> {
+                        throw serviceFailure("Error fetching highest salary of employees", e);
+                    });
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getTopNHighestEarningEmployeeNamesAsync(int n) {
+        return timeAsync("top_earners", () -> {
+            logger.debug("Received request to fetch Top {} Highest Earning Employees asynchronously.", n);
+            validateTopN(n);
+            return employeeSnapshotCache.getSnapshotAsync()
+                    .thenApply(snapshot -> snapshot.getSalaryIndex().getTopNames(n))
+                    .exceptionally(e -> {
+                        throw serviceFailure("Error fetching top " + n + " highest earning employee names", e);
+                    });
+        });
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployeeAsync(String name, int salary, int age) {
+        return timeAsync("create", () -> {
+            logger.debug("Received request to create new Employee asynchronously.");
+            validateEmployeeData(name, salary, age);
+            return asyncEmployeeIntegration.createEmployee(name, salary, age)
+                    .thenApply(employeeResponseDto -> {
+                        employeeSnapshotCache.employeeCreated(employeeResponseDto.getData());
+                        return employeeResponseDto.getData();
+                    })
+                    .exceptionally(e -> {
+                        throw serviceFailure("Error creating employee", e);
+                    });
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteEmployeeAsync(String id) {
+        return timeAsync("delete", () -> {
+            logger.debug("Received request to delete employee asynchronously with id : {}", id);
+            validateId(id);
+            return asyncEmployeeIntegration.deleteEmployee(id)
+                    .thenRun(() -> {
+                        employeeSnapshotCache.employeeDeleted(id);
+                        employeeByIdCache.invalidate(id);
+                    })
+                    .exceptionally(e -> {
+                        throw serviceFailure("Error deleting employee with id: " + id, e);
+                    });
+        });
+    }
+
+    private <T> T time(String operation, Supplier<T> call) {
+        long start = System.nanoTime();
         try {
-            EmployeeResponseDto employeeResponseDto = employeeIntegration.createEmployee(name, salary, age);
-            logger.info("Successfully created new Employee.");
-            return employeeResponseDto.getData();
-        } catch (EmployeeCreationException e) {
+            T result = call.get();
+            record(operation, "blocking", start, null);
+            return result;
+        } catch (RuntimeException e) {
+            record(operation, "blocking", start, e);
             throw e;
-        } catch (EmployeeIntegrationException e) {
-            throw new EmployeeServiceException("Error creating employee", e);
         }
     }
 
-    @Override
-    public String deleteEmployee(String id) {
-        logger.info("Received request to delete employee with id : {}", id);
-        validateId(id);
+    /** Times an asynchronous operation until its future completes. */
+    private <T> CompletableFuture<T> timeAsync(String operation, Supplier<CompletableFuture<T>> call) {
+        long start = System.nanoTime();
         try {
-            employeeIntegration.deleteEmployee(id);
-            logger.info("Successfully deleted employee with id : {}", id);
-            return null;
-        } catch (EmployeeNotFoundException e) {
+            return call.get().whenComplete((result, error) -> record(operation, "async", start, error));
+        } catch (RuntimeException e) {
+            record(operation, "async", start, e);
             throw e;
-        } catch (EmployeeIntegrationException e) {
-            throw new EmployeeServiceException("Error deleting employee with id: " + id, e);
+        }
+    }
+
+    private void record(String operation, String mode, long startNanos, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        Timer.builder("employee.service.operation")
+                .description("EmployeeService operations, asynchronous ones timed until their result is ready")
+                .tag("operation", operation)
+                .tag("mode", mode)
+                .tag("outcome", cause == null ? "SUCCESS" : "ERROR")
+                .tag("exception", cause == null ? "none" : cause.getClass().getSimpleName())
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private List<Employee> search(EmployeeSnapshot snapshot, String name, int offset, int limit) {
+        int[] rows = snapshot.getNameSearchIndex().search(name, offset, limit);
+        EmployeeColumns columns = snapshot.getColumns();
+        return new AbstractList<Employee>() {
+            @Override
+            public Employee get(int index) {
+                return columns.get(rows[index]);
+            }
+
+            @Override
+            public int size() {
+                return rows.length;
+            }
+        };
+    }
+
+    private List<CompletableFuture<Employee>> lookup(EmployeeSnapshot snapshot, List<String> ids) {
+        List<CompletableFuture<Employee>> results = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Employee employee = snapshot.findById(id);
+            results.add(employee != null ? CompletableFuture.completedFuture(employee)
+                    : CompletableFuture.failedFuture(new EmployeeNotFoundException("Employee not found with id: " + id)));
+        }
+        return results;
+    }
+
+    private EmployeeStatsAggregator aggregate(EmployeeSnapshot snapshot, int ageBandWidth) {
+        EmployeeColumns columns = snapshot.getColumns();
+        IntStream rows = IntStream.range(0, columns.size());
+        if (columns.size() >= queryConfigs.getStatsParallelThreshold()) {
+            rows = rows.parallel();
+        }
+        return rows.collect(() -> statsAggregator(ageBandWidth), (aggregator, row) -> aggregator.accept(columns, row),
+                EmployeeStatsAggregator::merge);
+    }
+
+    private EmployeeStatsAggregator statsAggregator(int ageBandWidth) {
+        return new EmployeeStatsAggregator(ageBandWidth, queryConfigs.getStatsRelativeAccuracy());
+    }
+
+    private EmployeeSnapshot lastSnapshot(EmployeeCircuitOpenException e) {
+        EmployeeSnapshot snapshot = employeeSnapshotCache.getLastSnapshot().orElseThrow(() -> e);
+        logger.warn("Employee circuit is open, answering from the last loaded snapshot.");
+        return snapshot;
+    }
+
+    private Integer highestSalary(OptionalInt highestSalary) {
+        if (!highestSalary.isPresent()) {
+            throw new EmployeeServiceException("No employees found to determine highest salary");
+        }
+        return highestSalary.getAsInt();
+    }
+
+    private RuntimeException serviceFailure(String message, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof EmployeeIntegrationException) {
+            logger.error("{}. Error : {}", message, cause.getMessage());
+            return new EmployeeServiceException(message, cause);
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new EmployeeServiceException(message, cause);
+    }
+
+    private void validateSearch(String name, int offset, int limit) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search name must not be null or empty");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("Search offset must not be negative");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Search limit must be greater than zero");
+        }
+    }
+
+    /**
+     * Validates the filters and returns the page size to use.
+     */
+    private int validateQuery(EmployeeQuery query) {
+        if (query.getName() != null && query.getName().trim().isEmpty()) {
+            throw new IllegalArgumentException("Query name must not be empty");
+        }
+        validateRange("salary", query.getMinSalary(), query.getMaxSalary());
+        validateRange("age", query.getMinAge(), query.getMaxAge());
+        if (query.getLimit() == null) {
+            return queryConfigs.getDefaultLimit();
+        }
+        if (query.getLimit() <= 0 || query.getLimit() > queryConfigs.getMaxLimit()) {
+            throw new IllegalArgumentException("Query limit must be between 1 and " + queryConfigs.getMaxLimit());
+        }
+        return query.getLimit();
+    }
+
+    private void validateStats(int ageBandWidth, double[] percentiles) {
+        if (ageBandWidth <= 0) {
+            throw new IllegalArgumentException("Age band width must be greater than zero");
+        }
+        for (double percentile : percentiles) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("Percentiles must be between 0 and 100");
+            }
+        }
+    }
+
+    private void validateRange(String field, Integer min, Integer max) {
+        if (min != null && max != null && min > max) {
+            throw new IllegalArgumentException("Minimum " + field + " must not be greater than maximum " + field);
+        }
+    }
+
+    private void validateBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one item");
+        }
+        if (items.size() > batchConfigs.getMaxSize()) {
+            throw new IllegalArgumentException("Batch must not contain more than " + batchConfigs.getMaxSize() + " items");
+        }
+    }
+
+    private void validateBatchItem(int index, Runnable validation) {
+        try {
+            validation.run();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid batch item at index " + index + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private void validateTopN(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Number of employees must be greater than zero");
         }
     }
 
@@ -142,7 +629,7 @@ public class EmployeeService implements IEmployeeService {
         }
     }
 
-    private void validateEmployeeData(String name, int salary, int age) {
+    public static void validateEmployeeData(String name, int salary, int age) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Employee name must not be null or empty");
         }
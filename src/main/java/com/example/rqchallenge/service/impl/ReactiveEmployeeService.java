@@ -0,0 +1,159 @@
+package com.example.rqchallenge.service.impl;
+
+import com.example.rqchallenge.cache.EmployeeByIdCache;
+import com.example.rqchallenge.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeChanges;
+import com.example.rqchallenge.exception.EmployeeCircuitOpenException;
+import com.example.rqchallenge.exception.EmployeeIntegrationException;
+import com.example.rqchallenge.exception.EmployeeServiceException;
+import com.example.rqchallenge.integration.ReactiveEmployeeIntegration;
+import com.example.rqchallenge.integration.ReactiveEmployeeReader;
+import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
+import com.example.rqchallenge.service.IReactiveEmployeeService;
+import com.example.rqchallenge.service.aggregate.MaxSalaryAggregator;
+import com.example.rqchallenge.service.aggregate.TopSalaryAggregator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * Reactive counterpart of {@link EmployeeService}. Reads the snapshot can answer go through the same caches as
+ * the servlet stack, which on this stack load through {@link ReactiveEmployeeReader}, so every upstream call is
+ * made with {@code WebClient} and the two stacks can be compared under the same load. With the snapshot cache
+ * disabled, the upstream list is streamed through {@link ReactiveEmployeeIntegration} with backpressure instead
+ * of being loaded whole, and writes always go through it.
+ */
+@Service
+public class ReactiveEmployeeService implements IReactiveEmployeeService {
+
+    private static final int TOP_EARNERS_LIMIT = 10;
+
+    private final ReactiveEmployeeIntegration reactiveEmployeeIntegration;
+    private final EmployeeService employeeService;
+    private final EmployeeSnapshotCache employeeSnapshotCache;
+    private final EmployeeByIdCache employeeByIdCache;
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeService.class);
+
+    @Autowired
+    public ReactiveEmployeeService(ReactiveEmployeeIntegration reactiveEmployeeIntegration, EmployeeService employeeService,
+                                   EmployeeSnapshotCache employeeSnapshotCache, EmployeeByIdCache employeeByIdCache) {
+        this.reactiveEmployeeIntegration = reactiveEmployeeIntegration;
+        this.employeeService = employeeService;
+        this.employeeSnapshotCache = employeeSnapshotCache;
+        this.employeeByIdCache = employeeByIdCache;
+    }
+
+    @Override
+    public Flux<Employee> getAllEmployees() {
+        logger.debug("Received request to load all the employees reactively.");
+        if (!employeeSnapshotCache.isEnabled()) {
+            return streamAllEmployees("Error fetching all employees");
+        }
+        return Mono.fromFuture(employeeService::getAllEmployeesAsync).flatMapIterable(Function.identity());
+    }
+
+    @Override
+    public Flux<Employee> getEmployeesByNameSearch(String name, int offset, int limit) {
+        logger.debug("Received request to load all the employees reactively with search string : {}.", name);
+        return Mono.fromFuture(() -> employeeService.getEmployeesByNameSearchAsync(name, offset, limit))
+                .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * Changes since version {@code since}, answered once the current data has been loaded without blocking.
+     */
+    @Override
+    public Mono<EmployeeChanges> getEmployeeChanges(long since) {
+        logger.debug("Received request to load employee changes reactively since version {}.", since);
+        return Mono.fromFuture(employeeService::getAllEmployeesAsync)
+                .map(ignored -> employeeSnapshotCache.getChangeLog().changesSince(since));
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(String id) {
+        logger.debug("Received request to load employees reactively by id: {}.", id);
+        return Mono.fromFuture(() -> employeeService.getEmployeeByIdAsync(id));
+    }
+
+    @Override
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        logger.debug("Received request to fetch highest salary reactively.");
+        if (!employeeSnapshotCache.isEnabled()) {
+            return streamAllEmployees("Error fetching highest salary of employees")
+                    .collect(MaxSalaryAggregator::new, MaxSalaryAggregator::accept)
+                    .map(aggregator -> aggregator.getHighestSalary().orElseThrow(() ->
+                            new EmployeeServiceException("No employees found to determine highest salary")));
+        }
+        return Mono.fromFuture(employeeService::getHighestSalaryOfEmployeesAsync);
+    }
+
+    @Override
+    public Flux<String> getTop10HighestEarningEmployeeNames() {
+        return getTopNHighestEarningEmployeeNames(TOP_EARNERS_LIMIT);
+    }
+
+    @Override
+    public Flux<String> getTopNHighestEarningEmployeeNames(int n) {
+        logger.debug("Received request to fetch Top {} Highest Earning Employees reactively.", n);
+        if (!employeeSnapshotCache.isEnabled()) {
+            if (n <= 0) {
+                return Flux.error(new IllegalArgumentException("Number of employees must be greater than zero"));
+            }
+            return streamAllEmployees("Error fetching top " + n + " highest earning employee names")
+                    .collect(() -> new TopSalaryAggregator(n), TopSalaryAggregator::accept)
+                    .flatMapIterable(TopSalaryAggregator::getTopNames);
+        }
+        return Mono.fromFuture(() -> employeeService.getTopNHighestEarningEmployeeNamesAsync(n))
+                .flatMapIterable(Function.identity());
+    }
+
+    @Override
+    public Mono<Employee> createEmployee(String name, int salary, int age) {
+        logger.debug("Received request to create new Employee reactively.");
+        return Mono.defer(() -> reactiveEmployeeIntegration.createEmployee(name, salary, age))
+                .doOnNext(response -> employeeSnapshotCache.employeeCreated(response.getData()))
+                .mapNotNull(EmployeeResponseDto::getData)
+                .onErrorMap(EmployeeIntegrationException.class, serviceFailure("Error creating employee"));
+    }
+
+    @Override
+    public Mono<Void> deleteEmployee(String id) {
+        logger.debug("Received request to delete employee reactively with id : {}", id);
+        return Mono.defer(() -> reactiveEmployeeIntegration.deleteEmployee(id))
+                .then(Mono.fromRunnable(() -> {
+                    employeeSnapshotCache.employeeDeleted(id);
+                    employeeByIdCache.invalidate(id);
+                }))
+                .then()
+                .onErrorMap(EmployeeIntegrationException.class, serviceFailure("Error deleting employee with id: " + id));
+    }
+
+    /**
+     * Streams the upstream list, falling back to the last loaded snapshot while the circuit is open. The
+     * fallback can never repeat employees, as an open circuit rejects the call before anything is emitted.
+     */
+    private Flux<Employee> streamAllEmployees(String message) {
+        return Flux.defer(reactiveEmployeeIntegration::getAllEmployees)
+                .onErrorResume(EmployeeCircuitOpenException.class, e -> employeeSnapshotCache.getLastSnapshot()
+                        .map(snapshot -> {
+                            logger.warn("Employee circuit is open, answering from the last loaded snapshot.");
+                            return Flux.fromIterable(snapshot.getEmployees());
+                        })
+                        .orElseGet(() -> Flux.error(e)))
+                .onErrorMap(EmployeeIntegrationException.class, serviceFailure(message));
+    }
+
+    private static Function<EmployeeIntegrationException, Throwable> serviceFailure(String message) {
+        return e -> {
+            logger.error("{}. Error : {}", message, e.getMessage());
+            return new EmployeeServiceException(message, e);
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.rqchallenge.service.query;
+
+import com.example.rqchallenge.cache.EmployeeSnapshot;
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+import com.example.rqchallenge.cache.index.SalaryIndex;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeePage;
+import com.example.rqchallenge.dto.EmployeeQuery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Evaluates an {@link EmployeeQuery} against a snapshot. Candidate rows come from the name index when a name is
+ * given, else from the salary index when a salary bound is given, and only then from a scan of every row. The
+ * remaining filters are checked on the columns. Only the {@code limit + 1} best rows after the cursor are kept,
+ * in a bounded heap, so a page never sorts every match, and {@link Employee} objects are created for the
+ * returned page alone. Employees without an id are left out, as a cursor could not tell them apart.
+ */
+public final class EmployeeQueryEngine {
+
+    private final EmployeeQuery query;
+    private final int limit;
+    private final EmployeeSort sort;
+    private final EmployeeSort.Key after;
+
+    /**
+     * Parses the sort and cursor up front, so a malformed query fails before any snapshot is loaded.
+     */
+    public EmployeeQueryEngine(EmployeeQuery query, int limit) {
+        this.query = query;
+        this.limit = limit;
+        this.sort = EmployeeSort.parse(query.getSort());
+        this.after = query.getCursor() == null ? null : sort.decodeCursor(query.getCursor());
+    }
+
+    public EmployeePage execute(EmployeeSnapshot snapshot) {
+        EmployeeColumns columns = snapshot.getColumns();
+
+        PriorityQueue<EmployeeSort.Key> best = new PriorityQueue<>(limit + 1, sort.reversed());
+        Candidates candidates = candidates(snapshot);
+        for (int i = 0; i < candidates.size(); i++) {
+            int row = candidates.rowAt(i);
+            if (!columns.hasId(row) || !matches(columns, row)) {
+                continue;
+            }
+            EmployeeSort.Key key = sort.key(columns, row);
+            if (after != null && sort.compare(key, after) <= 0) {
+                continue;
+            }
+            if (best.size() <= limit) {
+                best.add(key);
+            } else if (sort.compare(key, best.peek()) < 0) {
+                best.poll();
+                best.add(key);
+            }
+        }
+
+        boolean more = best.size() > limit;
+        if (more) {
+            best.poll();
+        }
+        EmployeeSort.Key[] page = best.toArray(new EmployeeSort.Key[0]);
+        Arrays.sort(page, sort);
+        List<Employee> employees = new ArrayList<>(page.length);
+        for (EmployeeSort.Key key : page) {
+            employees.add(columns.get(key.getRow()));
+        }
+        return new EmployeePage(employees, more ? sort.encodeCursor(page[page.length - 1]) : null);
+    }
+
+    private Candidates candidates(EmployeeSnapshot snapshot) {
+        if (query.getName() != null) {
+            int[] rows = snapshot.getNameSearchIndex().search(query.getName(), 0, Integer.MAX_VALUE);
+            return new Candidates(rows, null, 0, rows.length);
+        }
+        if (query.getMinSalary() != null || query.getMaxSalary() != null) {
+            SalaryIndex salaryIndex = snapshot.getSalaryIndex();
+            int from = query.getMaxSalary() == null ? 0 : salaryIndex.firstRankAtMost(query.getMaxSalary());
+            int to = query.getMinSalary() == null ? salaryIndex.size() : salaryIndex.firstRankBelow(query.getMinSalary());
+            return new Candidates(null, salaryIndex, from, Math.max(from, to));
+        }
+        return new Candidates(null, null, 0, snapshot.getColumns().size());
+    }
+
+    private boolean matches(EmployeeColumns columns, int row) {
+        if (query.getMinSalary() != null || query.getMaxSalary() != null) {
+            if (!columns.hasSalary(row) || !within(columns.salaryAt(row), query.getMinSalary(), query.getMaxSalary())) {
+                return false;
+            }
+        }
+        if (query.getMinAge() != null || query.getMaxAge() != null) {
+            return columns.hasAge(row) && within(columns.ageAt(row), query.getMinAge(), query.getMaxAge());
+        }
+        return true;
+    }
+
+    private static boolean within(int value, Integer min, Integer max) {
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    /**
+     * Rows to evaluate: explicit rows, a rank range of the salary index, or every row of the snapshot.
+     */
+    private static final class Candidates {
+        private final int[] rows;
+        private final SalaryIndex salaryIndex;
+        private final int from;
+        private final int to;
+
+        private Candidates(int[] rows, SalaryIndex salaryIndex, int from, int to) {
+            this.rows = rows;
+            this.salaryIndex = salaryIndex;
+            this.from = from;
+            this.to = to;
+        }
+
+        private int size() {
+            return to - from;
+        }
+
+        private int rowAt(int i) {
+            if (rows != null) {
+                return rows[from + i];
+            }
+            return salaryIndex != null ? salaryIndex.rowAt(from + i) : from + i;
+        }
+    }
+}
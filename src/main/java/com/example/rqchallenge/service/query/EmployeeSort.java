@@ -0,0 +1,145 @@
+package com.example.rqchallenge.service.query;
+
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Sort order of an employee query, written as {@code field[,asc|desc]}. Employees without a value for the field
+ * come last in either direction and ties are broken by ascending id, so the order is total and does not depend
+ * on the upstream order. That lets a cursor hold just the key of the last returned employee: the next page is
+ * everything ordered after it, even if the snapshot was reloaded in between. Only rows with an id can be
+ * ordered this way, so {@link #key} must not be called for rows without one.
+ */
+public final class EmployeeSort implements Comparator<EmployeeSort.Key> {
+
+    public static final String DEFAULT = "id,asc";
+
+    private final Field field;
+    private final boolean descending;
+
+    private EmployeeSort(Field field, boolean descending) {
+        this.field = field;
+        this.descending = descending;
+    }
+
+    public static EmployeeSort parse(String sort) {
+        String[] parts = (sort == null || sort.trim().isEmpty() ? DEFAULT : sort).split(",", -1);
+        if (parts.length > 2) {
+            throw new IllegalArgumentException("Sort must be a field optionally followed by ,asc or ,desc");
+        }
+        Field field;
+        try {
+            field = Field.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Sort field must be one of id, name, salary or age");
+        }
+        String direction = parts.length == 2 ? parts[1].trim().toLowerCase(Locale.ROOT) : "asc";
+        if (!direction.equals("asc") && !direction.equals("desc")) {
+            throw new IllegalArgumentException("Sort direction must be asc or desc");
+        }
+        return new EmployeeSort(field, direction.equals("desc"));
+    }
+
+    public Key key(EmployeeColumns columns, int row) {
+        int id = columns.idAt(row);
+        switch (field) {
+            case NAME:
+                String name = columns.nameAt(row);
+                return new Key(row, id, 0, name, name != null);
+            case SALARY:
+                return new Key(row, id, columns.salaryAt(row), null, columns.hasSalary(row));
+            case AGE:
+                return new Key(row, id, columns.ageAt(row), null, columns.hasAge(row));
+            default:
+                return new Key(row, id, id, null, true);
+        }
+    }
+
+    @Override
+    public int compare(Key a, Key b) {
+        if (a.hasValue != b.hasValue) {
+            return a.hasValue ? -1 : 1;
+        }
+        int order = 0;
+        if (a.hasValue) {
+            order = field == Field.NAME ? a.text.compareTo(b.text) : Integer.compare(a.number, b.number);
+        }
+        if (descending) {
+            order = -order;
+        }
+        return order != 0 ? order : Integer.compare(a.id, b.id);
+    }
+
+    public String encodeCursor(Key last) {
+        String value = !last.hasValue ? "-" : "=" + (field == Field.NAME ? last.text : String.valueOf(last.number));
+        String cursor = this + "\n" + last.id + "\n" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor made by {@link #encodeCursor} for this same sort. A cursor from another sort would skip
+     * arbitrary employees, so it is rejected.
+     */
+    public Key decodeCursor(String cursor) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\n", 3);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor is not valid");
+        }
+        if (parts.length != 3 || parts[2].isEmpty()) {
+            throw new IllegalArgumentException("Cursor is not valid");
+        }
+        if (!parts[0].equals(toString())) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + parts[0] + ", not " + this);
+        }
+        try {
+            int id = Integer.parseInt(parts[1]);
+            boolean hasValue = parts[2].charAt(0) == '=';
+            String value = parts[2].substring(1);
+            if (!hasValue) {
+                return new Key(-1, id, 0, null, false);
+            }
+            return field == Field.NAME ? new Key(-1, id, 0, value, true)
+                    : new Key(-1, id, Integer.parseInt(value), null, true);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor is not valid");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return field.name().toLowerCase(Locale.ROOT) + (descending ? ",desc" : ",asc");
+    }
+
+    private enum Field {
+        ID, NAME, SALARY, AGE
+    }
+
+    /**
+     * Sort key of one snapshot row, or of the last row of the previous page when decoded from a cursor.
+     */
+    public static final class Key {
+        private final int row;
+        private final int id;
+        private final int number;
+        private final String text;
+        private final boolean hasValue;
+
+        private Key(int row, int id, int number, String text, boolean hasValue) {
+            this.row = row;
+            this.id = id;
+            this.number = number;
+            this.text = text;
+            this.hasValue = hasValue;
+        }
+
+        public int getRow() {
+            return row;
+        }
+    }
+}
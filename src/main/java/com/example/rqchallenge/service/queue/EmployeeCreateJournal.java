@@ -0,0 +1,181 @@
+package com.example.rqchallenge.service.queue;
+
+import com.example.rqchallenge.dto.Employee;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Append-only log of queued creations, one JSON record per line, forced to disk before each append returns.
+ * A creation is journaled when it is submitted, before each attempt is sent, when an attempt is deferred to a
+ * retry, and when it completes, so on start every unfinished creation is either queued again or, if an attempt
+ * may have reached the upstream, reported as unknown. {@link #compact} rewrites the log with only the records
+ * still needed, through a temporary file moved over the log, and a torn last line left by a crash is skipped.
+ * <p>
+ * Both {@link #append} and {@link #compact} run under one lock, so a record and the state change it describes
+ * are either both in a compacted log or both after it.
+ */
+class EmployeeCreateJournal implements Closeable {
+
+    enum Type {
+        SUBMITTED, STARTED, DEFERRED, SUCCEEDED, FAILED, UNKNOWN
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    static class Entry {
+        private Type type;
+        private String id;
+        private String name;
+        private int salary;
+        private int age;
+        private long at;
+        private int attempts;
+        private Employee employee;
+        private String error;
+    }
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+    private FileChannel channel;
+    private volatile int appendsSinceCompaction;
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeCreateJournal.class);
+
+    EmployeeCreateJournal(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reads every record, then opens the journal for appending.
+     */
+    List<Entry> open() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        if (Files.exists(path)) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        entries.add(objectMapper.readValue(line, Entry.class));
+                    } catch (JsonProcessingException e) {
+                        logger.warn("Skipping unreadable employee create journal record. Error : {}", e.getMessage());
+                    }
+                }
+            }
+        }
+        boolean tornLastLine = false;
+        if (Files.exists(path) && Files.size(path) > 0) {
+            try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+                ByteBuffer last = ByteBuffer.allocate(1);
+                in.read(last, in.size() - 1);
+                tornLastLine = last.get(0) != '\n';
+            }
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        if (tornLastLine) {
+            channel.write(ByteBuffer.wrap(new byte[]{'\n'}));
+        }
+        appendsSinceCompaction = entries.size();
+        return entries;
+    }
+
+    /**
+     * Appends {@code entry} and then runs {@code applied}, which is skipped when the append fails.
+     */
+    void append(Entry entry, Runnable applied) throws IOException {
+        ByteBuffer line = encode(entry);
+        lock.lock();
+        try {
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            channel.force(false);
+            appendsSinceCompaction++;
+            applied.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getAppendsSinceCompaction() {
+        return appendsSinceCompaction;
+    }
+
+    /**
+     * Rewrites the log with the records {@code snapshot} returns, taken while no append can run. Returns the
+     * number of records written.
+     */
+    int compact(Supplier<? extends Collection<Entry>> snapshot) throws IOException {
+        lock.lock();
+        try {
+            Collection<Entry> entries = snapshot.get();
+            Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+            try {
+                try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    for (Entry entry : entries) {
+                        ByteBuffer line = encode(entry);
+                        while (line.hasRemaining()) {
+                            out.write(line);
+                        }
+                    }
+                    out.force(true);
+                }
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            channel.close();
+            channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            appendsSinceCompaction = entries.size();
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ByteBuffer encode(Entry entry) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(entry);
+        return ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+    }
+}
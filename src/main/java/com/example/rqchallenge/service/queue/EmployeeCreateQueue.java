@@ -0,0 +1,483 @@
+package com.example.rqchallenge.service.queue;
+
+import com.example.rqchallenge.config.EmployeeWriteQueueConfigs;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeWriteOperation;
+import com.example.rqchallenge.dto.EmployeeWriteOperation.Status;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.exception.EmployeeQueueFullException;
+import com.example.rqchallenge.exception.EmployeeServiceException;
+import com.example.rqchallenge.integration.resilience.EmployeeResilience;
+import com.example.rqchallenge.integration.resilience.RateLimiter;
+import com.example.rqchallenge.integration.resilience.RetryPolicy;
+import com.example.rqchallenge.service.impl.EmployeeService;
+import com.example.rqchallenge.service.queue.EmployeeCreateJournal.Entry;
+import com.example.rqchallenge.service.queue.EmployeeCreateJournal.Type;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind queue for employee creations. {@link #submit} validates the employee, journals it and returns a
+ * pending operation at once; {@code workers} threads then create the queued employees through
+ * {@link EmployeeService}, started no faster than {@code rate-per-second}. At most {@code capacity} creations
+ * are outstanding, and further submissions fail with {@link EmployeeQueueFullException}.
+ * <p>
+ * Creating is not idempotent, so a creation is only retried when the upstream certainly did not act on it.
+ * Calls rejected by the circuit breaker or bulkhead never left this service; they are retried for as long as
+ * the rejections last, backing off exponentially from {@code base-delay-ms} up to {@code max-delay-ms}, and
+ * are not counted against {@code max-attempts}. Answers of 429 or 503 are retried with the upstream retry
+ * policy, honouring {@code Retry-After}, for up to {@code max-attempts}. Any other failure ends the operation:
+ * as {@link Status#FAILED} when the upstream certainly did not create the employee, and as
+ * {@link Status#UNKNOWN} when it may have, such as after a 500, a timeout or an interrupted call.
+ * <p>
+ * With a {@code journal-path}, submitted creations survive a restart and are queued again on start, except
+ * those with an attempt in flight when the queue stopped: the upstream may have created them, so they are
+ * reported as {@link Status#UNKNOWN} rather than sent again. Finished operations can be polled for
+ * {@code operation-retention-ms}. The number of outstanding creations is exposed as
+ * {@code employee.write_queue.depth}, and the time from submission to completion is timed as
+ * {@code employee.write_queue.drain}, tagged with the outcome.
+ */
+@Component
+public class EmployeeCreateQueue {
+
+    private static final long MAINTENANCE_INTERVAL_MS = 60000;
+    private static final int MIN_COMPACTION_APPENDS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final EmployeeWriteQueueConfigs queueConfigs;
+    private final EmployeeService employeeService;
+    private final RateLimiter rateLimiter;
+    private final RetryPolicy retryPolicy;
+    private final EmployeeCreateJournal journal;
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+    private final BlockingQueue<Operation> ready = new LinkedBlockingQueue<>();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    private final Timer succeeded;
+    private final Timer failed;
+    private final Timer unknown;
+    private final Counter retries;
+    private final Counter rejected;
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeCreateQueue.class);
+
+    @Autowired
+    public EmployeeCreateQueue(EmployeeWriteQueueConfigs queueConfigs, EmployeeService employeeService,
+                               ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.queueConfigs = queueConfigs;
+        this.employeeService = employeeService;
+        this.rateLimiter = new RateLimiter(queueConfigs.getRatePerSecond());
+        this.retryPolicy = new RetryPolicy(queueConfigs.getMaxAttempts(), queueConfigs.getBaseDelayMs(),
+                queueConfigs.getMaxDelayMs(), queueConfigs.getMaxRetryAfterMs());
+        String journalPath = queueConfigs.getJournalPath();
+        this.journal = journalPath == null || journalPath.isBlank()
+                ? null : new EmployeeCreateJournal(Paths.get(journalPath), objectMapper);
+        this.succeeded = drainTimer(meterRegistry, "succeeded");
+        this.failed = drainTimer(meterRegistry, "failed");
+        this.unknown = drainTimer(meterRegistry, "unknown");
+        this.retries = Counter.builder("employee.write_queue.retries")
+                .description("Queued employee creations scheduled for another attempt")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("employee.write_queue.rejected")
+                .description("Employee creations refused because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("employee.write_queue.depth", outstanding, AtomicInteger::get)
+                .description("Queued employee creations not yet completed")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-write-queue-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!queueConfigs.isEnabled()) {
+            return;
+        }
+        if (journal != null) {
+            replay(journal.open());
+        }
+        running = true;
+        int workerCount = Math.max(1, queueConfigs.getWorkers());
+        AtomicInteger workerNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "employee-write-queue-" + workerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+        scheduler.scheduleWithFixedDelay(this::maintain, MAINTENANCE_INTERVAL_MS, MAINTENANCE_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+        logger.info("Employee write queue started with {} workers and {} queued creations.", workerCount,
+                outstanding.get());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        running = false;
+        scheduler.shutdownNow();
+        if (workers != null) {
+            workers.shutdownNow();
+            workers.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return queueConfigs.isEnabled();
+    }
+
+    public EmployeeWriteOperation submit(String name, int salary, int age) {
+        if (!running) {
+            throw new EmployeeServiceException("Employee write queue is not running");
+        }
+        EmployeeService.validateEmployeeData(name, salary, age);
+        if (outstanding.incrementAndGet() > queueConfigs.getCapacity()) {
+            outstanding.decrementAndGet();
+            rejected.increment();
+            throw new EmployeeQueueFullException("Employee write queue is full");
+        }
+        Operation operation = new Operation(UUID.randomUUID().toString(), name, salary, age, System.currentTimeMillis());
+        EmployeeWriteOperation view = operation.view();
+        try {
+            journaled(operation.submitted(), () -> operations.put(operation.id, operation));
+        } catch (IOException e) {
+            outstanding.decrementAndGet();
+            throw new EmployeeServiceException("Error journaling employee creation", e);
+        }
+        ready.add(operation);
+        logger.debug("Queued employee creation {}.", operation.id);
+        return view;
+    }
+
+    public EmployeeWriteOperation getOperation(String id) {
+        Operation operation = operations.get(id);
+        if (operation == null) {
+            throw new EmployeeNotFoundException("Employee operation not found with id: " + id);
+        }
+        return operation.view();
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                Operation operation = ready.take();
+                rateLimiter.acquire();
+                drain(operation);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Unexpected error in employee write queue worker.", e);
+            }
+        }
+    }
+
+    private void drain(Operation operation) {
+        int attempt = operation.attempts + 1;
+        try {
+            journaled(operation.started(attempt), () -> {
+                operation.attempts = attempt;
+                operation.inFlight = true;
+            });
+        } catch (IOException e) {
+            complete(operation, Status.FAILED, null, "Error journaling employee creation attempt");
+            return;
+        }
+        try {
+            Employee employee = employeeService.createEmployee(operation.name, operation.salary, operation.age);
+            complete(operation, Status.SUCCEEDED, employee, null);
+        } catch (RuntimeException e) {
+            long delayMs = retryDelayMs(e, operation);
+            if (delayMs == RetryPolicy.NO_RETRY) {
+                complete(operation, failureStatus(e), null, e.getMessage());
+                return;
+            }
+            operation.previousDelayMs = delayMs;
+            try {
+                journaled(operation.deferred(), () -> operation.inFlight = false);
+            } catch (IOException journalError) {
+                logger.warn("Failed to journal retry of employee creation {}, it is reported as unknown if the queue "
+                        + "restarts before it completes. Error : {}", operation.id, journalError.getMessage());
+            }
+            retries.increment();
+            logger.info("Retrying queued employee creation {} in {} ms after attempt {} failed. Error : {}",
+                    operation.id, delayMs, attempt, e.getMessage());
+            scheduler.schedule(() -> ready.add(operation), delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Delay before retrying a creation that failed without reaching the upstream, or was turned away by it.
+     * Rejections are counted apart from the attempts the upstream answered, so an outage that keeps the
+     * circuit open does not use up {@code max-attempts}.
+     */
+    private long retryDelayMs(Throwable error, Operation operation) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (EmployeeResilience.isRejection(cause)) {
+                int rejections = ++operation.rejections;
+                return Math.min(Math.max(1, queueConfigs.getMaxDelayMs()),
+                        Math.max(1, queueConfigs.getBaseDelayMs()) << Math.min(rejections - 1, 20));
+            }
+            if (cause instanceof RestClientResponseException) {
+                int status = ((RestClientResponseException) cause).getRawStatusCode();
+                boolean refused = status == HttpStatus.TOO_MANY_REQUESTS.value()
+                        || status == HttpStatus.SERVICE_UNAVAILABLE.value();
+                return refused
+                        ? retryPolicy.delayMs(cause, operation.attempts - operation.rejections, operation.previousDelayMs)
+                        : RetryPolicy.NO_RETRY;
+            }
+        }
+        return RetryPolicy.NO_RETRY;
+    }
+
+    /**
+     * {@link Status#FAILED} when the upstream certainly did not create the employee: it answered 4xx or 503,
+     * or the call never left this service. Anything else may have created it and is {@link Status#UNKNOWN}.
+     */
+    private static Status failureStatus(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (EmployeeResilience.isRejection(cause) || cause instanceof IllegalArgumentException
+                    || cause instanceof ConnectException) {
+                return Status.FAILED;
+            }
+            if (cause instanceof RestClientResponseException) {
+                HttpStatus status = HttpStatus.resolve(((RestClientResponseException) cause).getRawStatusCode());
+                boolean refused = status != null
+                        && (status.is4xxClientError() || status == HttpStatus.SERVICE_UNAVAILABLE);
+                return refused ? Status.FAILED : Status.UNKNOWN;
+            }
+        }
+        return Status.UNKNOWN;
+    }
+
+    /**
+     * Journals the outcome before publishing it, so an outcome a client has seen is never lost on restart. If
+     * the journal cannot be written the outcome is published anyway; a restart before the next compaction
+     * then reports the creation as unknown rather than sending it again.
+     */
+    private void complete(Operation operation, Status status, Employee employee, String error) {
+        operation.employee = employee;
+        operation.error = error;
+        operation.completedAt = System.currentTimeMillis();
+        Runnable publish = () -> {
+            operation.status = status;
+            operation.inFlight = false;
+        };
+        try {
+            journaled(operation.completed(status), publish);
+        } catch (IOException e) {
+            publish.run();
+            logger.error("Failed to journal completion of employee creation {}. Error : {}", operation.id,
+                    e.getMessage());
+        }
+        outstanding.decrementAndGet();
+        (status == Status.SUCCEEDED ? succeeded : status == Status.FAILED ? failed : unknown)
+                .record(operation.completedAt - operation.submittedAt, TimeUnit.MILLISECONDS);
+        if (status == Status.FAILED) {
+            logger.warn("Queued employee creation {} failed after {} attempts. Error : {}", operation.id,
+                    operation.attempts, error);
+        } else if (status == Status.UNKNOWN) {
+            logger.warn("Queued employee creation {} may or may not have been created after {} attempts. "
+                    + "Error : {}", operation.id, operation.attempts, error);
+        }
+    }
+
+    /**
+     * Restores operations from the journal: finished ones still within retention can be polled again, ones
+     * with an attempt in flight are finished as unknown, and the other unfinished ones are queued again, even
+     * beyond capacity.
+     */
+    private void replay(List<Entry> entries) {
+        Map<String, Operation> replayed = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            if (entry.getType() == Type.SUBMITTED) {
+                replayed.put(entry.getId(), new Operation(entry.getId(), entry.getName(), entry.getSalary(),
+                        entry.getAge(), entry.getAt()));
+                continue;
+            }
+            Operation operation = replayed.get(entry.getId());
+            if (operation == null) {
+                continue;
+            }
+            if (entry.getType() == Type.STARTED) {
+                operation.attempts = entry.getAttempts();
+                operation.inFlight = true;
+            } else if (entry.getType() == Type.DEFERRED) {
+                operation.inFlight = false;
+            } else {
+                operation.status = Status.valueOf(entry.getType().name());
+                operation.attempts = entry.getAttempts();
+                operation.completedAt = entry.getAt();
+                operation.employee = entry.getEmployee();
+                operation.error = entry.getError();
+                operation.inFlight = false;
+            }
+        }
+        long now = System.currentTimeMillis();
+        replayed.values().forEach(operation -> {
+            if (operation.status == Status.PENDING && operation.inFlight) {
+                markUnknown(operation, now);
+                operations.put(operation.id, operation);
+            } else if (operation.status == Status.PENDING) {
+                outstanding.incrementAndGet();
+                operations.put(operation.id, operation);
+                ready.add(operation);
+            } else if (now - operation.completedAt < queueConfigs.getOperationRetentionMs()) {
+                operations.put(operation.id, operation);
+            }
+        });
+    }
+
+    private void markUnknown(Operation operation, long now) {
+        operation.completedAt = now;
+        operation.error = "Creation was in flight when the queue stopped, the employee may or may not exist";
+        try {
+            journaled(operation.completed(Status.UNKNOWN), () -> {
+                operation.status = Status.UNKNOWN;
+                operation.inFlight = false;
+            });
+        } catch (IOException e) {
+            operation.status = Status.UNKNOWN;
+            logger.warn("Failed to journal unknown outcome of employee creation {}. Error : {}", operation.id,
+                    e.getMessage());
+        }
+        logger.warn("Employee creation {} was in flight when the queue stopped, reporting its outcome as unknown.",
+                operation.id);
+    }
+
+    /**
+     * Journals {@code entry} and applies the change it records under the journal lock, so a compaction sees
+     * either both or neither.
+     */
+    private void journaled(Entry entry, Runnable applied) throws IOException {
+        if (journal == null) {
+            applied.run();
+        } else {
+            journal.append(entry, applied);
+        }
+    }
+
+    /**
+     * Forgets operations finished longer than the retention ago, and compacts the journal once it has grown
+     * well past what it needs to hold.
+     */
+    private void maintain() {
+        long now = System.currentTimeMillis();
+        operations.values().removeIf(operation -> operation.status != Status.PENDING
+                && now - operation.completedAt >= queueConfigs.getOperationRetentionMs());
+        if (journal == null
+                || journal.getAppendsSinceCompaction() < Math.max(MIN_COMPACTION_APPENDS, 4 * operations.size())) {
+            return;
+        }
+        try {
+            int records = journal.compact(() -> {
+                List<Entry> entries = new ArrayList<>();
+                operations.values().forEach(operation -> {
+                    entries.add(operation.submitted());
+                    Status status = operation.status;
+                    if (status != Status.PENDING) {
+                        entries.add(operation.completed(status));
+                    } else if (operation.inFlight) {
+                        entries.add(operation.started(operation.attempts));
+                    }
+                });
+                return entries;
+            });
+            logger.debug("Compacted employee create journal to {} records.", records);
+        } catch (IOException e) {
+            logger.warn("Failed to compact employee create journal. Error : {}", e.getMessage());
+        }
+    }
+
+    private static Timer drainTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("employee.write_queue.drain")
+                .description("Time from queuing an employee creation to its completion")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class Operation {
+        private final String id;
+        private final String name;
+        private final int salary;
+        private final int age;
+        private final long submittedAt;
+        private volatile Status status = Status.PENDING;
+        private volatile int attempts;
+        private volatile int rejections;
+        private volatile boolean inFlight;
+        private volatile long previousDelayMs;
+        private volatile long completedAt;
+        private volatile Employee employee;
+        private volatile String error;
+
+        private Operation(String id, String name, int salary, int age, long submittedAt) {
+            this.id = id;
+            this.name = name;
+            this.salary = salary;
+            this.age = age;
+            this.submittedAt = submittedAt;
+        }
+
+        private EmployeeWriteOperation view() {
+            Status current = status;
+            return new EmployeeWriteOperation(id, current, attempts, submittedAt,
+                    current == Status.PENDING ? null : completedAt, employee, error);
+        }
+
+        private Entry submitted() {
+            return new Entry(Type.SUBMITTED, id, name, salary, age, submittedAt, 0, null, null);
+        }
+
+        private Entry started(int attempt) {
+            return new Entry(Type.STARTED, id, null, 0, 0, System.currentTimeMillis(), attempt, null, null);
+        }
+
+        private Entry deferred() {
+            return new Entry(Type.DEFERRED, id, null, 0, 0, System.currentTimeMillis(), attempts, null, null);
+        }
+
+        private Entry completed(Status status) {
+            return new Entry(Type.valueOf(status.name()), id, null, 0, 0, completedAt, attempts, employee, error);
+        }
+    }
+}
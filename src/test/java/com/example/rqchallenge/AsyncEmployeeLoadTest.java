@@ -0,0 +1,76 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=" + AsyncEmployeeLoadTest.SERVLET_THREADS,
+        "server.tomcat.threads.min-spare=" + AsyncEmployeeLoadTest.SERVLET_THREADS
+})
+class AsyncEmployeeLoadTest {
+
+    static final int SERVLET_THREADS = 4;
+    private static final int CONCURRENT_REQUESTS = 40;
+    private static final long UPSTREAM_LATENCY_MS = 500;
+
+    private static final StubEmployeeServer upstream = startUpstream();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("employee.base-url", upstream::baseUrl);
+        registry.add("employee.resilience.max-concurrent-calls", () -> CONCURRENT_REQUESTS);
+        registry.add("employee.http.max-connections-per-route", () -> CONCURRENT_REQUESTS);
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.close();
+    }
+
+    @Test
+    void testAsyncEndpointServesMoreConcurrentRequestsThanServletThreads() {
+        HttpClient client = HttpClient.newHttpClient();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= CONCURRENT_REQUESTS; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/employee/async/" + i)).build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).join();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.join().statusCode());
+        }
+        long blockingLowerBoundMs = CONCURRENT_REQUESTS / SERVLET_THREADS * UPSTREAM_LATENCY_MS;
+        assertTrue(elapsedMs < blockingLowerBoundMs / 2,
+                "async requests took " + elapsedMs + "ms, blocking handlers need at least " + blockingLowerBoundMs + "ms");
+    }
+
+    private static StubEmployeeServer startUpstream() {
+        try {
+            return new StubEmployeeServer(CONCURRENT_REQUESTS, UPSTREAM_LATENCY_MS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.config.EmployeeBatchConfigs;
+import com.example.rqchallenge.config.EmployeeCacheConfigs;
+import com.example.rqchallenge.controller.EmployeeController;
+import com.example.rqchallenge.dto.BatchItemResult;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.exception.EmployeeIntegrationException;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.integration.AsyncEmployeeIntegration;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.example.rqchallenge.integration.resilience.RateLimiter;
+import com.example.rqchallenge.service.batch.BatchExecutor;
+import com.example.rqchallenge.service.impl.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class EmployeeBatchTest {
+
+    private EmployeeIntegration employeeIntegration;
+
+    private AsyncEmployeeIntegration asyncEmployeeIntegration;
+
+    private EmployeeCacheConfigs cacheConfigs;
+
+    private EmployeeBatchConfigs batchConfigs;
+
+    private EmployeeService employeeService;
+
+    private EmployeeController employeeController;
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeServiceFixture fixture = new EmployeeServiceFixture();
+        employeeIntegration = fixture.employeeIntegration;
+        asyncEmployeeIntegration = fixture.asyncEmployeeIntegration;
+        cacheConfigs = fixture.cacheConfigs;
+        batchConfigs = fixture.batchConfigs;
+        when(cacheConfigs.isEnabled()).thenReturn(false);
+        when(batchConfigs.getMaxSize()).thenReturn(10);
+        when(batchConfigs.getConcurrency()).thenReturn(3);
+        when(batchConfigs.getReadConcurrency()).thenReturn(3);
+        when(batchConfigs.getSnapshotLookupThreshold()).thenReturn(10);
+        employeeService = fixture.employeeService;
+        employeeController = new EmployeeController(employeeService, null, null, null, null);
+        scheduler = Executors.newScheduledThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testBatchCreateReportsEachItem() {
+        when(asyncEmployeeIntegration.createEmployee(anyString(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            if ("Rahul".equals(invocation.getArgument(0))) {
+                return CompletableFuture.failedFuture(new EmployeeIntegrationException("Error while creating employee", null));
+            }
+            EmployeeResponseDto response = new EmployeeResponseDto();
+            response.setData(new Employee(7, invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(2), ""));
+            return CompletableFuture.completedFuture(response);
+        });
+
+        ResponseEntity<List<BatchItemResult>> response = employeeController.createEmployees(Arrays.asList(
+                input("Raj", 70000, 30), input("Rahul", 60000, 40), input("Chaitanya", 80000, 25)));
+
+        List<BatchItemResult> results = response.getBody();
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(Arrays.asList(201, 500, 201), Arrays.asList(results.get(0).getStatus(),
+                results.get(1).getStatus(), results.get(2).getStatus()));
+        assertEquals("Raj", results.get(0).getEmployee().getEmployeeName());
+        assertEquals("7", results.get(0).getId());
+        assertNotNull(results.get(1).getError());
+        assertEquals("Chaitanya", results.get(2).getEmployee().getEmployeeName());
+    }
+
+    @Test
+    void testBatchIsValidatedBeforeAnyUpstreamCall() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> employeeController.createEmployees(
+                Arrays.asList(input("Raj", 70000, 30), input("Rahul", -1, 40))));
+        assertTrue(e.getMessage().startsWith("Invalid batch item at index 1"), e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> employeeController.createEmployees(
+                Arrays.asList(input("Raj", 70000, 30), null)));
+        assertTrue(e.getMessage().startsWith("Invalid batch item at index 1"), e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> employeeService.createEmployees(
+                Arrays.asList(new Employee("Raj", 70000, 30), null)));
+        assertTrue(e.getMessage().startsWith("Invalid batch item at index 1"), e.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> employeeController.deleteEmployees(Arrays.asList("1", " ")));
+        assertThrows(IllegalArgumentException.class, () -> employeeController.deleteEmployees(Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> employeeController.deleteEmployees(
+                Collections.nCopies(11, "1")));
+        verifyNoInteractions(asyncEmployeeIntegration);
+    }
+
+    @Test
+    void testBatchDeleteReportsMissingEmployees() {
+        when(asyncEmployeeIntegration.deleteEmployee(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        when(asyncEmployeeIntegration.deleteEmployee("404"))
+                .thenReturn(CompletableFuture.failedFuture(new EmployeeNotFoundException("Employee not found with id: 404")));
+
+        List<BatchItemResult> results = employeeController.deleteEmployees(Arrays.asList("1", "404", "2")).getBody();
+
+        assertEquals(204, results.get(0).getStatus());
+        assertEquals("404", results.get(1).getId());
+        assertEquals(404, results.get(1).getStatus());
+        assertEquals(204, results.get(2).getStatus());
+        verify(asyncEmployeeIntegration, times(3)).deleteEmployee(anyString());
+    }
+
+    @Test
+    void testLookupByIdsFansOutInRequestOrder() {
+        when(asyncEmployeeIntegration.getEmployeeById(anyString())).thenAnswer(invocation -> {
+            String id = invocation.getArgument(0);
+            if ("404".equals(id)) {
+                return CompletableFuture.failedFuture(new EmployeeNotFoundException("Employee not found with id: 404"));
+            }
+            EmployeeResponseDto response = new EmployeeResponseDto();
+            response.setData(new Employee(Integer.parseInt(id), "Employee " + id, 1000, 30, ""));
+            return CompletableFuture.completedFuture(response);
+        });
+
+        List<BatchItemResult> results = employeeController.getEmployeesByIds(Arrays.asList("3", "404", "1")).getBody();
+
+        assertEquals(Arrays.asList(200, 404, 200), Arrays.asList(results.get(0).getStatus(),
+                results.get(1).getStatus(), results.get(2).getStatus()));
+        assertEquals("Employee 3", results.get(0).getEmployee().getEmployeeName());
+        assertEquals("404", results.get(1).getId());
+        assertNull(results.get(1).getEmployee());
+        assertEquals("Employee 1", results.get(2).getEmployee().getEmployeeName());
+        verify(employeeIntegration, never()).getAllEmployees();
+    }
+
+    @Test
+    void testLookupByIdsAnswersFromSnapshotForLargeRequests() {
+        when(cacheConfigs.isEnabled()).thenReturn(true);
+        when(batchConfigs.getSnapshotLookupThreshold()).thenReturn(3);
+        GetAllEmployeeResponseDto response = new GetAllEmployeeResponseDto();
+        response.setData(Arrays.asList(new Employee(2, "Rahul", 60000, 40, ""), new Employee(1, "Raj", 70000, 30, ""),
+                new Employee(1, "Duplicate", 1, 1, "")));
+        when(employeeIntegration.getAllEmployees()).thenReturn(response);
+
+        List<BatchItemResult> results = employeeController.lookupEmployeesByIds(Arrays.asList("1", "x", "2", "7"))
+                .getBody();
+
+        assertEquals(Arrays.asList(200, 404, 200, 404), Arrays.asList(results.get(0).getStatus(),
+                results.get(1).getStatus(), results.get(2).getStatus(), results.get(3).getStatus()));
+        assertEquals("Raj", results.get(0).getEmployee().getEmployeeName());
+        assertEquals("Rahul", results.get(2).getEmployee().getEmployeeName());
+
+        results = employeeController.getEmployeesByIds(Collections.singletonList("2")).getBody();
+        assertEquals("Rahul", results.get(0).getEmployee().getEmployeeName());
+        verify(employeeIntegration, times(1)).getAllEmployees();
+        verifyNoInteractions(asyncEmployeeIntegration);
+    }
+
+    @Test
+    void testFanOutIsBoundedByConcurrency() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add(i);
+        }
+
+        List<CompletableFuture<Integer>> results = new BatchExecutor(batchConfigs).execute(items, item -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            CompletableFuture<Integer> result = new CompletableFuture<>();
+            scheduler.schedule(() -> {
+                active.decrementAndGet();
+                result.complete(item * 2);
+            }, 10, TimeUnit.MILLISECONDS);
+            return result;
+        });
+
+        assertEquals(3, maxActive.get());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i * 2, results.get(i).join());
+        }
+    }
+
+    @Test
+    void testRateLimiterSpacesPermits() throws InterruptedException {
+        RateLimiter rateLimiter = new RateLimiter(50);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 11; i++) {
+            rateLimiter.acquire();
+        }
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(190));
+    }
+
+    private Map<String, Object> input(String name, int salary, int age) {
+        Map<String, Object> input = new HashMap<>();
+        input.put("name", name);
+        input.put("salary", salary);
+        input.put("age", age);
+        return input;
+    }
+}
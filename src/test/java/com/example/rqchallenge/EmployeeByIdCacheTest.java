@@ -0,0 +1,163 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.cache.EmployeeByIdCache;
+import com.example.rqchallenge.config.EmployeeCacheConfigs;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.exception.EmployeeIntegrationException;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.integration.AsyncEmployeeIntegration;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class EmployeeByIdCacheTest {
+
+    @Mock
+    private EmployeeIntegration employeeIntegration;
+
+    @Mock
+    private AsyncEmployeeIntegration asyncEmployeeIntegration;
+
+    @Mock
+    private EmployeeCacheConfigs cacheConfigs;
+
+    private EmployeeByIdCache byIdCache;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(cacheConfigs.getByIdMaxSize()).thenReturn(2);
+        when(cacheConfigs.getByIdTtlMs()).thenReturn(30000L);
+        when(cacheConfigs.getByIdNegativeTtlMs()).thenReturn(5000L);
+        byIdCache = new EmployeeByIdCache(employeeIntegration, asyncEmployeeIntegration, cacheConfigs,
+                new SimpleMeterRegistry());
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentLookupsShareOneUpstreamCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeIntegration.getEmployeeById("1")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return response(new Employee("Raj", 70000, 30));
+        });
+
+        List<Future<Employee>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> byIdCache.get("1")));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<Employee> result : results) {
+            assertEquals("Raj", result.get(5, TimeUnit.SECONDS).getEmployeeName());
+        }
+        verify(employeeIntegration, times(1)).getEmployeeById("1");
+    }
+
+    @Test
+    void testAsyncLookupsShareOneUpstreamCall() {
+        CompletableFuture<EmployeeResponseDto> load = new CompletableFuture<>();
+        when(asyncEmployeeIntegration.getEmployeeById("1")).thenReturn(load);
+
+        CompletableFuture<Employee> first = byIdCache.getAsync("1");
+        CompletableFuture<Employee> second = byIdCache.getAsync("1");
+        load.complete(response(new Employee("Raj", 70000, 30)));
+
+        assertSame(first.join(), second.join());
+        assertSame(first.join(), byIdCache.get("1"));
+        verify(asyncEmployeeIntegration, times(1)).getEmployeeById("1");
+        verifyNoInteractions(employeeIntegration);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        when(employeeIntegration.getEmployeeById(anyString()))
+                .thenAnswer(invocation -> response(new Employee("Employee " + invocation.getArgument(0), 1000, 30)));
+
+        byIdCache.get("1");
+        byIdCache.get("2");
+        byIdCache.get("1");
+        byIdCache.get("3");
+        byIdCache.get("1");
+        byIdCache.get("2");
+
+        verify(employeeIntegration, times(1)).getEmployeeById("1");
+        verify(employeeIntegration, times(2)).getEmployeeById("2");
+        verify(employeeIntegration, times(1)).getEmployeeById("3");
+    }
+
+    @Test
+    void testMissingEmployeeIsCachedNegatively() {
+        when(employeeIntegration.getEmployeeById("404"))
+                .thenThrow(new EmployeeNotFoundException("Employee not found with id: 404"));
+        when(employeeIntegration.getEmployeeById("500")).thenReturn(response(null));
+
+        assertThrows(EmployeeNotFoundException.class, () -> byIdCache.get("404"));
+        assertThrows(EmployeeNotFoundException.class, () -> byIdCache.get("404"));
+        CompletionException e = assertThrows(CompletionException.class, () -> byIdCache.getAsync("404").join());
+        assertTrue(e.getCause() instanceof EmployeeNotFoundException);
+        assertThrows(EmployeeNotFoundException.class, () -> byIdCache.get("500"));
+        assertThrows(EmployeeNotFoundException.class, () -> byIdCache.get("500"));
+
+        verify(employeeIntegration, times(1)).getEmployeeById("404");
+        verify(employeeIntegration, times(1)).getEmployeeById("500");
+    }
+
+    @Test
+    void testUpstreamFailuresAreNotCached() {
+        when(employeeIntegration.getEmployeeById("1"))
+                .thenThrow(new EmployeeIntegrationException("Error while fetching employee with id: 1", null))
+                .thenReturn(response(new Employee("Raj", 70000, 30)));
+
+        assertThrows(EmployeeIntegrationException.class, () -> byIdCache.get("1"));
+        assertEquals("Raj", byIdCache.get("1").getEmployeeName());
+    }
+
+    @Test
+    void testInvalidateDropsCachedAndInFlightLoads() {
+        CompletableFuture<EmployeeResponseDto> load = new CompletableFuture<>();
+        when(asyncEmployeeIntegration.getEmployeeById("1")).thenReturn(load);
+        when(employeeIntegration.getEmployeeById("1")).thenReturn(response(new Employee("Rahul", 60000, 40)));
+
+        CompletableFuture<Employee> beforeDelete = byIdCache.getAsync("1");
+        byIdCache.invalidate("1");
+        load.complete(response(new Employee("Raj", 70000, 30)));
+
+        assertEquals("Raj", beforeDelete.join().getEmployeeName());
+        assertEquals("Rahul", byIdCache.get("1").getEmployeeName());
+        byIdCache.invalidate("1");
+        byIdCache.get("1");
+        verify(employeeIntegration, times(2)).getEmployeeById("1");
+    }
+
+    private EmployeeResponseDto response(Employee employee) {
+        EmployeeResponseDto responseDto = new EmployeeResponseDto();
+        responseDto.setData(employee);
+        return responseDto;
+    }
+}
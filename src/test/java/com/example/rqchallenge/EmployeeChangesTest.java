@@ -0,0 +1,188 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.config.EmployeeCacheConfigs;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeChanges;
+import com.example.rqchallenge.integration.AsyncEmployeeIntegration;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class EmployeeChangesTest {
+
+    @Mock
+    private EmployeeIntegration employeeIntegration;
+
+    @Mock
+    private AsyncEmployeeIntegration asyncEmployeeIntegration;
+
+    @Mock
+    private EmployeeCacheConfigs cacheConfigs;
+
+    private EmployeeSnapshotCache snapshotCache;
+
+    private final Employee raj = new Employee(1, "Raj", 70000, 30, "");
+    private final Employee rahul = new Employee(2, "Rahul", 60000, 40, "");
+    private final Employee priya = new Employee(3, "Priya", 80000, 35, "");
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(cacheConfigs.isEnabled()).thenReturn(true);
+        when(cacheConfigs.getTtlMs()).thenReturn(30000L);
+        when(cacheConfigs.getMaxStaleMs()).thenReturn(60000L);
+        when(cacheConfigs.getChangeLogMaxEntries()).thenReturn(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshotCache.stop();
+    }
+
+    @Test
+    void testChangesBetweenSnapshotsAreReportedByRow() {
+        Employee raise = new Employee(1, "Raj", 75000, 30, "");
+        Employee neha = new Employee(4, "Neha", 50000, 28, "");
+        createCache();
+        load(raj, rahul, priya);
+        long version = snapshotCache.getChangeLog().getVersion();
+
+        load(raise, priya, neha);
+        EmployeeChanges changes = snapshotCache.getChangeLog().changesSince(version);
+
+        assertFalse(changes.isResync());
+        assertEquals(version + 1, changes.getVersion());
+        assertEquals(List.of(neha), changes.getAdded());
+        assertEquals(List.of(raise), changes.getUpdated());
+        assertEquals(List.of(2), changes.getRemoved());
+        assertTrue(snapshotCache.getChangeLog().changesSince(version + 1).getAdded().isEmpty());
+    }
+
+    @Test
+    void testReloadWithSameDataKeepsVersion() {
+        createCache();
+        load(raj, rahul);
+        long version = snapshotCache.getChangeLog().getVersion();
+
+        load(raj, rahul);
+
+        assertEquals(version, snapshotCache.getChangeLog().getVersion());
+    }
+
+    @Test
+    void testOwnWritesAreVersionedOnceAndReconciled() {
+        Employee neha = new Employee(4, "Neha", 50000, 28, "");
+        createCache();
+        load(raj, rahul);
+        long version = snapshotCache.getChangeLog().getVersion();
+
+        snapshotCache.employeeCreated(neha);
+        snapshotCache.employeeDeleted("1");
+        EmployeeChanges changes = snapshotCache.getChangeLog().changesSince(version);
+        assertEquals(version + 2, changes.getVersion());
+        assertEquals(List.of(neha), changes.getAdded());
+        assertEquals(List.of(1), changes.getRemoved());
+
+        when(employeeIntegration.getAllEmployees()).thenReturn(response(rahul, neha));
+        snapshotCache.getSnapshot();
+
+        assertEquals(version + 2, snapshotCache.getChangeLog().getVersion());
+    }
+
+    @Test
+    void testCreateMissingFromUpstreamIsReportedRemoved() {
+        Employee neha = new Employee(4, "Neha", 50000, 28, "");
+        createCache();
+        load(raj);
+        long version = snapshotCache.getChangeLog().getVersion();
+        snapshotCache.employeeCreated(neha);
+
+        when(employeeIntegration.getAllEmployees()).thenReturn(response(raj));
+        snapshotCache.getSnapshot();
+        EmployeeChanges sinceCreate = snapshotCache.getChangeLog().changesSince(version + 1);
+        EmployeeChanges sinceBefore = snapshotCache.getChangeLog().changesSince(version);
+
+        assertEquals(List.of(4), sinceCreate.getRemoved());
+        assertTrue(sinceBefore.getAdded().isEmpty());
+        assertTrue(sinceBefore.getRemoved().isEmpty());
+    }
+
+    @Test
+    void testTooOldOrUnknownVersionGetsResync() {
+        when(cacheConfigs.getChangeLogMaxEntries()).thenReturn(1);
+        createCache();
+        load(raj);
+        long version = snapshotCache.getChangeLog().getVersion();
+        load(raj, rahul);
+        load(raj, rahul, priya);
+
+        EmployeeChanges tooOld = snapshotCache.getChangeLog().changesSince(version);
+        EmployeeChanges unknown = snapshotCache.getChangeLog().changesSince(version + 10);
+        EmployeeChanges latest = snapshotCache.getChangeLog().changesSince(version + 1);
+
+        assertTrue(tooOld.isResync());
+        assertEquals(Arrays.asList(raj, rahul, priya), tooOld.getAdded());
+        assertTrue(unknown.isResync());
+        assertFalse(latest.isResync());
+        assertEquals(List.of(priya), latest.getAdded());
+    }
+
+    @Test
+    void testVersionFromBeforeRestartGetsResync() {
+        createCache();
+        load(raj);
+        load(raj, rahul);
+        long beforeRestart = snapshotCache.getChangeLog().getVersion();
+        snapshotCache.stop();
+
+        createCache();
+        load(raj);
+        for (int i = 0; i < 3; i++) {
+            load(raj, rahul, priya);
+            load(raj);
+        }
+        EmployeeChanges changes = snapshotCache.getChangeLog().changesSince(beforeRestart);
+
+        assertTrue(changes.isResync());
+        assertEquals(List.of(raj), changes.getAdded());
+    }
+
+    @Test
+    void testChangeLogBeforeFirstLoadAnswersResync() {
+        createCache();
+
+        EmployeeChanges changes = snapshotCache.getChangeLog().changesSince(0);
+
+        assertTrue(changes.isResync());
+        assertEquals(Collections.emptyList(), changes.getAdded());
+    }
+
+    private void createCache() {
+        snapshotCache = new EmployeeSnapshotCache(employeeIntegration, asyncEmployeeIntegration, cacheConfigs,
+                new SimpleMeterRegistry());
+    }
+
+    private void load(Employee... employees) {
+        when(employeeIntegration.getAllEmployees()).thenReturn(response(employees));
+        snapshotCache.invalidate();
+        snapshotCache.getSnapshot();
+    }
+
+    private GetAllEmployeeResponseDto response(Employee... employees) {
+        GetAllEmployeeResponseDto responseDto = new GetAllEmployeeResponseDto();
+        responseDto.setData(Arrays.asList(employees));
+        return responseDto;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.rqchallenge;
+
+import static com.example.rqchallenge.StubEmployeeServer.employeesPayload;
+import static com.example.rqchallenge.StubEmployeeServer.liveHeap;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.rqchallenge.cache.EmployeeSnapshot;
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compares the live heap retained by the upstream payload mapped into {@link Employee} beans against the same
+ * employees held in {@link EmployeeColumns}, and against a whole {@link EmployeeSnapshot} built on the columns
+ * including its indexes. Live heap is measured after a full GC.
+ * Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class EmployeeColumnarHeapBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compareBeansWithColumns() throws IOException {
+        byte[] payload = employeesPayload(EMPLOYEES);
+
+        long baseline = liveHeap();
+        List<Employee> beans = objectMapper.readValue(payload, GetAllEmployeeResponseDto.class).getData();
+        long beansHeap = liveHeap() - baseline;
+
+        baseline = liveHeap();
+        EmployeeColumns columns = EmployeeColumns.of(beans);
+        long columnsHeap = liveHeap() - baseline;
+
+        baseline = liveHeap();
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(columns, System.currentTimeMillis());
+        long indexesHeap = liveHeap() - baseline;
+
+        System.out.printf("employees=%d payload=%dKB%n", EMPLOYEES, payload.length / 1024);
+        System.out.printf("beans     liveHeap=%dKB (%d bytes/employee)%n", beansHeap / 1024, beansHeap / EMPLOYEES);
+        System.out.printf("columns   liveHeap=%dKB (%d bytes/employee)%n", columnsHeap / 1024, columnsHeap / EMPLOYEES);
+        System.out.printf("indexes   liveHeap=%dKB (%d bytes/employee)%n", indexesHeap / 1024, indexesHeap / EMPLOYEES);
+
+        for (int row = 0; row < EMPLOYEES; row += EMPLOYEES / 100) {
+            assertEquals(beans.get(row), snapshot.getEmployees().get(row));
+        }
+        assertTrue(columnsHeap < beansHeap * 2 / 3);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.rqchallenge.cache.EmployeeSnapshot;
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+import com.example.rqchallenge.cache.columnar.EmployeeColumnsFile;
+import com.example.rqchallenge.cache.columnar.StringTable;
+import com.example.rqchallenge.dto.Employee;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+class EmployeeColumnsTest {
+
+    private final List<Employee> employees = Arrays.asList(
+            new Employee(1, "Raj", 70000, 30, ""),
+            new Employee(2, "Élodie Dûpont", 90000, null, ""),
+            new Employee(null, null, null, 25, null),
+            new Employee(4, "Rahul", 60000, 40, "")
+    );
+
+    @Test
+    void testRowsReadBackAsTheyWereAdded() {
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+
+        assertEquals(4, columns.size());
+        assertEquals(employees, columns.asList());
+        assertNull(columns.get(2).getId());
+        assertNull(columns.get(2).getEmployeeName());
+        assertNull(columns.get(1).getEmployeeAge());
+        assertFalse(columns.hasSalary(2));
+        assertNotSame(columns.get(0), columns.get(0));
+    }
+
+    @Test
+    void testEqualStringsAreStoredOnce() {
+        StringTable.Builder builder = new StringTable.Builder(4);
+        builder.add("");
+        builder.add("Raj");
+        builder.add("");
+        builder.add(null);
+        StringTable table = builder.build();
+
+        assertEquals(2, table.distinctValues());
+        assertEquals(4, table.size());
+        assertEquals("", table.get(2));
+        assertNull(table.get(3));
+    }
+
+    @Test
+    void testIndexesReadFromColumns() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(EmployeeColumns.of(employees), 0);
+
+        assertEquals(OptionalInt.of(90000), snapshot.getSalaryIndex().getHighestSalary());
+        assertEquals(Arrays.asList("Élodie Dûpont", "Raj", "Rahul"), snapshot.getSalaryIndex().getTopNames(10));
+        assertArrayEquals(new int[]{1}, snapshot.getNameSearchIndex().search("DÛP", 0, 10));
+        assertArrayEquals(new int[]{1}, snapshot.getNameSearchIndex().search("é", 0, 10));
+        assertArrayEquals(new int[]{0, 3}, snapshot.getNameSearchIndex().search("ra", 0, 10));
+        assertEquals("Rahul", snapshot.findById("4").getEmployeeName());
+        assertNull(snapshot.findById("3"));
+    }
+
+    @Test
+    void testVersionDependsOnContentOnly() {
+        EmployeeSnapshot aa = new EmployeeSnapshot(EmployeeColumns.of(List.of(new Employee(1, "Aa", 70000, 30, ""))), 0);
+        EmployeeSnapshot bb = new EmployeeSnapshot(EmployeeColumns.of(List.of(new Employee(1, "BB", 70000, 30, ""))), 0);
+        EmployeeSnapshot again = new EmployeeSnapshot(EmployeeColumns.of(List.of(new Employee(1, "Aa", 70000, 30, ""))), 5);
+
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertNotEquals(aa.getVersion(), bb.getVersion());
+        assertEquals(aa.getVersion(), again.getVersion());
+        assertNotEquals(new EmployeeSnapshot(EmployeeColumns.of(employees), 0).getVersion(),
+                new EmployeeSnapshot(EmployeeColumns.of(employees.subList(0, 3)), 0).getVersion());
+    }
+
+    @Test
+    void testColumnsFileRoundTrip(@TempDir Path directory) throws IOException {
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+        Path path = directory.resolve("employees.snapshot");
+
+        EmployeeColumnsFile.write(path, columns, 1234L);
+        EmployeeColumnsFile file = EmployeeColumnsFile.read(path);
+
+        assertEquals(employees, file.getColumns().asList());
+        assertArrayEquals(columns.getContentDigest(), file.getColumns().getContentDigest());
+        assertEquals(1234L, file.getSavedAtMillis());
+        assertFalse(file.getColumns().hasId(2));
+        try (var entries = Files.list(directory)) {
+            assertEquals(1, entries.count());
+        }
+    }
+
+    @Test
+    void testCorruptColumnsFileIsRejected(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("employees.snapshot");
+        EmployeeColumnsFile.write(path, EmployeeColumns.of(employees), 0L);
+        byte[] bytes = Files.readAllBytes(path);
+
+        bytes[bytes.length - 3] ^= 1;
+        Files.write(path, bytes);
+        assertThrows(IOException.class, () -> EmployeeColumnsFile.read(path));
+
+        Files.write(path, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(IOException.class, () -> EmployeeColumnsFile.read(path));
+
+        Files.write(path, "not a snapshot at all, just some text".getBytes());
+        assertThrows(IOException.class, () -> EmployeeColumnsFile.read(path));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.config.EmployeeCacheConfigs;
+import com.example.rqchallenge.config.EmployeeHttpCacheConfigs;
+import com.example.rqchallenge.controller.EmployeeController;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.example.rqchallenge.service.impl.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class EmployeeConditionalRequestTest {
+
+    private EmployeeIntegration employeeIntegration;
+
+    private EmployeeCacheConfigs cacheConfigs;
+
+    @Mock
+    private EmployeeHttpCacheConfigs httpCacheConfigs;
+
+    private EmployeeSnapshotCache snapshotCache;
+
+    private EmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        EmployeeServiceFixture fixture = new EmployeeServiceFixture();
+        employeeIntegration = fixture.employeeIntegration;
+        cacheConfigs = fixture.cacheConfigs;
+        when(httpCacheConfigs.isEtagEnabled()).thenReturn(true);
+        when(httpCacheConfigs.getAllEmployeesMaxAgeSeconds()).thenReturn(0L);
+        when(httpCacheConfigs.getTopEarnersMaxAgeSeconds()).thenReturn(60L);
+        snapshotCache = fixture.snapshotCache;
+        employeeService = fixture.employeeService;
+        givenEmployees(new Employee(1, "Tiger Nixon", 320800, 61, ""),
+                new Employee(2, "Garrett Winters", 170750, 63, ""));
+    }
+
+    @Test
+    void testMatchingETagAnswersNotModifiedWithoutBody() throws Exception {
+        ResponseEntity<List<Employee>> first = controller(null).getAllEmployees();
+        String eTag = first.getHeaders().getETag();
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertNotNull(eTag);
+        assertEquals("no-cache", first.getHeaders().getCacheControl());
+
+        ResponseEntity<List<Employee>> second = controller(eTag).getAllEmployees();
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertNull(second.getBody());
+        verify(employeeIntegration, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void testETagDiffersPerRepresentationAndFollowsData() {
+        ResponseEntity<List<String>> topEarners = controller(null).getTopTenHighestEarningEmployeeNames();
+        String eTag = topEarners.getHeaders().getETag();
+        assertEquals("max-age=60, must-revalidate", topEarners.getHeaders().getCacheControl());
+        assertNotEquals(eTag, controller(null).getHighestSalaryOfEmployees().getHeaders().getETag());
+
+        givenEmployees(new Employee(1, "Tiger Nixon", 320800, 61, ""),
+                new Employee(2, "Garrett Winters", 170751, 63, ""));
+        snapshotCache.invalidate();
+        ResponseEntity<List<String>> changed = controller(eTag).getTopTenHighestEarningEmployeeNames();
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertNotEquals(eTag, changed.getHeaders().getETag());
+
+        snapshotCache.invalidate();
+        String reloaded = controller(null).getTopTenHighestEarningEmployeeNames().getHeaders().getETag();
+        assertEquals(changed.getHeaders().getETag(), reloaded);
+    }
+
+    @Test
+    void testNoETagWithoutSnapshotCache() throws Exception {
+        when(cacheConfigs.isEnabled()).thenReturn(false);
+        ResponseEntity<List<Employee>> response = controller("\"anything\"").getAllEmployees();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().size());
+        assertNull(response.getHeaders().getETag());
+    }
+
+    private void givenEmployees(Employee... employees) {
+        GetAllEmployeeResponseDto response = new GetAllEmployeeResponseDto();
+        response.setData(new ArrayList<>(Arrays.asList(employees)));
+        when(employeeIntegration.getAllEmployees()).thenReturn(response);
+    }
+
+    private EmployeeController controller(String ifNoneMatch) {
+        return new EmployeeController(employeeService, null, httpCacheConfigs, null, request(ifNoneMatch));
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employee");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.config.EmployeeWriteQueueConfigs;
+import com.example.rqchallenge.controller.EmployeeWriteQueueController;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeWriteOperation;
+import com.example.rqchallenge.dto.EmployeeWriteOperation.Status;
+import com.example.rqchallenge.exception.EmployeeCircuitOpenException;
+import com.example.rqchallenge.exception.EmployeeIntegrationException;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.exception.EmployeeQueueFullException;
+import com.example.rqchallenge.exception.EmployeeServiceException;
+import com.example.rqchallenge.service.impl.EmployeeService;
+import com.example.rqchallenge.service.queue.EmployeeCreateQueue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class EmployeeCreateQueueTest {
+
+    @Mock
+    private EmployeeWriteQueueConfigs queueConfigs;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EmployeeCreateQueue queue;
+
+    private final Employee raj = new Employee(7, "Raj", 70000, 30, "");
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(queueConfigs.isEnabled()).thenReturn(true);
+        when(queueConfigs.getCapacity()).thenReturn(100);
+        when(queueConfigs.getWorkers()).thenReturn(2);
+        when(queueConfigs.getMaxAttempts()).thenReturn(3);
+        when(queueConfigs.getBaseDelayMs()).thenReturn(1L);
+        when(queueConfigs.getMaxDelayMs()).thenReturn(10L);
+        when(queueConfigs.getOperationRetentionMs()).thenReturn(60000L);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void testQueuedCreationIsDrainedAndCanBePolled() throws Exception {
+        when(employeeService.createEmployee("Raj", 70000, 30)).thenReturn(raj);
+        startQueue();
+
+        EmployeeWriteOperation submitted = queue.submit("Raj", 70000, 30);
+        EmployeeWriteOperation completed = awaitCompletion(submitted.getId());
+
+        assertEquals(Status.PENDING, submitted.getStatus());
+        assertEquals(Status.SUCCEEDED, completed.getStatus());
+        assertEquals(raj, completed.getEmployee());
+        assertEquals(1, completed.getAttempts());
+        assertNotNull(completed.getCompletedAt());
+        assertEquals(1, meterRegistry.get("employee.write_queue.drain").tag("outcome", "succeeded").timer().count());
+        assertEquals(0, meterRegistry.get("employee.write_queue.depth").gauge().value());
+    }
+
+    @Test
+    void testQueuedCreationIsAcceptedWithOperationLocation() throws Exception {
+        when(employeeService.createEmployee("Raj", 70000, 30)).thenReturn(raj);
+        startQueue();
+
+        ResponseEntity<EmployeeWriteOperation> response = new EmployeeWriteQueueController(queue)
+                .createEmployee(Map.of("name", "Raj", "salary", 70000, "age", 30));
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("employee/operations/" + response.getBody().getId(), response.getHeaders().getLocation().toString());
+        assertEquals(Status.SUCCEEDED, awaitCompletion(response.getBody().getId()).getStatus());
+    }
+
+    @Test
+    void testInvalidEmployeeIsRejectedBeforeQueuing() throws Exception {
+        startQueue();
+
+        assertThrows(IllegalArgumentException.class, () -> queue.submit(" ", 70000, 30));
+        assertThrows(IllegalArgumentException.class, () -> queue.submit("Raj", 0, 30));
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void testFullQueueRejectsSubmissions() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(queueConfigs.getCapacity()).thenReturn(2);
+        when(queueConfigs.getWorkers()).thenReturn(1);
+        when(employeeService.createEmployee(anyString(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return raj;
+        });
+        startQueue();
+
+        queue.submit("Raj", 70000, 30);
+        queue.submit("Raj", 70000, 30);
+
+        assertThrows(EmployeeQueueFullException.class, () -> queue.submit("Raj", 70000, 30));
+        assertEquals(1, meterRegistry.get("employee.write_queue.rejected").counter().count());
+        assertEquals(2, meterRegistry.get("employee.write_queue.depth").gauge().value());
+        release.countDown();
+    }
+
+    @Test
+    void testRejectedCallIsRetried() throws Exception {
+        when(employeeService.createEmployee("Raj", 70000, 30))
+                .thenThrow(new EmployeeServiceException("Error creating employee",
+                        new EmployeeCircuitOpenException("Circuit breaker is open for employee operation CREATE")))
+                .thenReturn(raj);
+        startQueue();
+
+        EmployeeWriteOperation completed = awaitCompletion(queue.submit("Raj", 70000, 30).getId());
+
+        assertEquals(Status.SUCCEEDED, completed.getStatus());
+        assertEquals(2, completed.getAttempts());
+        assertEquals(1, meterRegistry.get("employee.write_queue.retries").counter().count());
+    }
+
+    @Test
+    void testRejectionsOutlastingMaxAttemptsAreStillRetried() throws Exception {
+        EmployeeServiceException circuitOpen = new EmployeeServiceException("Error creating employee",
+                new EmployeeCircuitOpenException("Circuit breaker is open for employee operation CREATE"));
+        when(employeeService.createEmployee("Raj", 70000, 30))
+                .thenThrow(circuitOpen, circuitOpen, circuitOpen, circuitOpen, circuitOpen)
+                .thenReturn(raj);
+        startQueue();
+
+        EmployeeWriteOperation completed = awaitCompletion(queue.submit("Raj", 70000, 30).getId());
+
+        assertEquals(Status.SUCCEEDED, completed.getStatus());
+        assertEquals(6, completed.getAttempts());
+        assertEquals(5, meterRegistry.get("employee.write_queue.retries").counter().count());
+    }
+
+    @Test
+    void testServerErrorIsNotRetried() throws Exception {
+        when(employeeService.createEmployee("Raj", 70000, 30))
+                .thenThrow(new EmployeeServiceException("Error creating employee",
+                        new EmployeeIntegrationException("Error while creating employee",
+                                new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR))));
+        startQueue();
+
+        EmployeeWriteOperation completed = awaitCompletion(queue.submit("Raj", 70000, 30).getId());
+
+        assertEquals(Status.UNKNOWN, completed.getStatus());
+        assertEquals(1, completed.getAttempts());
+        assertEquals("Error creating employee", completed.getError());
+        verify(employeeService, times(1)).createEmployee("Raj", 70000, 30);
+    }
+
+    @Test
+    void testClientErrorFailsWithoutRetry() throws Exception {
+        when(employeeService.createEmployee("Raj", 70000, 30))
+                .thenThrow(new EmployeeServiceException("Error creating employee",
+                        new EmployeeIntegrationException("Error while creating employee",
+                                new HttpClientErrorException(HttpStatus.BAD_REQUEST))));
+        startQueue();
+
+        EmployeeWriteOperation completed = awaitCompletion(queue.submit("Raj", 70000, 30).getId());
+
+        assertEquals(Status.FAILED, completed.getStatus());
+        assertEquals(1, completed.getAttempts());
+        verify(employeeService, times(1)).createEmployee("Raj", 70000, 30);
+    }
+
+    @Test
+    void testTimeoutIsUnknownWithoutRetry() throws Exception {
+        when(employeeService.createEmployee("Raj", 70000, 30))
+                .thenThrow(new EmployeeServiceException("Error creating employee",
+                        new EmployeeIntegrationException("Error while creating employee",
+                                new ResourceAccessException("Read timed out",
+                                        new HttpTimeoutException("request timed out")))));
+        startQueue();
+
+        EmployeeWriteOperation completed = awaitCompletion(queue.submit("Raj", 70000, 30).getId());
+
+        assertEquals(Status.UNKNOWN, completed.getStatus());
+        assertEquals(1, meterRegistry.get("employee.write_queue.drain").tag("outcome", "unknown").timer().count());
+        verify(employeeService, times(1)).createEmployee("Raj", 70000, 30);
+    }
+
+    @Test
+    void testUnknownOperationIsNotFound() throws Exception {
+        startQueue();
+
+        assertThrows(EmployeeNotFoundException.class, () -> queue.getOperation("missing"));
+    }
+
+    @Test
+    void testJournaledCreationSurvivesRestart(@TempDir Path directory) throws Exception {
+        when(queueConfigs.getJournalPath()).thenReturn(directory.resolve("creates.journal").toString());
+        when(queueConfigs.getBaseDelayMs()).thenReturn(60000L);
+        when(queueConfigs.getMaxDelayMs()).thenReturn(60000L);
+        when(employeeService.createEmployee("Raj", 70000, 30)).thenThrow(new EmployeeServiceException(
+                "Error creating employee", new EmployeeCircuitOpenException("Circuit breaker is open")));
+        startQueue();
+        String id = queue.submit("Raj", 70000, 30).getId();
+        verify(employeeService, timeout(5000)).createEmployee("Raj", 70000, 30);
+        queue.stop();
+
+        reset(employeeService);
+        when(employeeService.createEmployee("Raj", 70000, 30)).thenReturn(raj);
+        startQueue();
+        EmployeeWriteOperation completed = awaitCompletion(id);
+        queue.stop();
+        startQueue();
+
+        assertEquals(Status.SUCCEEDED, completed.getStatus());
+        assertEquals(raj, queue.getOperation(id).getEmployee());
+        verify(employeeService, times(1)).createEmployee("Raj", 70000, 30);
+    }
+
+    @Test
+    void testCreationInFlightAtStopIsUnknownAfterRestart(@TempDir Path directory) throws Exception {
+        when(queueConfigs.getJournalPath()).thenReturn(directory.resolve("creates.journal").toString());
+        CountDownLatch started = new CountDownLatch(1);
+        when(employeeService.createEmployee("Raj", 70000, 30)).thenAnswer(invocation -> {
+            started.countDown();
+            new CountDownLatch(1).await();
+            return raj;
+        });
+        startQueue();
+        String id = queue.submit("Raj", 70000, 30).getId();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        queue.stop();
+
+        reset(employeeService);
+        startQueue();
+        EmployeeWriteOperation operation = queue.getOperation(id);
+        queue.stop();
+        startQueue();
+
+        assertEquals(Status.UNKNOWN, operation.getStatus());
+        assertEquals(1, operation.getAttempts());
+        assertNotNull(operation.getError());
+        assertEquals(Status.UNKNOWN, queue.getOperation(id).getStatus());
+        verifyNoInteractions(employeeService);
+    }
+
+    private void startQueue() throws Exception {
+        queue = new EmployeeCreateQueue(queueConfigs, employeeService, new ObjectMapper(), meterRegistry);
+        queue.start();
+    }
+
+    private EmployeeWriteOperation awaitCompletion(String id) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            EmployeeWriteOperation operation = queue.getOperation(id);
+            if (operation.getStatus() != Status.PENDING) {
+                return operation;
+            }
+            Thread.sleep(10);
+        }
+        fail("Operation " + id + " did not complete");
+        return null;
+    }
+}
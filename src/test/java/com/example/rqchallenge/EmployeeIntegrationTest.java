@@ -3,15 +3,18 @@ package com.example.rqchallenge;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.example.rqchallenge.config.EmployeeResilienceConfigs;
+import com.example.rqchallenge.config.EmployeeRetryConfigs;
 import com.example.rqchallenge.config.EmployeeUrlConfigs;
 import com.example.rqchallenge.dto.Employee;
 import com.example.rqchallenge.exception.EmployeeIntegrationException;
 import com.example.rqchallenge.integration.EmployeeIntegration;
 import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
 import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.example.rqchallenge.integration.resilience.EmployeeResilience;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.*;
@@ -25,12 +28,17 @@ class EmployeeIntegrationTest {
     private RestTemplate restTemplate;
     @Mock
     private EmployeeUrlConfigs employeeUrlConfigs;
-    @InjectMocks
+    @Mock
+    private EmployeeResilienceConfigs resilienceConfigs;
+    @Mock
+    private EmployeeRetryConfigs retryConfigs;
     private EmployeeIntegration employeeIntegration;
     private String url = "http://baseurl:8080/employees";
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        employeeIntegration = new EmployeeIntegration(restTemplate, employeeUrlConfigs, null,
+                new EmployeeResilience(resilienceConfigs, retryConfigs, new SimpleMeterRegistry()));
     }
 
     private final String SUCCESS = "success";
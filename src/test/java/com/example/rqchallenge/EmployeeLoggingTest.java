@@ -0,0 +1,141 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.rqchallenge.config.EmployeeLoggingConfigs;
+import com.example.rqchallenge.logging.AccessLogFilter;
+import com.example.rqchallenge.logging.LoggerRateLimitFilter;
+import com.example.rqchallenge.logging.MeteredAsyncAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class EmployeeLoggingTest {
+
+    private LoggerContext context;
+    private ListAppender<ILoggingEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        events = new ListAppender<>();
+        events.setContext(context);
+        events.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.stop();
+    }
+
+    @Test
+    void testRateLimitCapsInfoPerLoggerButNotWarnings() {
+        LoggerRateLimitFilter filter = new LoggerRateLimitFilter();
+        filter.setLoggerPrefix("com.example");
+        filter.addExclude("com.example.access");
+        filter.setMaxEventsPerSecond(10);
+        filter.start();
+        context.addTurboFilter(filter);
+        context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).addAppender(events);
+        long suppressedBefore = LoggerRateLimitFilter.getSuppressedEvents();
+
+        for (int i = 0; i < 1000; i++) {
+            context.getLogger("com.example.Service").info("request {}", i);
+            context.getLogger("com.example.Integration").warn("failure {}", i);
+            context.getLogger("com.example.access").info("access {}", i);
+            context.getLogger("org.other.Library").info("other {}", i);
+        }
+
+        long serviceInfo = count("com.example.Service");
+        assertTrue(serviceInfo >= 10 && serviceInfo <= 20, "service INFO events: " + serviceInfo);
+        assertEquals(1000, count("com.example.Integration"));
+        assertEquals(1000, count("com.example.access"));
+        assertEquals(1000, count("org.other.Library"));
+        assertEquals(1000 - serviceInfo, LoggerRateLimitFilter.getSuppressedEvents() - suppressedBefore);
+    }
+
+    @Test
+    void testAsyncAppenderNeverBlocksAndCountsDrops() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger written = new AtomicInteger();
+        AppenderBase<ILoggingEvent> slowAppender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.incrementAndGet();
+            }
+        };
+        slowAppender.setContext(context);
+        slowAppender.start();
+        MeteredAsyncAppender asyncAppender = new MeteredAsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setQueueSize(4);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(slowAppender);
+        asyncAppender.start();
+        Logger logger = context.getLogger("com.example.Service");
+        logger.addAppender(asyncAppender);
+        long droppedBefore = MeteredAsyncAppender.getDroppedEvents();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            logger.info("request {}", i);
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "logging blocked on a full queue");
+        release.countDown();
+        asyncAppender.stop();
+
+        long dropped = MeteredAsyncAppender.getDroppedEvents() - droppedBefore;
+        assertTrue(dropped >= 15, "dropped: " + dropped);
+        assertEquals(20, written.get() + dropped);
+    }
+
+    @Test
+    void testAccessLogWritesOneSampledLinePerRequest() throws Exception {
+        Logger accessLogger = (Logger) LoggerFactory.getLogger(AccessLogFilter.ACCESS_LOGGER);
+        ListAppender<ILoggingEvent> accessEvents = new ListAppender<>();
+        accessEvents.start();
+        accessLogger.addAppender(accessEvents);
+        EmployeeLoggingConfigs loggingConfigs = mock(EmployeeLoggingConfigs.class);
+        when(loggingConfigs.isAccessLogEnabled()).thenReturn(true);
+        when(loggingConfigs.getAccessLogSampleRate()).thenReturn(0.0);
+        when(loggingConfigs.getAccessLogSlowRequestMs()).thenReturn(1000L);
+        AccessLogFilter filter = new AccessLogFilter(loggingConfigs);
+        try {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee/1"), new MockHttpServletResponse(),
+                    new MockFilterChain());
+            MockHttpServletResponse failed = new MockHttpServletResponse();
+            failed.setStatus(503);
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee/2"), failed, new MockFilterChain());
+            filter.doFilter(new MockHttpServletRequest("GET", "/actuator/prometheus"), failed, new MockFilterChain());
+
+            assertEquals(1, accessEvents.list.size());
+            String line = accessEvents.list.get(0).getFormattedMessage();
+            assertTrue(line.startsWith("method=GET path=/api/v1/employee/2 route=- status=503 durationMs="), line);
+        } finally {
+            accessLogger.detachAppender(accessEvents);
+        }
+    }
+
+    private long count(String loggerName) {
+        return events.list.stream().filter(event -> event.getLoggerName().equals(loggerName)).count();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMetrics
+class EmployeeMetricsTest {
+
+    private static final StubEmployeeServer upstream = startUpstream();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("employee.base-url", upstream::baseUrl);
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.close();
+    }
+
+    @Test
+    void testRequestsAreTimedInEveryLayer() throws Exception {
+        assertEquals(200, send(get("/employee/3")).statusCode());
+        assertEquals(200, send(get("/employee/search/Employee")).statusCode());
+
+        String metrics = scrape();
+
+        assertMetric(metrics, "http_server_requests_seconds_bucket", "uri=\"/employee/{id}\"", "status=\"200\"", "le=");
+        assertMetric(metrics, "employee_service_operation_seconds_bucket", "operation=\"get_by_id\"",
+                "outcome=\"SUCCESS\"", "le=");
+        assertMetric(metrics, "employee_service_operation_seconds_count", "operation=\"search\"", "mode=\"blocking\"");
+        assertMetric(metrics, "employee_upstream_requests_seconds_bucket", "operation=\"get_by_id\"",
+                "outcome=\"SUCCESS\"", "status=\"2xx\"", "le=");
+        assertMetric(metrics, "employee_upstream_requests_seconds_count", "operation=\"list\"", "status=\"2xx\"");
+        assertMetric(metrics, "employee_upstream_in_flight", "operation=\"get_by_id\"");
+        assertMetric(metrics, "employee_cache_by_id_requests_total", "result=\"miss\"");
+        assertMetric(metrics, "employee_cache_snapshot_requests_total", "result=\"miss\"");
+    }
+
+    @Test
+    void testUpstreamFailuresAreTaggedWithStatus() throws Exception {
+        upstream.failNextRequests(1, 500);
+        HttpRequest create = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/employee"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Raj\",\"salary\":70000,\"age\":30}"))
+                .build();
+        assertTrue(send(create).statusCode() >= 500);
+
+        String metrics = scrape();
+
+        assertMetric(metrics, "employee_upstream_requests_seconds_count", "operation=\"create\"",
+                "outcome=\"SERVER_ERROR\"", "status=\"500\"");
+        assertMetric(metrics, "employee_service_operation_seconds_count", "operation=\"create\"",
+                "outcome=\"ERROR\"", "exception=\"EmployeeServiceException\"");
+    }
+
+    private String scrape() throws Exception {
+        HttpResponse<String> response = send(get("/actuator/prometheus"));
+        assertEquals(200, response.statusCode());
+        return response.body();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1" + path)).build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void assertMetric(String metrics, String name, String... fragments) {
+        boolean found = Arrays.stream(metrics.split("\n"))
+                .filter(line -> line.startsWith(name + "{"))
+                .anyMatch(line -> Arrays.stream(fragments).allMatch(line::contains));
+        assertTrue(found, name + " with " + Arrays.toString(fragments) + " not found in prometheus output");
+    }
+
+    private static StubEmployeeServer startUpstream() {
+        try {
+            return new StubEmployeeServer(10, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.config.EmployeeQueryConfigs;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeePage;
+import com.example.rqchallenge.dto.EmployeeQuery;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.example.rqchallenge.service.impl.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class EmployeeQueryTest {
+
+    private EmployeeIntegration employeeIntegration;
+
+    private EmployeeQueryConfigs queryConfigs;
+
+    private EmployeeService employeeService;
+
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeServiceFixture fixture = new EmployeeServiceFixture();
+        employeeIntegration = fixture.employeeIntegration;
+        queryConfigs = fixture.queryConfigs;
+        when(queryConfigs.getDefaultLimit()).thenReturn(100);
+        when(queryConfigs.getMaxLimit()).thenReturn(1000);
+        employeeService = fixture.employeeService;
+
+        employees = new ArrayList<>();
+        for (int id = 60; id >= 1; id--) {
+            String name = (id % 3 == 0 ? "Raj " : "Rahul ") + (char) ('a' + id % 26);
+            employees.add(new Employee(id, name, id % 7 == 0 ? null : 1000 * (id % 10), 20 + id % 15, ""));
+        }
+        employees.add(new Employee(61, null, 5000, null, ""));
+        upstreamReturns(employees);
+    }
+
+    @Test
+    void testFiltersAreAppliedServerSide() {
+        EmployeePage page = employeeService.queryEmployees(
+                new EmployeeQuery(3000, 6000, 25, 30, null, "salary,desc", null, null));
+
+        List<Employee> expected = employees.stream()
+                .filter(e -> e.getEmployeeSalary() != null && e.getEmployeeSalary() >= 3000 && e.getEmployeeSalary() <= 6000)
+                .filter(e -> e.getEmployeeAge() != null && e.getEmployeeAge() >= 25 && e.getEmployeeAge() <= 30)
+                .sorted(Comparator.comparing(Employee::getEmployeeSalary).reversed().thenComparing(Employee::getId))
+                .collect(Collectors.toList());
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, page.getEmployees());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testPagesFollowTheSortWithMissingValuesLast() {
+        assertEquals(sorted(Comparator.comparing(Employee::getId)), allPages(null, "id", 7));
+        assertEquals(sorted(Comparator.comparing(Employee::getEmployeeSalary,
+                Comparator.nullsLast(Comparator.<Integer>reverseOrder())).thenComparing(Employee::getId)),
+                allPages(null, "salary,desc", 7));
+        assertEquals(sorted(Comparator.comparing(Employee::getEmployeeAge, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+                .thenComparing(Employee::getId)), allPages(null, "age,asc", 4));
+        assertEquals(employees.stream()
+                        .filter(e -> e.getEmployeeName() != null && e.getEmployeeName().toLowerCase().contains("raj"))
+                        .sorted(Comparator.comparing(Employee::getEmployeeName).reversed().thenComparing(Employee::getId))
+                        .collect(Collectors.toList()),
+                allPages("RAJ", "name,desc", 3));
+    }
+
+    @Test
+    void testCursorContinuesAfterReload() {
+        EmployeePage first = employeeService.queryEmployees(new EmployeeQuery(null, null, null, null, null, "id", 5, null));
+        assertEquals(5, first.getEmployees().get(4).getId());
+
+        List<Employee> reloaded = new ArrayList<>(employees);
+        reloaded.add(new Employee(-1, "Before the cursor", 1000, 30, ""));
+        reloaded.removeIf(employee -> employee.getId() == 6);
+        upstreamReturns(reloaded);
+        when(employeeIntegration.createEmployee("Before the cursor", 1000, 30)).thenReturn(new EmployeeResponseDto());
+        employeeService.createEmployee("Before the cursor", 1000, 30);
+
+        EmployeePage second = employeeService.queryEmployees(
+                new EmployeeQuery(null, null, null, null, null, "id", 5, first.getNextCursor()));
+        assertEquals(List.of(7, 8, 9, 10, 11), second.getEmployees().stream().map(Employee::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testRowsWithoutIdAreLeftOutSoPagesNeverSkipTies() {
+        List<Employee> withoutIds = new ArrayList<>(employees);
+        for (int i = 0; i < 3; i++) {
+            withoutIds.add(new Employee(null, "No id " + i, 9000, 30, ""));
+        }
+        upstreamReturns(withoutIds);
+
+        List<Employee> pages = allPages(null, "salary,desc", 2);
+
+        assertEquals(sorted(Comparator.comparing(Employee::getEmployeeSalary,
+                Comparator.nullsLast(Comparator.<Integer>reverseOrder())).thenComparing(Employee::getId)), pages);
+    }
+
+    @Test
+    void testInvalidQueriesAreRejectedBeforeLoading() {
+        EmployeePage page = employeeService.queryEmployees(new EmployeeQuery(null, null, null, null, null, "age", 2, null));
+        clearInvocations(employeeIntegration);
+
+        assertThrows(IllegalArgumentException.class, () -> employeeService.queryEmployees(
+                new EmployeeQuery(null, null, null, null, null, "salary", 2, page.getNextCursor())));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.queryEmployees(
+                new EmployeeQuery(null, null, null, null, null, "age", 2, "not a cursor")));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.queryEmployees(
+                new EmployeeQuery(null, null, null, null, null, "salary,up", null, null)));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.queryEmployees(
+                new EmployeeQuery(null, null, null, null, null, "profile_image", null, null)));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.queryEmployees(
+                new EmployeeQuery(5000, 4000, null, null, null, null, null, null)));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.queryEmployees(
+                new EmployeeQuery(null, null, null, null, null, null, 1001, null)));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.queryEmployees(
+                new EmployeeQuery(null, null, null, null, " ", null, null, null)));
+        verifyNoInteractions(employeeIntegration);
+    }
+
+    private List<Employee> allPages(String name, String sort, int limit) {
+        List<Employee> results = new ArrayList<>();
+        String cursor = null;
+        do {
+            EmployeePage page = employeeService.queryEmployees(new EmployeeQuery(null, null, null, null, name, sort, limit, cursor));
+            assertTrue(page.getEmployees().size() <= limit);
+            results.addAll(page.getEmployees());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return results;
+    }
+
+    private List<Employee> sorted(Comparator<Employee> order) {
+        return employees.stream().sorted(order).collect(Collectors.toList());
+    }
+
+    private void upstreamReturns(List<Employee> data) {
+        GetAllEmployeeResponseDto response = new GetAllEmployeeResponseDto();
+        response.setData(data);
+        when(employeeIntegration.getAllEmployees()).thenReturn(response);
+    }
+}
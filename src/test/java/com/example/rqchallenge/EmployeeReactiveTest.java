@@ -0,0 +1,221 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.config.EmployeeCacheConfigs;
+import com.example.rqchallenge.config.EmployeeResilienceConfigs;
+import com.example.rqchallenge.config.EmployeeRetryConfigs;
+import com.example.rqchallenge.config.EmployeeUrlConfigs;
+import com.example.rqchallenge.controller.ReactiveEmployeeController;
+import com.example.rqchallenge.dto.BatchItemResult;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.exception.EmployeeCreationException;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.exception.EmployeeServiceException;
+import com.example.rqchallenge.integration.AsyncEmployeeIntegration;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.ReactiveEmployeeIntegration;
+import com.example.rqchallenge.integration.ReactiveEmployeeReader;
+import com.example.rqchallenge.integration.resilience.EmployeeResilience;
+import com.example.rqchallenge.integration.stream.EmployeeStreamReader;
+import com.example.rqchallenge.service.impl.ReactiveEmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class EmployeeReactiveTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmployeeStreamReader streamReader = new EmployeeStreamReader(objectMapper);
+
+    private StubEmployeeServer server;
+    private EmployeeServiceFixture fixture;
+    private EmployeeCacheConfigs cacheConfigs;
+    private AsyncEmployeeIntegration asyncIntegration;
+    private ReactiveEmployeeIntegration reactiveIntegration;
+    private ReactiveEmployeeService reactiveService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubEmployeeServer(10, 0);
+        EmployeeUrlConfigs urlConfigs = mock(EmployeeUrlConfigs.class);
+        when(urlConfigs.getBaseUrl()).thenReturn(server.baseUrl());
+        when(urlConfigs.getEmployeesResource()).thenReturn("/employees");
+        when(urlConfigs.getEmployeeResource()).thenReturn("/employee/");
+        when(urlConfigs.getEmployeeCreateResource()).thenReturn("/create");
+        when(urlConfigs.getEmployeeDeleteResource()).thenReturn("/delete/");
+        EmployeeRetryConfigs retryConfigs = mock(EmployeeRetryConfigs.class);
+        when(retryConfigs.isEnabled()).thenReturn(true);
+        when(retryConfigs.getMaxAttempts()).thenReturn(3);
+        when(retryConfigs.getBaseDelayMs()).thenReturn(20L);
+        when(retryConfigs.getMaxDelayMs()).thenReturn(200L);
+        when(retryConfigs.getBudgetPercent()).thenReturn(20);
+        when(retryConfigs.getBudgetMinRetriesPerSecond()).thenReturn(1);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmployeeResilience resilience = new EmployeeResilience(mock(EmployeeResilienceConfigs.class), retryConfigs,
+                meterRegistry);
+        EmployeeIntegration employeeIntegration = new EmployeeIntegration(new RestTemplate(), urlConfigs, streamReader,
+                resilience);
+        asyncIntegration = mock(AsyncEmployeeIntegration.class);
+        reactiveIntegration = new ReactiveEmployeeIntegration(WebClient.create(), urlConfigs, streamReader, resilience);
+        fixture = new EmployeeServiceFixture(employeeIntegration, asyncIntegration,
+                new ReactiveEmployeeReader(reactiveIntegration));
+        cacheConfigs = fixture.cacheConfigs;
+        when(cacheConfigs.isEnabled()).thenReturn(false);
+        reactiveService = new ReactiveEmployeeService(reactiveIntegration, fixture.employeeService,
+                fixture.snapshotCache, fixture.byIdCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testStreamReaderEmitsEmployeesSplitAcrossBuffers() throws IOException {
+        byte[] payload = payload(500);
+        List<Employee> expected = new ArrayList<>();
+        streamReader.read(new ByteArrayInputStream(payload), expected::add);
+
+        assertEquals(500, expected.size());
+        assertEquals(expected, streamReader.read(buffers(payload, 7)).collectList().block());
+        assertEquals(expected, streamReader.read(buffers(payload, payload.length)).collectList().block());
+    }
+
+    @Test
+    void testStreamReaderPullsBuffersOnlyAsEmployeesAreConsumed() {
+        List<DataBuffer> chunks = buffers(payload(5000), 16).collectList().block();
+        AtomicInteger pulled = new AtomicInteger();
+
+        Employee first = streamReader.read(Flux.fromIterable(chunks).doOnNext(ignored -> pulled.incrementAndGet()))
+                .blockFirst();
+
+        assertEquals(1, first.getId());
+        assertTrue(pulled.get() < chunks.size() / 10, "pulled " + pulled.get() + " of " + chunks.size());
+    }
+
+    @Test
+    void testStreamReaderRejectsTruncatedBody() {
+        byte[] payload = payload(3);
+        byte[] truncated = Arrays.copyOf(payload, payload.length - 5);
+
+        assertThrows(UncheckedIOException.class, () -> streamReader.read(buffers(truncated, 8)).collectList().block());
+        assertThrows(UncheckedIOException.class, () -> streamReader.read(buffers("[]".getBytes(StandardCharsets.UTF_8), 1))
+                .collectList().block());
+    }
+
+    @Test
+    void testIntegrationRetriesListUntilFirstEmployee() {
+        server.failNextRequests(2, 503);
+
+        assertEquals(10, reactiveIntegration.getAllEmployees().collectList().block().size());
+        assertEquals(3, server.requestCount());
+    }
+
+    @Test
+    void testIntegrationMapsUpstreamFailures() {
+        server.failNextRequests(1, 404);
+        assertThrows(EmployeeNotFoundException.class, () -> reactiveIntegration.getEmployeeById("1").block());
+        assertThrows(EmployeeNotFoundException.class, () -> reactiveIntegration.getEmployeeById("99").block());
+        assertEquals("Employee 3", reactiveIntegration.getEmployeeById("3").block().getData().getEmployeeName());
+
+        int requests = server.requestCount();
+        server.failNextRequests(1, 503);
+        assertThrows(EmployeeCreationException.class, () -> reactiveIntegration.createEmployee("Raj", 70000, 30).block());
+        assertEquals(requests + 1, server.requestCount());
+        assertThrows(IllegalArgumentException.class, () -> reactiveIntegration.createEmployee("", 70000, 30));
+    }
+
+    @Test
+    void testServiceStreamsFromUpstreamWhenSnapshotCacheIsDisabled() {
+        when(cacheConfigs.isEnabled()).thenReturn(false);
+
+        assertEquals(10, reactiveService.getAllEmployees().count().block());
+        assertEquals(1070, reactiveService.getHighestSalaryOfEmployees().block());
+        assertEquals(Arrays.asList("Employee 10", "Employee 9", "Employee 8"),
+                reactiveService.getTopNHighestEarningEmployeeNames(3).collectList().block());
+        assertThrows(IllegalArgumentException.class,
+                () -> reactiveService.getTopNHighestEarningEmployeeNames(0).collectList().block());
+
+        server.setFailureStatus(500);
+        assertThrows(EmployeeServiceException.class, () -> reactiveService.getAllEmployees().collectList().block());
+    }
+
+    @Test
+    void testServiceAnswersReadsFromSnapshotAndInvalidatesItOnWrites() {
+        when(cacheConfigs.isEnabled()).thenReturn(true);
+
+        assertEquals(10, reactiveService.getAllEmployees().count().block());
+        assertEquals(1, reactiveService.getEmployeesByNameSearch("employee 10", 0, 10).count().block());
+        assertEquals(1070, reactiveService.getHighestSalaryOfEmployees().block());
+        int requests = server.requestCount();
+
+        assertEquals(10, reactiveService.getTop10HighestEarningEmployeeNames().count().block());
+        assertEquals(requests, server.requestCount());
+
+        assertEquals("Employee 11", reactiveService.createEmployee("Raj", 70000, 30).block().getEmployeeName());
+        reactiveService.deleteEmployee("5").block();
+        assertEquals(10, reactiveService.getAllEmployees().count().block());
+        assertEquals(requests + 3, server.requestCount());
+        verifyNoInteractions(asyncIntegration);
+    }
+
+    @Test
+    void testServiceLoadsEmployeesByIdThroughWebClient() {
+        assertEquals("Employee 3", reactiveService.getEmployeeById("3").block().getEmployeeName());
+        assertThrows(EmployeeNotFoundException.class, () -> reactiveService.getEmployeeById("99").block());
+
+        assertEquals(2, server.requestCount());
+        verifyNoInteractions(asyncIntegration);
+    }
+
+    @Test
+    void testControllerServesLookupAndStatsThroughEmployeeService() {
+        when(fixture.batchConfigs.getMaxSize()).thenReturn(10);
+        when(fixture.batchConfigs.getReadConcurrency()).thenReturn(3);
+        when(fixture.queryConfigs.getStatsRelativeAccuracy()).thenReturn(0.01);
+        when(fixture.queryConfigs.getStatsParallelThreshold()).thenReturn(Integer.MAX_VALUE);
+        ReactiveEmployeeController controller = new ReactiveEmployeeController(reactiveService, fixture.employeeService,
+                null);
+
+        List<BatchItemResult> results = controller.getEmployeesByIds(Arrays.asList("3", "99")).block();
+        assertEquals(Arrays.asList(200, 404), Arrays.asList(results.get(0).getStatus(), results.get(1).getStatus()));
+        assertEquals("Employee 3", results.get(0).getEmployee().getEmployeeName());
+        assertEquals(10, controller.getEmployeeStats(10, new double[]{50}).block().getCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> controller.deleteEmployees(Collections.singletonList(" ")).block());
+        verifyNoInteractions(asyncIntegration);
+    }
+
+    private static byte[] payload(int employees) {
+        return ("{\"status\":\"success\",\"meta\":{\"data\":[1]},\"data\":" + StubEmployeeServer.employeeArrayJson(employees)
+                + ",\"message\":\"ok\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Flux<DataBuffer> buffers(byte[] payload, int size) {
+        DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < payload.length; offset += size) {
+            buffers.add(bufferFactory.wrap(Arrays.copyOfRange(payload, offset, Math.min(payload.length, offset + size))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.config.EmployeeHttpClientConfigs;
+import com.example.rqchallenge.config.EmployeeResilienceConfigs;
+import com.example.rqchallenge.config.EmployeeRetryConfigs;
+import com.example.rqchallenge.config.EmployeeUrlConfigs;
+import com.example.rqchallenge.exception.EmployeeBulkheadFullException;
+import com.example.rqchallenge.exception.EmployeeCircuitOpenException;
+import com.example.rqchallenge.exception.EmployeeIntegrationException;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.integration.AsyncEmployeeIntegration;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.http.JdkClientHttpRequestFactory;
+import com.example.rqchallenge.integration.resilience.CircuitBreaker;
+import com.example.rqchallenge.integration.resilience.EmployeeOperation;
+import com.example.rqchallenge.integration.resilience.EmployeeResilience;
+import com.example.rqchallenge.integration.stream.EmployeeStreamReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class EmployeeResilienceTest {
+
+    private StubEmployeeServer server;
+    private EmployeeResilienceConfigs resilienceConfigs;
+    private EmployeeResilience resilience;
+    private EmployeeIntegration employeeIntegration;
+    private AsyncEmployeeIntegration asyncEmployeeIntegration;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubEmployeeServer(10, 0);
+        executor = Executors.newFixedThreadPool(4);
+
+        EmployeeUrlConfigs urlConfigs = mock(EmployeeUrlConfigs.class);
+        when(urlConfigs.getBaseUrl()).thenReturn(server.baseUrl());
+        when(urlConfigs.getEmployeesResource()).thenReturn("/employees");
+        when(urlConfigs.getEmployeeResource()).thenReturn("/employee/");
+        EmployeeHttpClientConfigs httpClientConfigs = mock(EmployeeHttpClientConfigs.class);
+        when(httpClientConfigs.getReadTimeoutMs()).thenReturn(5000L);
+        when(httpClientConfigs.getPoolAcquireTimeoutMs()).thenReturn(1000L);
+        when(httpClientConfigs.getMaxConnectionsPerRoute()).thenReturn(20);
+
+        resilienceConfigs = mock(EmployeeResilienceConfigs.class);
+        when(resilienceConfigs.isEnabled()).thenReturn(true);
+        when(resilienceConfigs.getFailureRateThreshold()).thenReturn(50);
+        when(resilienceConfigs.getSlowCallThresholdMs()).thenReturn(400L);
+        when(resilienceConfigs.getSlidingWindowSize()).thenReturn(4);
+        when(resilienceConfigs.getMinimumCalls()).thenReturn(4);
+        when(resilienceConfigs.getOpenDurationMs()).thenReturn(300L);
+        when(resilienceConfigs.getHalfOpenCalls()).thenReturn(1);
+        when(resilienceConfigs.getMaxConcurrentCalls()).thenReturn(2);
+        when(resilienceConfigs.getMaxWaitMs()).thenReturn(0L);
+        resilience = new EmployeeResilience(resilienceConfigs, mock(EmployeeRetryConfigs.class), new SimpleMeterRegistry());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        employeeIntegration = new EmployeeIntegration(new RestTemplate(), urlConfigs,
+                new EmployeeStreamReader(objectMapper), resilience);
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newHttpClient(),
+                httpClientConfigs, new SimpleMeterRegistry());
+        asyncEmployeeIntegration = new AsyncEmployeeIntegration(requestFactory, objectMapper,
+                urlConfigs, httpClientConfigs, resilience);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testCircuitOpensOnUpstreamFailuresAndFailsFast() {
+        server.setFailureStatus(503);
+        for (int i = 0; i < 4; i++) {
+            EmployeeIntegrationException e = assertThrows(EmployeeIntegrationException.class,
+                    () -> employeeIntegration.getAllEmployees());
+            assertFalse(e instanceof EmployeeCircuitOpenException);
+        }
+        int requests = server.requestCount();
+
+        assertThrows(EmployeeCircuitOpenException.class, () -> employeeIntegration.getAllEmployees());
+        assertEquals(requests, server.requestCount());
+        assertEquals(CircuitBreaker.State.OPEN, resilience.getState(EmployeeOperation.LIST));
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.getState(EmployeeOperation.GET_BY_ID));
+    }
+
+    @Test
+    void testHalfOpenTrialClosesCircuitOnceUpstreamRecovers() throws InterruptedException {
+        server.setFailureStatus(429);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(EmployeeIntegrationException.class, () -> employeeIntegration.getAllEmployees());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, resilience.getState(EmployeeOperation.LIST));
+
+        Thread.sleep(350);
+        assertThrows(EmployeeIntegrationException.class, () -> employeeIntegration.getAllEmployees());
+        assertEquals(CircuitBreaker.State.OPEN, resilience.getState(EmployeeOperation.LIST));
+
+        server.setFailureStatus(0);
+        Thread.sleep(350);
+        assertEquals(10, employeeIntegration.getAllEmployees().getData().size());
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.getState(EmployeeOperation.LIST));
+    }
+
+    @Test
+    void testSlowCallsOpenCircuit() {
+        server.setLatencyMs(450);
+        for (int i = 0; i < 4; i++) {
+            employeeIntegration.getEmployeeById("1");
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, resilience.getState(EmployeeOperation.GET_BY_ID));
+        assertThrows(EmployeeCircuitOpenException.class, () -> employeeIntegration.getEmployeeById("1"));
+    }
+
+    @Test
+    void testClientErrorsDoNotOpenCircuit() {
+        server.setFailureStatus(404);
+        for (int i = 0; i < 8; i++) {
+            assertThrows(EmployeeNotFoundException.class, () -> employeeIntegration.getEmployeeById("1"));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.getState(EmployeeOperation.GET_BY_ID));
+    }
+
+    @Test
+    void testBulkheadRejectsCallsBeyondConcurrencyLimit() throws Exception {
+        server.setLatencyMs(300);
+        Future<?> first = executor.submit(() -> employeeIntegration.getEmployeeById("1"));
+        Future<?> second = executor.submit(() -> employeeIntegration.getEmployeeById("2"));
+        Thread.sleep(100);
+
+        long start = System.nanoTime();
+        assertThrows(EmployeeBulkheadFullException.class, () -> employeeIntegration.getEmployeeById("3"));
+        assertTrue(System.nanoTime() - start < 100_000_000L);
+        assertNotNull(employeeIntegration.getAllEmployees());
+
+        first.get();
+        second.get();
+        assertNotNull(employeeIntegration.getEmployeeById("3"));
+    }
+
+    @Test
+    void testAsyncCallsShareCircuitWithBlockingCalls() {
+        server.setFailureStatus(500);
+        for (int i = 0; i < 4; i++) {
+            CompletableFuture<?> future = asyncEmployeeIntegration.getAllEmployees();
+            assertThrows(CompletionException.class, future::join);
+        }
+
+        assertThrows(EmployeeCircuitOpenException.class, () -> employeeIntegration.getAllEmployees());
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> asyncEmployeeIntegration.getAllEmployees().join());
+        assertTrue(e.getCause() instanceof EmployeeCircuitOpenException);
+    }
+
+    @Test
+    void testDisabledResilienceCallsThrough() {
+        when(resilienceConfigs.isEnabled()).thenReturn(false);
+        server.setFailureStatus(503);
+        for (int i = 0; i < 6; i++) {
+            assertThrows(EmployeeIntegrationException.class, () -> employeeIntegration.getAllEmployees());
+        }
+
+        assertEquals(6, server.requestCount());
+    }
+}
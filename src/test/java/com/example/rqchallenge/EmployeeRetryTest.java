@@ -0,0 +1,167 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.config.EmployeeHttpClientConfigs;
+import com.example.rqchallenge.config.EmployeeResilienceConfigs;
+import com.example.rqchallenge.config.EmployeeRetryConfigs;
+import com.example.rqchallenge.config.EmployeeUrlConfigs;
+import com.example.rqchallenge.exception.EmployeeIntegrationException;
+import com.example.rqchallenge.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.integration.AsyncEmployeeIntegration;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.http.JdkClientHttpRequestFactory;
+import com.example.rqchallenge.integration.resilience.EmployeeResilience;
+import com.example.rqchallenge.integration.resilience.RetryPolicy;
+import com.example.rqchallenge.integration.stream.EmployeeStreamReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+
+class EmployeeRetryTest {
+
+    private StubEmployeeServer server;
+    private EmployeeUrlConfigs urlConfigs;
+    private EmployeeRetryConfigs retryConfigs;
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeIntegration employeeIntegration;
+    private AsyncEmployeeIntegration asyncEmployeeIntegration;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubEmployeeServer(10, 0);
+        urlConfigs = mock(EmployeeUrlConfigs.class);
+        when(urlConfigs.getBaseUrl()).thenReturn(server.baseUrl());
+        when(urlConfigs.getEmployeesResource()).thenReturn("/employees");
+        when(urlConfigs.getEmployeeResource()).thenReturn("/employee/");
+        when(urlConfigs.getEmployeeCreateResource()).thenReturn("/create");
+
+        retryConfigs = mock(EmployeeRetryConfigs.class);
+        when(retryConfigs.isEnabled()).thenReturn(true);
+        when(retryConfigs.getMaxAttempts()).thenReturn(3);
+        when(retryConfigs.getBaseDelayMs()).thenReturn(20L);
+        when(retryConfigs.getMaxDelayMs()).thenReturn(200L);
+        when(retryConfigs.getMaxRetryAfterMs()).thenReturn(1500L);
+        when(retryConfigs.getBudgetPercent()).thenReturn(20);
+        when(retryConfigs.getBudgetMinRetriesPerSecond()).thenReturn(1);
+        buildIntegrations();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testTransientRateLimitIsRetried() {
+        server.failNextRequests(2, 429);
+
+        assertEquals(10, employeeIntegration.getAllEmployees().getData().size());
+        assertEquals(3, server.requestCount());
+        assertEquals(2, meterRegistry.get("employee.retry.retries").tag("operation", "list").counter().count());
+    }
+
+    @Test
+    void testRetryAfterHeaderIsHonoured() {
+        server.failNextRequests(1, 503);
+        server.setRetryAfter("1");
+
+        long start = System.nanoTime();
+        assertNotNull(employeeIntegration.getEmployeeById("1").getData());
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(1000));
+        assertEquals(2, server.requestCount());
+        assertEquals(1000, meterRegistry.get("employee.retry.wait").tag("operation", "get_by_id").timer()
+                .totalTime(TimeUnit.MILLISECONDS), 1);
+    }
+
+    @Test
+    void testRetryAfterBeyondLimitIsNotRetried() {
+        server.failNextRequests(1, 429);
+        server.setRetryAfter("30");
+
+        assertThrows(EmployeeIntegrationException.class, () -> employeeIntegration.getAllEmployees());
+        assertEquals(1, server.requestCount());
+    }
+
+    @Test
+    void testGivesUpAfterMaxAttempts() {
+        server.setFailureStatus(503);
+
+        assertThrows(EmployeeIntegrationException.class, () -> employeeIntegration.getAllEmployees());
+        assertEquals(3, server.requestCount());
+    }
+
+    @Test
+    void testNonIdempotentAndClientErrorsAreNotRetried() {
+        server.failNextRequests(1, 503);
+        assertThrows(EmployeeIntegrationException.class, () -> employeeIntegration.createEmployee("Raj", 70000, 30));
+        assertEquals(1, server.requestCount());
+
+        server.failNextRequests(1, 404);
+        assertThrows(EmployeeNotFoundException.class, () -> employeeIntegration.getEmployeeById("1"));
+        assertEquals(2, server.requestCount());
+    }
+
+    @Test
+    void testAsyncCallsAreRetried() {
+        server.failNextRequests(2, 503);
+
+        assertNotNull(asyncEmployeeIntegration.getEmployeeById("1").join().getData());
+        assertEquals(3, server.requestCount());
+    }
+
+    @Test
+    void testRetryBudgetCapsRetriesDuringOutage() {
+        when(retryConfigs.getBudgetMinRetriesPerSecond()).thenReturn(0);
+        buildIntegrations();
+        server.setFailureStatus(503);
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(EmployeeIntegrationException.class, () -> employeeIntegration.getAllEmployees());
+        }
+
+        assertTrue(server.requestCount() <= 12, "requests: " + server.requestCount());
+        assertTrue(meterRegistry.get("employee.retry.budget.exhausted").tag("operation", "list").counter().count() >= 8);
+    }
+
+    @Test
+    void testBackoffUsesDecorrelatedJitterWithinBounds() {
+        RetryPolicy retryPolicy = new RetryPolicy(100, 50, 1000, 0);
+        ResourceAccessException error = new ResourceAccessException("Connection reset");
+
+        long previous = retryPolicy.getBaseDelayMs();
+        for (int attempt = 1; attempt < 50; attempt++) {
+            long delay = retryPolicy.delayMs(error, attempt, previous);
+            assertTrue(delay >= 50 && delay <= Math.min(1000, previous * 3), "delay: " + delay);
+            previous = delay;
+        }
+        assertEquals(RetryPolicy.NO_RETRY, retryPolicy.delayMs(error, 100, previous));
+        assertEquals(RetryPolicy.NO_RETRY, retryPolicy.delayMs(new IllegalStateException(), 1, previous));
+    }
+
+    private void buildIntegrations() {
+        meterRegistry = new SimpleMeterRegistry();
+        EmployeeResilience resilience = new EmployeeResilience(mock(EmployeeResilienceConfigs.class), retryConfigs,
+                meterRegistry);
+        EmployeeHttpClientConfigs httpClientConfigs = mock(EmployeeHttpClientConfigs.class);
+        when(httpClientConfigs.getReadTimeoutMs()).thenReturn(5000L);
+        when(httpClientConfigs.getPoolAcquireTimeoutMs()).thenReturn(1000L);
+        when(httpClientConfigs.getMaxConnectionsPerRoute()).thenReturn(20);
+        ObjectMapper objectMapper = new ObjectMapper();
+        employeeIntegration = new EmployeeIntegration(new RestTemplate(), urlConfigs,
+                new EmployeeStreamReader(objectMapper), resilience);
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newHttpClient(),
+                httpClientConfigs, new SimpleMeterRegistry());
+        asyncEmployeeIntegration = new AsyncEmployeeIntegration(requestFactory, objectMapper,
+                urlConfigs, httpClientConfigs, resilience);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.rqchallenge;
+
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.cache.EmployeeByIdCache;
+import com.example.rqchallenge.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.config.EmployeeBatchConfigs;
+import com.example.rqchallenge.config.EmployeeCacheConfigs;
+import com.example.rqchallenge.config.EmployeeQueryConfigs;
+import com.example.rqchallenge.integration.AsyncEmployeeIntegration;
+import com.example.rqchallenge.integration.AsyncEmployeeReader;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.service.batch.BatchExecutor;
+import com.example.rqchallenge.service.impl.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * An {@link EmployeeService} wired by hand with its caches, over mocked integrations unless real ones are
+ * given. The caches load through the asynchronous integration unless another {@link AsyncEmployeeReader} is
+ * given. The configs are mocks with the cache enabled and its default timings; tests stub anything else on
+ * them after construction, which works because the service reads its configs on each call.
+ */
+class EmployeeServiceFixture {
+
+    final EmployeeIntegration employeeIntegration;
+    final AsyncEmployeeIntegration asyncEmployeeIntegration;
+    final EmployeeCacheConfigs cacheConfigs = mock(EmployeeCacheConfigs.class);
+    final EmployeeBatchConfigs batchConfigs = mock(EmployeeBatchConfigs.class);
+    final EmployeeQueryConfigs queryConfigs = mock(EmployeeQueryConfigs.class);
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final EmployeeSnapshotCache snapshotCache;
+    final EmployeeByIdCache byIdCache;
+    final EmployeeService employeeService;
+
+    EmployeeServiceFixture() {
+        this(mock(EmployeeIntegration.class), mock(AsyncEmployeeIntegration.class));
+    }
+
+    EmployeeServiceFixture(EmployeeIntegration employeeIntegration, AsyncEmployeeIntegration asyncEmployeeIntegration) {
+        this(employeeIntegration, asyncEmployeeIntegration, asyncEmployeeIntegration);
+    }
+
+    EmployeeServiceFixture(EmployeeIntegration employeeIntegration, AsyncEmployeeIntegration asyncEmployeeIntegration,
+                           AsyncEmployeeReader asyncEmployeeReader) {
+        this.employeeIntegration = employeeIntegration;
+        this.asyncEmployeeIntegration = asyncEmployeeIntegration;
+        when(cacheConfigs.isEnabled()).thenReturn(true);
+        when(cacheConfigs.getTtlMs()).thenReturn(30000L);
+        when(cacheConfigs.getRefreshAheadMs()).thenReturn(5000L);
+        when(cacheConfigs.getMaxStaleMs()).thenReturn(60000L);
+        snapshotCache = new EmployeeSnapshotCache(employeeIntegration, asyncEmployeeReader, cacheConfigs, meterRegistry);
+        byIdCache = new EmployeeByIdCache(employeeIntegration, asyncEmployeeReader, cacheConfigs, meterRegistry);
+        employeeService = new EmployeeService(employeeIntegration, asyncEmployeeIntegration, snapshotCache, byIdCache,
+                new BatchExecutor(batchConfigs), batchConfigs, queryConfigs, meterRegistry);
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.example.rqchallenge.config.EmployeeCacheConfigs;
 import com.example.rqchallenge.dto.Employee;
 import com.example.rqchallenge.integration.EmployeeIntegration;
 import com.example.rqchallenge.integration.dto.EmployeeResponseDto;
@@ -11,25 +12,26 @@ import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
 import com.example.rqchallenge.service.impl.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 class EmployeeServiceTest {
 
-    @Mock
     private EmployeeIntegration employeeIntegration;
 
-    @InjectMocks
+    private EmployeeCacheConfigs cacheConfigs;
+
     private EmployeeService employeeService;
 
     private List<Employee> employees;
 
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
+        EmployeeServiceFixture fixture = new EmployeeServiceFixture();
+        employeeIntegration = fixture.employeeIntegration;
+        cacheConfigs = fixture.cacheConfigs;
+        employeeService = fixture.employeeService;
         employees = Arrays.asList(
                 new Employee("Raj", 70000, 30),
                 new Employee("Rahul", 60000, 40),
@@ -63,6 +65,24 @@ class EmployeeServiceTest {
         assertEquals("Raj", result.get(0).getEmployeeName());
     }
 
+    @Test
+    void testGetEmployeesByNameSearchWithPagination() {
+        GetAllEmployeeResponseDto responseDto = new GetAllEmployeeResponseDto();
+        responseDto.setData(employees);
+        when(employeeIntegration.getAllEmployees()).thenReturn(responseDto);
+
+        List<Employee> secondPage = employeeService.getEmployeesByNameSearch("ra", 1, 1);
+        List<Employee> trigramMatches = employeeService.getEmployeesByNameSearch("AHU");
+        List<Employee> noMatches = employeeService.getEmployeesByNameSearch("xyz");
+
+        assertEquals(1, secondPage.size());
+        assertEquals("Rahul", secondPage.get(0).getEmployeeName());
+        assertEquals(1, trigramMatches.size());
+        assertEquals("Rahul", trigramMatches.get(0).getEmployeeName());
+        assertTrue(noMatches.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeesByNameSearch("ra", 0, 0));
+    }
+
     @Test
     void testGetEmployeeById() {
         String id = "123";
@@ -104,6 +124,35 @@ class EmployeeServiceTest {
         assertEquals("Rahul", result.get(2));
     }
 
+    @Test
+    void testGetTopNHighestEarningEmployeeNames() {
+        GetAllEmployeeResponseDto responseDto = new GetAllEmployeeResponseDto();
+        responseDto.setData(employees);
+        when(employeeIntegration.getAllEmployees()).thenReturn(responseDto);
+
+        List<String> result = employeeService.getTopNHighestEarningEmployeeNames(2);
+
+        assertEquals(Arrays.asList("Chaitanya", "Raj"), result);
+        assertEquals(80000, employeeService.getHighestSalaryOfEmployees());
+        verify(employeeIntegration, times(1)).getAllEmployees();
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getTopNHighestEarningEmployeeNames(0));
+    }
+
+    @Test
+    void testAggregatesStreamUpstreamWhenSnapshotCacheIsDisabled() {
+        when(cacheConfigs.isEnabled()).thenReturn(false);
+        doAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            employees.forEach(consumer);
+            return null;
+        }).when(employeeIntegration).streamAllEmployees(any());
+
+        assertEquals(80000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(Arrays.asList("Chaitanya", "Raj"), employeeService.getTopNHighestEarningEmployeeNames(2));
+        verify(employeeIntegration, times(2)).streamAllEmployees(any());
+        verify(employeeIntegration, never()).getAllEmployees();
+    }
+
     @Test
     void testCreateEmployee() {
         EmployeeResponseDto responseDto = new EmployeeResponseDto();
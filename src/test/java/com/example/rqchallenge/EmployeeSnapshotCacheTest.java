@@ -0,0 +1,229 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.cache.EmployeeSnapshot;
+import com.example.rqchallenge.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.config.EmployeeCacheConfigs;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.exception.EmployeeCircuitOpenException;
+import com.example.rqchallenge.exception.EmployeeIntegrationException;
+import com.example.rqchallenge.integration.AsyncEmployeeIntegration;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockitoAnnotations;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class EmployeeSnapshotCacheTest {
+
+    @Mock
+    private EmployeeIntegration employeeIntegration;
+
+    @Mock
+    private AsyncEmployeeIntegration asyncEmployeeIntegration;
+
+    @Mock
+    private EmployeeCacheConfigs cacheConfigs;
+
+    private EmployeeSnapshotCache snapshotCache;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(cacheConfigs.isEnabled()).thenReturn(true);
+        when(cacheConfigs.getTtlMs()).thenReturn(30000L);
+        when(cacheConfigs.getRefreshAheadMs()).thenReturn(5000L);
+        when(cacheConfigs.getMaxStaleMs()).thenReturn(60000L);
+        snapshotCache = new EmployeeSnapshotCache(employeeIntegration, asyncEmployeeIntegration, cacheConfigs,
+                new SimpleMeterRegistry());
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshotCache.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testSnapshotIsServedFromCache() {
+        when(employeeIntegration.getAllEmployees()).thenReturn(response(new Employee("Raj", 70000, 30)));
+
+        snapshotCache.getSnapshot();
+        EmployeeSnapshot snapshot = snapshotCache.getSnapshot();
+
+        assertEquals(1, snapshot.getEmployees().size());
+        verify(employeeIntegration, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void testConcurrentMissesShareOneUpstreamCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeIntegration.getAllEmployees()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return response(new Employee("Raj", 70000, 30));
+        });
+
+        List<Future<EmployeeSnapshot>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(snapshotCache::getSnapshot));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<EmployeeSnapshot> result : results) {
+            assertEquals(1, result.get(5, TimeUnit.SECONDS).getEmployees().size());
+        }
+        verify(employeeIntegration, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void testInvalidateForcesReload() {
+        when(employeeIntegration.getAllEmployees())
+                .thenReturn(response(new Employee("Raj", 70000, 30)))
+                .thenReturn(response(new Employee("Raj", 70000, 30), new Employee("Rahul", 60000, 40)));
+
+        assertEquals(1, snapshotCache.getSnapshot().getEmployees().size());
+        snapshotCache.invalidate();
+
+        assertEquals(2, snapshotCache.getSnapshot().getEmployees().size());
+        verify(employeeIntegration, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void testStaleSnapshotIsServedWhileRefreshIsInFlight() {
+        when(cacheConfigs.getTtlMs()).thenReturn(0L);
+        when(cacheConfigs.getRefreshAheadMs()).thenReturn(0L);
+        CompletableFuture<GetAllEmployeeResponseDto> refresh = new CompletableFuture<>();
+        when(employeeIntegration.getAllEmployees()).thenReturn(response(new Employee("Raj", 70000, 30)));
+        when(asyncEmployeeIntegration.getAllEmployees()).thenReturn(refresh);
+
+        EmployeeSnapshot first = snapshotCache.getSnapshot();
+        EmployeeSnapshot stale = snapshotCache.getSnapshot();
+        EmployeeSnapshot stillStale = snapshotCache.getSnapshot();
+        refresh.complete(response(new Employee("Raj", 70000, 30), new Employee("Rahul", 60000, 40)));
+
+        assertSame(first, stale);
+        assertSame(first, stillStale);
+        assertEquals(2, snapshotCache.getSnapshot().getEmployees().size());
+        verify(employeeIntegration, times(1)).getAllEmployees();
+        verify(asyncEmployeeIntegration, atLeast(1)).getAllEmployees();
+    }
+
+    @Test
+    void testAsyncMissLoadsWithoutBlocking() {
+        CompletableFuture<GetAllEmployeeResponseDto> load = new CompletableFuture<>();
+        when(asyncEmployeeIntegration.getAllEmployees()).thenReturn(load);
+
+        CompletableFuture<EmployeeSnapshot> first = snapshotCache.getSnapshotAsync();
+        CompletableFuture<EmployeeSnapshot> second = snapshotCache.getSnapshotAsync();
+        assertFalse(first.isDone());
+        load.complete(response(new Employee("Raj", 70000, 30)));
+
+        assertEquals(1, first.join().getEmployees().size());
+        assertSame(first.join(), second.join());
+        verify(asyncEmployeeIntegration, times(1)).getAllEmployees();
+        verifyNoInteractions(employeeIntegration);
+    }
+
+    @Test
+    void testLoadFailureIsPropagated() {
+        when(employeeIntegration.getAllEmployees())
+                .thenThrow(new EmployeeIntegrationException("Error while fetching all employees", null));
+
+        assertThrows(EmployeeIntegrationException.class, () -> snapshotCache.getSnapshot());
+    }
+
+    @Test
+    void testLastSnapshotIsServedWhileCircuitIsOpen() {
+        when(cacheConfigs.getTtlMs()).thenReturn(0L);
+        when(cacheConfigs.getMaxStaleMs()).thenReturn(0L);
+        when(employeeIntegration.getAllEmployees())
+                .thenReturn(response(new Employee("Raj", 70000, 30)))
+                .thenThrow(new EmployeeCircuitOpenException("Circuit breaker is open for employee operation LIST"));
+        when(asyncEmployeeIntegration.getAllEmployees()).thenReturn(CompletableFuture.failedFuture(
+                new EmployeeCircuitOpenException("Circuit breaker is open for employee operation LIST")));
+
+        EmployeeSnapshot first = snapshotCache.getSnapshot();
+        snapshotCache.invalidate();
+
+        assertSame(first, snapshotCache.getSnapshot());
+        assertSame(first, snapshotCache.getSnapshotAsync().join());
+    }
+
+    @Test
+    void testCircuitOpenWithoutSnapshotIsPropagated() {
+        when(employeeIntegration.getAllEmployees())
+                .thenThrow(new EmployeeCircuitOpenException("Circuit breaker is open for employee operation LIST"));
+
+        assertThrows(EmployeeCircuitOpenException.class, () -> snapshotCache.getSnapshot());
+    }
+
+    @Test
+    void testPersistedSnapshotIsServedOnStartAndRevalidated(@TempDir Path directory) throws Exception {
+        Path path = directory.resolve("employees.snapshot");
+        when(cacheConfigs.getPersistPath()).thenReturn(path.toString());
+        when(employeeIntegration.getAllEmployees()).thenReturn(response(new Employee("Raj", 70000, 30)));
+        snapshotCache.getSnapshot();
+        for (int i = 0; i < 500 && !Files.exists(path); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(Files.exists(path));
+
+        CompletableFuture<GetAllEmployeeResponseDto> revalidation = new CompletableFuture<>();
+        when(asyncEmployeeIntegration.getAllEmployees()).thenReturn(revalidation);
+        EmployeeSnapshotCache restarted = new EmployeeSnapshotCache(employeeIntegration, asyncEmployeeIntegration,
+                cacheConfigs, new SimpleMeterRegistry());
+        try {
+            restarted.start();
+
+            assertTrue(restarted.hasServableSnapshot());
+            assertEquals("Raj", restarted.getSnapshot().getEmployees().get(0).getEmployeeName());
+            verify(employeeIntegration, times(1)).getAllEmployees();
+            verify(asyncEmployeeIntegration, times(1)).getAllEmployees();
+
+            revalidation.complete(response(new Employee("Rahul", 60000, 40)));
+            assertEquals("Rahul", restarted.getSnapshot().getEmployees().get(0).getEmployeeName());
+        } finally {
+            restarted.stop();
+        }
+    }
+
+    @Test
+    void testUnreadablePersistedSnapshotIsIgnored(@TempDir Path directory) throws Exception {
+        Path path = directory.resolve("employees.snapshot");
+        Files.write(path, "garbage".getBytes());
+        when(cacheConfigs.getPersistPath()).thenReturn(path.toString());
+        when(employeeIntegration.getAllEmployees()).thenReturn(response(new Employee("Raj", 70000, 30)));
+
+        snapshotCache.start();
+
+        assertFalse(snapshotCache.getLastSnapshot().isPresent());
+        assertEquals(1, snapshotCache.getSnapshot().getEmployees().size());
+    }
+
+    private GetAllEmployeeResponseDto response(Employee... employees) {
+        GetAllEmployeeResponseDto responseDto = new GetAllEmployeeResponseDto();
+        responseDto.setData(Arrays.asList(employees));
+        return responseDto;
+    }
+}
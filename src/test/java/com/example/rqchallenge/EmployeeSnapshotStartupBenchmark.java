@@ -0,0 +1,65 @@
+package com.example.rqchallenge;
+
+import static com.example.rqchallenge.StubEmployeeServer.employeesPayload;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.rqchallenge.cache.EmployeeSnapshot;
+import com.example.rqchallenge.cache.columnar.EmployeeColumns;
+import com.example.rqchallenge.cache.columnar.EmployeeColumnsFile;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compares the time to a first servable snapshot on a cold start, parsing the upstream payload (without the
+ * network transfer), against a warm start restoring the persisted snapshot file. Both include building the
+ * snapshot indexes. Each path is repeated and the best run is reported.
+ * Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class EmployeeSnapshotStartupBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+    private static final int RUNS = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compareParsingWithRestoring(@TempDir Path directory) throws IOException {
+        byte[] payload = employeesPayload(EMPLOYEES);
+        Path path = directory.resolve("employees.snapshot");
+        EmployeeColumnsFile.write(path, EmployeeColumns.from(
+                objectMapper.readValue(payload, GetAllEmployeeResponseDto.class)), System.currentTimeMillis());
+
+        long parseNanos = Long.MAX_VALUE;
+        long restoreNanos = Long.MAX_VALUE;
+        EmployeeSnapshot parsed = null;
+        EmployeeSnapshot restored = null;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            parsed = new EmployeeSnapshot(EmployeeColumns.from(
+                    objectMapper.readValue(payload, GetAllEmployeeResponseDto.class)), 0);
+            parseNanos = Math.min(parseNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            restored = new EmployeeSnapshot(EmployeeColumnsFile.read(path).getColumns(), 0);
+            restoreNanos = Math.min(restoreNanos, System.nanoTime() - start);
+        }
+
+        System.out.printf("employees=%d payload=%dKB file=%dKB%n",
+                EMPLOYEES, payload.length / 1024, Files.size(path) / 1024);
+        System.out.printf("parse    best=%dms%n", parseNanos / 1_000_000);
+        System.out.printf("restore  best=%dms%n", restoreNanos / 1_000_000);
+
+        assertEquals(parsed.getVersion(), restored.getVersion());
+        for (int row = 0; row < EMPLOYEES; row += EMPLOYEES / 100) {
+            assertEquals(parsed.getEmployees().get(row), restored.getEmployees().get(row));
+        }
+        assertTrue(restoreNanos < parseNanos);
+    }
+}
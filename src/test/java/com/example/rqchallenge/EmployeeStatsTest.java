@@ -0,0 +1,131 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.config.EmployeeCacheConfigs;
+import com.example.rqchallenge.config.EmployeeQueryConfigs;
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.dto.EmployeeStats;
+import com.example.rqchallenge.integration.EmployeeIntegration;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.example.rqchallenge.service.aggregate.PercentileSketch;
+import com.example.rqchallenge.service.impl.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+class EmployeeStatsTest {
+
+    private static final double[] PERCENTILES = {0, 50, 90, 99.9, 100};
+
+    private EmployeeIntegration employeeIntegration;
+
+    private EmployeeCacheConfigs cacheConfigs;
+
+    private EmployeeQueryConfigs queryConfigs;
+
+    private EmployeeService employeeService;
+
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeServiceFixture fixture = new EmployeeServiceFixture();
+        employeeIntegration = fixture.employeeIntegration;
+        cacheConfigs = fixture.cacheConfigs;
+        queryConfigs = fixture.queryConfigs;
+        when(queryConfigs.getStatsRelativeAccuracy()).thenReturn(0.01);
+        when(queryConfigs.getStatsParallelThreshold()).thenReturn(Integer.MAX_VALUE);
+        employeeService = fixture.employeeService;
+
+        Random random = new Random(42);
+        employees = new ArrayList<>();
+        for (int id = 1; id <= 50_000; id++) {
+            Integer salary = id % 100 == 0 ? null : 20_000 + random.nextInt(180_000);
+            Integer age = id % 150 == 0 ? null : 18 + random.nextInt(50);
+            employees.add(new Employee(id, "Employee " + id, salary, age, ""));
+        }
+        GetAllEmployeeResponseDto response = new GetAllEmployeeResponseDto();
+        response.setData(employees);
+        when(employeeIntegration.getAllEmployees()).thenReturn(response);
+    }
+
+    @Test
+    void testStatisticsMatchExactValues() {
+        EmployeeStats stats = employeeService.getEmployeeStats(10, PERCENTILES);
+
+        int[] salaries = employees.stream().filter(e -> e.getEmployeeSalary() != null)
+                .mapToInt(Employee::getEmployeeSalary).sorted().toArray();
+        assertEquals(employees.size(), stats.getCount());
+        assertEquals(salaries.length, stats.getSalary().getCount());
+        assertEquals(salaries[0], stats.getSalary().getMin());
+        assertEquals(salaries[salaries.length - 1], stats.getSalary().getMax());
+        assertEquals(Arrays.stream(salaries).asLongStream().sum(), stats.getSalary().getSum());
+        assertEquals(salaries[0], stats.getSalary().getPercentiles().get("p0"));
+        assertEquals(salaries[salaries.length - 1], stats.getSalary().getPercentiles().get("p100"));
+        assertWithinOnePercent(salaries[salaries.length / 2 - 1], stats.getSalary().getPercentiles().get("p50"));
+        assertWithinOnePercent(salaries[(int) Math.ceil(salaries.length * 0.999) - 1], stats.getSalary().getPercentiles().get("p99.9"));
+
+        long aged = employees.stream().filter(e -> e.getEmployeeAge() != null).count();
+        assertEquals(aged, stats.getAge().getCount());
+        assertNull(stats.getAge().getPercentiles());
+        EmployeeStats.AgeBand twenties = stats.getAgeBands().get(1);
+        assertEquals(20, twenties.getFrom());
+        assertEquals(29, twenties.getTo());
+        assertEquals(employees.stream().filter(e -> e.getEmployeeAge() != null
+                && e.getEmployeeAge() >= 20 && e.getEmployeeAge() <= 29).count(), twenties.getCount());
+        assertEquals(aged, stats.getAgeBands().stream().mapToLong(EmployeeStats.AgeBand::getCount).sum());
+    }
+
+    @Test
+    void testParallelAndStreamedPassesAgreeWithSequentialPass() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String sequential = objectMapper.writeValueAsString(employeeService.getEmployeeStats(5, PERCENTILES));
+
+        when(queryConfigs.getStatsParallelThreshold()).thenReturn(1);
+        assertEquals(sequential, objectMapper.writeValueAsString(employeeService.getEmployeeStats(5, PERCENTILES)));
+
+        when(cacheConfigs.isEnabled()).thenReturn(false);
+        doAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            employees.forEach(consumer);
+            return null;
+        }).when(employeeIntegration).streamAllEmployees(any());
+        assertEquals(sequential, objectMapper.writeValueAsString(employeeService.getEmployeeStats(5, PERCENTILES)));
+    }
+
+    @Test
+    void testSketchMergesAndHandlesSmallValues() {
+        PercentileSketch left = new PercentileSketch(0.01);
+        PercentileSketch right = new PercentileSketch(0.01);
+        left.add(0);
+        left.add(1);
+        right.add(1_000_000);
+        left.merge(right);
+
+        assertEquals(3, left.getCount());
+        assertEquals(0, left.percentile(10));
+        assertEquals(1, left.percentile(50));
+        assertEquals(1_000_000, left.percentile(100));
+        assertThrows(IllegalStateException.class, () -> new PercentileSketch(0.01).percentile(50));
+    }
+
+    @Test
+    void testInvalidParametersAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeeStats(0, PERCENTILES));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeeStats(10, new double[]{101}));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeeStats(10, new double[]{Double.NaN}));
+        verifyNoInteractions(employeeIntegration);
+    }
+
+    private static void assertWithinOnePercent(int expected, int actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.01, "expected ~" + expected + " but was " + actual);
+    }
+}
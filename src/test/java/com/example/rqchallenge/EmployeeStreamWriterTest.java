@@ -0,0 +1,61 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.rqchallenge.controller.stream.EmployeeStreamWriter;
+import com.example.rqchallenge.dto.Employee;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+class EmployeeStreamWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmployeeStreamWriter streamWriter = new EmployeeStreamWriter(objectMapper);
+
+    @Test
+    void testWritesJsonArray() throws IOException {
+        List<Employee> employees = employees(1000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        streamWriter.stream(employees, MediaType.APPLICATION_JSON).writeTo(out);
+
+        List<Employee> result = objectMapper.readValue(out.toByteArray(), new TypeReference<List<Employee>>() {});
+        assertEquals(1000, result.size());
+        assertEquals("Employee 1000", result.get(999).getEmployeeName());
+    }
+
+    @Test
+    void testWritesOneEmployeePerLineForNdjson() throws IOException {
+        List<Employee> employees = employees(3);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        streamWriter.stream(employees, MediaType.APPLICATION_NDJSON).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("Employee 2", objectMapper.readValue(lines[1], Employee.class).getEmployeeName());
+        assertTrue(lines[1].startsWith("{"));
+    }
+
+    @Test
+    void testNegotiatesNdjsonFromAcceptHeader() {
+        assertEquals(MediaType.APPLICATION_NDJSON, streamWriter.negotiate("application/x-ndjson, application/json;q=0.5"));
+        assertEquals(MediaType.APPLICATION_JSON, streamWriter.negotiate("application/json"));
+        assertEquals(MediaType.APPLICATION_JSON, streamWriter.negotiate(null));
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>();
+        for (int id = 1; id <= count; id++) {
+            employees.add(new Employee(id, "Employee " + id, 1000 + id, 30, ""));
+        }
+        return employees;
+    }
+}
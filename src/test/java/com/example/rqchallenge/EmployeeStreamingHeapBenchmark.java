@@ -0,0 +1,124 @@
+package com.example.rqchallenge;
+
+import static com.example.rqchallenge.StubEmployeeServer.employeesPayload;
+import static com.example.rqchallenge.StubEmployeeServer.liveHeap;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.rqchallenge.dto.Employee;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.example.rqchallenge.integration.stream.EmployeeStreamReader;
+import com.example.rqchallenge.service.aggregate.MaxSalaryAggregator;
+import com.example.rqchallenge.service.aggregate.TopSalaryAggregator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the peak live heap and total allocation of mapping the whole upstream payload into
+ * {@link GetAllEmployeeResponseDto} against streaming it through {@link EmployeeStreamReader}. Live heap
+ * is sampled after a full GC at the points where each approach holds the most data.
+ * Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class EmployeeStreamingHeapBenchmark {
+
+    private static final int EMPLOYEES = 500_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compareDtoMappingWithStreaming() throws IOException {
+        byte[] payload = employeesPayload(EMPLOYEES);
+
+        Measurement dto = measure(probe -> {
+            GetAllEmployeeResponseDto response = objectMapper.readValue(payload, GetAllEmployeeResponseDto.class);
+            probe.sample();
+            List<Employee> employees = response.getData();
+            int max = employees.stream().mapToInt(Employee::getEmployeeSalary).max().orElseThrow();
+            List<String> top = employees.stream()
+                    .sorted(Comparator.comparing(Employee::getEmployeeSalary).reversed())
+                    .limit(10)
+                    .map(Employee::getEmployeeName)
+                    .collect(Collectors.toList());
+            return new Result(max, top);
+        });
+        Measurement streaming = measure(probe -> {
+            MaxSalaryAggregator max = new MaxSalaryAggregator();
+            TopSalaryAggregator top = new TopSalaryAggregator(10);
+            int[] count = new int[1];
+            new EmployeeStreamReader(objectMapper).read(new ByteArrayInputStream(payload), employee -> {
+                max.accept(employee);
+                top.accept(employee);
+                if (++count[0] % (EMPLOYEES / 5) == 0) {
+                    probe.sample();
+                }
+            });
+            return new Result(max.getHighestSalary().getAsInt(), top.getTopNames());
+        });
+
+        System.out.printf("employees=%d payload=%dKB%n", EMPLOYEES, payload.length / 1024);
+        System.out.printf("dto-mapping  peakLiveHeap=%dKB allocated=%dKB%n", dto.peakLive / 1024, dto.allocated / 1024);
+        System.out.printf("streaming    peakLiveHeap=%dKB allocated=%dKB%n", streaming.peakLive / 1024, streaming.allocated / 1024);
+
+        assertEquals(dto.result.max, streaming.result.max);
+        assertEquals(dto.result.top, streaming.result.top);
+        assertTrue(streaming.peakLive < dto.peakLive / 10);
+    }
+
+    private static Measurement measure(Work work) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long baseline = liveHeap();
+        HeapProbe probe = new HeapProbe(baseline);
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        Result result = work.run(probe);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Measurement(result, probe.peakLive, allocated);
+    }
+
+    private interface Work {
+        Result run(HeapProbe probe) throws IOException;
+    }
+
+    private static final class HeapProbe {
+        private final long baseline;
+        private long peakLive;
+
+        private HeapProbe(long baseline) {
+            this.baseline = baseline;
+        }
+
+        private void sample() {
+            peakLive = Math.max(peakLive, liveHeap() - baseline);
+        }
+    }
+
+    private static final class Result {
+        private final int max;
+        private final List<String> top;
+
+        private Result(int max, List<String> top) {
+            this.max = max;
+            this.top = top;
+        }
+    }
+
+    private static final class Measurement {
+        private final Result result;
+        private final long peakLive;
+        private final long allocated;
+
+        private Measurement(Result result, long peakLive, long allocated) {
+            this.result = result;
+            this.peakLive = peakLive;
+            this.allocated = allocated;
+        }
+    }
+}
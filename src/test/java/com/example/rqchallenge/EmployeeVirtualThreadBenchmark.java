@@ -0,0 +1,64 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.example.rqchallenge.config.VirtualThreads;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares how many requests blocked in upstream I/O can be in flight at once on Tomcat's default worker pool
+ * (200 threads) against a virtual thread per request, as with {@code employee.execution.virtual-threads}. Each
+ * request blocks the thread that runs it for {@link #UPSTREAM_LATENCY_MS}, like a {@code RestTemplate} call.
+ * The virtual thread half is skipped on a JDK without them. Run with {@code ./gradlew benchmarkTest}; for the
+ * whole service, run the load test with {@code -PloadTest.app.employee.execution.virtual-threads=true}.
+ */
+@Tag("benchmark")
+class EmployeeVirtualThreadBenchmark {
+
+    private static final int REQUESTS = 10_000;
+    private static final int DEFAULT_MAX_THREADS = 200;
+    private static final long UPSTREAM_LATENCY_MS = 200;
+
+    @Test
+    void compareInFlightRequests() throws InterruptedException {
+        int platformPeak = run("platform pool", Executors.newFixedThreadPool(DEFAULT_MAX_THREADS));
+        assertEquals(DEFAULT_MAX_THREADS, platformPeak);
+
+        assumeTrue(VirtualThreads.isSupported(), "virtual threads are not available on Java " + Runtime.version());
+        int virtualPeak = run("virtual threads", VirtualThreads.newThreadPerTaskExecutor());
+        assertTrue(virtualPeak > platformPeak * 10, "virtual peak: " + virtualPeak);
+    }
+
+    private static int run(String mode, ExecutorService executor) throws InterruptedException {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.execute(() -> {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(UPSTREAM_LATENCY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+        assertTrue(done.await(2, TimeUnit.MINUTES));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        executor.shutdown();
+        System.out.printf("%-16s requests=%d peakInFlight=%d elapsed=%dms throughput=%d req/s%n",
+                mode, REQUESTS, peak.get(), elapsedMs, REQUESTS * 1000L / Math.max(1, elapsedMs));
+        return peak.get();
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.rqchallenge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.rqchallenge.config.EmployeeHttpClientConfigs;
+import com.example.rqchallenge.integration.dto.GetAllEmployeeResponseDto;
+import com.example.rqchallenge.integration.http.JdkClientHttpRequestFactory;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+class JdkClientHttpRequestFactoryTest {
+
+    private static final String EMPLOYEES = "{\"status\":\"success\",\"data\":[{\"id\":1,\"employee_name\":\"Raj\","
+            + "\"employee_salary\":70000,\"employee_age\":30,\"profile_image\":\"\"}]}";
+
+    @Mock
+    private EmployeeHttpClientConfigs httpClientConfigs;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private MeterRegistry meterRegistry;
+    private RestTemplate restTemplate;
+    private final CountDownLatch slowRelease = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        when(httpClientConfigs.getReadTimeoutMs()).thenReturn(5000L);
+        when(httpClientConfigs.getPoolAcquireTimeoutMs()).thenReturn(100L);
+        when(httpClientConfigs.getMaxConnectionsPerRoute()).thenReturn(1);
+        when(httpClientConfigs.isGzipEnabled()).thenReturn(true);
+
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/employees", exchange -> {
+            byte[] body = gzip(EMPLOYEES);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                slowRelease.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        restTemplate = new RestTemplate(new JdkClientHttpRequestFactory(HttpClient.newHttpClient(), httpClientConfigs, meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowRelease.countDown();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testGzipResponseIsDecoded() {
+        GetAllEmployeeResponseDto result = restTemplate.getForObject(baseUrl() + "/employees", GetAllEmployeeResponseDto.class);
+
+        assertNotNull(result);
+        assertEquals("Raj", result.getData().get(0).getEmployeeName());
+        assertEquals(0.0, meterRegistry.get("employee.http.pool.connections.active").gauge().value());
+    }
+
+    @Test
+    void testPoolAcquireTimesOutWhenRouteIsSaturated() throws Exception {
+        Future<?> slowCall = executor.submit(() -> restTemplate.getForEntity(baseUrl() + "/slow", Void.class));
+        Thread.sleep(200);
+
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(baseUrl() + "/employees", String.class));
+        assertEquals(1.0, meterRegistry.get("employee.http.pool.acquire.timeouts").counter().count());
+
+        slowRelease.countDown();
+        slowCall.get(5, TimeUnit.SECONDS);
+        assertNotNull(restTemplate.getForObject(baseUrl() + "/employees", String.class));
+    }
+
+    @Test
+    void testAsyncSendSharesRouteSlotsAndDecodesGzip() throws Exception {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newHttpClient(),
+                httpClientConfigs, meterRegistry);
+        CompletableFuture<HttpResponse<byte[]>> slowCall =
+                requestFactory.sendAsync(HttpRequest.newBuilder(URI.create(baseUrl() + "/slow")));
+        Thread.sleep(200);
+
+        CompletableFuture<HttpResponse<byte[]>> saturated =
+                requestFactory.sendAsync(HttpRequest.newBuilder(URI.create(baseUrl() + "/employees")));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> saturated.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IOException);
+        assertEquals(1.0, meterRegistry.get("employee.http.pool.acquire.timeouts").counter().count());
+
+        slowRelease.countDown();
+        assertEquals(204, slowCall.get(5, TimeUnit.SECONDS).statusCode());
+        HttpResponse<byte[]> response = requestFactory
+                .sendAsync(HttpRequest.newBuilder(URI.create(baseUrl() + "/employees")))
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(EMPLOYEES, new String(response.body(), StandardCharsets.UTF_8));
+        assertEquals(0.0, meterRegistry.get("employee.http.pool.connections.active").gauge().value());
+    }
+
+    private String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private static byte[] gzip(String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
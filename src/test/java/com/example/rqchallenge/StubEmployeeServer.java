@@ -0,0 +1,200 @@
+package com.example.rqchallenge;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Local stand-in for the dummy.restapiexample.com API serving {@code /employees}, {@code /employee/{id}},
+ * {@code /create} and {@code /delete/{id}} with a configurable dataset size and response latency. The latency
+ * is either fixed or drawn per request from a distribution. A failure status can be injected to make every
+ * endpoint, the next few requests or a random fraction of requests answer with that status instead,
+ * optionally with a {@code Retry-After} header. The payload and heap helpers at the bottom are shared by the
+ * tests and benchmarks that need the same data without a server.
+ */
+class StubEmployeeServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile LongSupplier latencyMs;
+    private volatile int employeeCount;
+    private volatile int failureStatus;
+    private final AtomicInteger transientFailures = new AtomicInteger();
+    private volatile int transientFailureStatus;
+    private volatile String retryAfter;
+    private volatile double errorRate;
+    private volatile int errorRateStatus;
+
+    StubEmployeeServer(int employeeCount, long latencyMs) throws IOException {
+        this.employeeCount = employeeCount;
+        this.latencyMs = () -> latencyMs;
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/employees", exchange -> respond(exchange, 200, employeesJson(employeeCount)));
+        server.createContext("/employee/", exchange -> {
+            int id = Integer.parseInt(lastSegment(exchange));
+            if (id < 1 || id > this.employeeCount) {
+                respond(exchange, 200, "{\"status\":\"success\",\"data\":null}");
+            } else {
+                respond(exchange, 200, "{\"status\":\"success\",\"data\":" + employeeJson(id) + "}");
+            }
+        });
+        server.createContext("/create", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 201, "{\"status\":\"success\",\"data\":" + employeeJson(this.employeeCount + 1) + "}");
+        });
+        server.createContext("/delete/", exchange -> respond(exchange, 200,
+                "{\"status\":\"success\",\"message\":\"successfully! deleted Record\",\"data\":\"" + lastSegment(exchange) + "\"}"));
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    void setLatencyMs(long latencyMs) {
+        this.latencyMs = () -> latencyMs;
+    }
+
+    /**
+     * Draws the latency of each response from {@code latencyMs}, e.g. {@link #uniformLatency} or
+     * {@link #logNormalLatency}.
+     */
+    void setLatencyDistribution(LongSupplier latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    /** Answers a random {@code rate} (0..1) of requests with {@code status}. */
+    void setErrorRate(double rate, int status) {
+        this.errorRateStatus = status;
+        this.errorRate = rate;
+    }
+
+    void setEmployeeCount(int employeeCount) {
+        this.employeeCount = employeeCount;
+    }
+
+    void setFailureStatus(int failureStatus) {
+        this.failureStatus = failureStatus;
+    }
+
+    void failNextRequests(int count, int status) {
+        this.transientFailureStatus = status;
+        this.transientFailures.set(count);
+    }
+
+    void setRetryAfter(String retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    static LongSupplier uniformLatency(long minMs, long maxMs) {
+        return () -> ThreadLocalRandom.current().nextLong(minMs, maxMs + 1);
+    }
+
+    /**
+     * Log-normal latency with the given median, the usual shape of service response times: most requests
+     * are close to the median and a long tail is several times slower. A {@code sigma} of 0.5 puts p99 at
+     * about 3.2x the median.
+     */
+    static LongSupplier logNormalLatency(long medianMs, double sigma) {
+        return () -> Math.round(medianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    static String employeeJson(int id) {
+        return "{\"id\":" + id + ",\"employee_name\":\"Employee " + id + "\",\"employee_salary\":" + (1000 + id * 7 % 99991)
+                + ",\"employee_age\":" + (20 + id % 45) + ",\"profile_image\":\"\"}";
+    }
+
+    /**
+     * The {@code data} array of a {@code /employees} response holding employees 1 to {@code employees}.
+     */
+    static String employeeArrayJson(int employees) {
+        StringBuilder json = new StringBuilder(employees * 100 + 2).append('[');
+        for (int id = 1; id <= employees; id++) {
+            if (id > 1) {
+                json.append(',');
+            }
+            json.append(employeeJson(id));
+        }
+        return json.append(']').toString();
+    }
+
+    static byte[] employeesPayload(int employees) {
+        return employeesJson(employees).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Heap in use after two full collections, so what remains is close to the live objects.
+     */
+    static long liveHeap() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getUsage().getUsed())
+                .sum();
+    }
+
+    private static String employeesJson(int employees) {
+        return "{\"status\":\"success\",\"data\":" + employeeArrayJson(employees) + "}";
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            long latency = latencyMs.getAsLong();
+            if (latency > 0) {
+                Thread.sleep(latency);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int failure = failureStatus;
+        if (failure == 0 && transientFailures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            failure = transientFailureStatus;
+        }
+        if (failure == 0 && errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            failure = errorRateStatus;
+        }
+        if (failure > 0) {
+            status = failure;
+            body = "{\"status\":\"error\",\"message\":\"injected failure\"}";
+            if (retryAfter != null) {
+                exchange.getResponseHeaders().add("Retry-After", retryAfter);
+            }
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String lastSegment(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}